@@ -0,0 +1,69 @@
+package com.abdelwahab.CampusCard.domain.common.converter;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.abdelwahab.CampusCard.domain.moderation.model.FlaggedContent;
+import com.abdelwahab.CampusCard.domain.profile.model.Profile;
+import com.abdelwahab.CampusCard.domain.user.model.User;
+
+/**
+ * Cost of the enum attribute converters, applied to every status, role and visibility column of
+ * every row Hibernate reads or writes. Values are the last enum constants, the worst case for a
+ * linear lookup.
+ *
+ * <p>Run with {@code mvn -Pbenchmarks -DskipTests verify -Djmh.include=AttributeConverterBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AttributeConverterBenchmark {
+
+    private final StatusConverter statusConverter = new StatusConverter();
+    private final RoleConverter roleConverter = new RoleConverter();
+    private final VisibilityConverter visibilityConverter = new VisibilityConverter();
+    private final FlaggedContentStatusConverter flaggedContentStatusConverter = new FlaggedContentStatusConverter();
+
+    // Not constants, so the JIT cannot fold the lookups away
+    private String status = "rejected";
+    private String role = "admin";
+    private String visibility = "private";
+    private String flaggedContentStatus = "dismissed";
+
+    @Benchmark
+    public User.Status statusToEntity() {
+        return statusConverter.convertToEntityAttribute(status);
+    }
+
+    @Benchmark
+    public String statusToColumn() {
+        return statusConverter.convertToDatabaseColumn(User.Status.REJECTED);
+    }
+
+    @Benchmark
+    public User.Role roleToEntity() {
+        return roleConverter.convertToEntityAttribute(role);
+    }
+
+    @Benchmark
+    public Profile.Visibility visibilityToEntity() {
+        return visibilityConverter.convertToEntityAttribute(visibility);
+    }
+
+    @Benchmark
+    public FlaggedContent.Status flaggedContentStatusToEntity() {
+        return flaggedContentStatusConverter.convertToEntityAttribute(flaggedContentStatus);
+    }
+}
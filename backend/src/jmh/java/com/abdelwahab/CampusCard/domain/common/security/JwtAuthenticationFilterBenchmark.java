@@ -0,0 +1,91 @@
+package com.abdelwahab.CampusCard.domain.common.security;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.abdelwahab.CampusCard.domain.user.model.User;
+import com.abdelwahab.CampusCard.domain.user.repository.UserRepository;
+
+import jakarta.servlet.FilterChain;
+
+/**
+ * Per-request cost of {@link JwtAuthenticationFilter} for a request with a valid bearer token and
+ * for an anonymous request. The user lookup is served from memory, so the numbers cover token
+ * parsing and security context setup only.
+ *
+ * <p>Run with {@code mvn -Pbenchmarks -DskipTests verify -Djmh.include=JwtAuthenticationFilterBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest authenticatedRequest;
+    private MockHttpServletRequest anonymousRequest;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setup() {
+        JwtService jwtService = JwtServiceBenchmark.newJwtService();
+        User user = User.builder()
+                .id(42)
+                .email(JwtServiceBenchmark.EMAIL)
+                .role(User.Role.STUDENT)
+                .status(User.Status.APPROVED)
+                .build();
+        filter = new JwtAuthenticationFilter(jwtService, inMemoryUserRepository(user));
+
+        authenticatedRequest = new MockHttpServletRequest("GET", "/api/profile");
+        authenticatedRequest.addHeader("Authorization",
+                "Bearer " + jwtService.generateToken(user.getEmail(), 42L, "STUDENT"));
+        anonymousRequest = new MockHttpServletRequest("GET", "/api/profile");
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public void authenticated(Blackhole blackhole) throws Exception {
+        try {
+            filter.doFilterInternal(authenticatedRequest, response, chain(blackhole));
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Benchmark
+    public void anonymous(Blackhole blackhole) throws Exception {
+        filter.doFilterInternal(anonymousRequest, response, chain(blackhole));
+    }
+
+    private static FilterChain chain(Blackhole blackhole) {
+        return (request, response) -> blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    private static UserRepository inMemoryUserRepository(User user) {
+        return (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+                new Class<?>[] {UserRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findByEmail")) {
+                        return user.getEmail().equals(args[0]) ? user : null;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,73 @@
+package com.abdelwahab.CampusCard.domain.common.security;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.Refill;
+
+/**
+ * Per-request cost of {@link RateLimitInterceptor}: allowed requests (single thread and with
+ * several threads sharing the bucket, as all login requests do) and rejected requests.
+ *
+ * <p>Run with {@code mvn -Pbenchmarks -DskipTests verify -Djmh.include=RateLimitInterceptorBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RateLimitInterceptorBenchmark {
+
+    private RateLimitInterceptor allowing;
+    private RateLimitInterceptor rejecting;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setup() {
+        // Refills far faster than requests arrive, so every request is allowed
+        allowing = new RateLimitInterceptor(Bucket.builder()
+                .addLimit(Bandwidth.classic(1_000_000_000L, Refill.greedy(1_000_000_000L, Duration.ofSeconds(1))))
+                .build(), "login");
+
+        Bucket exhausted = Bucket.builder()
+                .addLimit(Bandwidth.classic(1, Refill.intervally(1, Duration.ofHours(1))))
+                .build();
+        exhausted.tryConsume(1);
+        rejecting = new RateLimitInterceptor(exhausted, "login");
+
+        request = new MockHttpServletRequest("POST", "/api/login");
+    }
+
+    @Benchmark
+    public boolean allowed() throws Exception {
+        return allowing.preHandle(request, new MockHttpServletResponse(), null);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean allowedContended() throws Exception {
+        return allowing.preHandle(request, new MockHttpServletResponse(), null);
+    }
+
+    @Benchmark
+    public boolean rejected() throws Exception {
+        return rejecting.preHandle(request, new MockHttpServletResponse(), null);
+    }
+}
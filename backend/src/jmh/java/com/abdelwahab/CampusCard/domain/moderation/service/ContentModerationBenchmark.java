@@ -0,0 +1,148 @@
+package com.abdelwahab.CampusCard.domain.moderation.service;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.abdelwahab.CampusCard.domain.moderation.model.BannedWord;
+import com.abdelwahab.CampusCard.domain.moderation.repository.BannedWordRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Banned word detection across banned word list sizes and text sizes: compiling the matcher,
+ * scanning a text with it (against a per-word substring search baseline, the detection used
+ * before the normalizing matcher), and {@link ContentModerationService#checkForBannedWords} for
+ * a field that was already checked (the result cache path taken by resubmitted profile forms).
+ *
+ * <p>Run with {@code mvn -Pbenchmarks -DskipTests verify -Djmh.include=ContentModerationBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContentModerationBenchmark {
+
+    private static final String[] VOCABULARY = {
+        "student", "engineering", "faculty", "project", "interested", "in", "machine", "learning",
+        "and", "the", "robotics", "team", "أحب", "البرمجة", "والرياضيات", "github", "contact",
+        "me", "for", "research", "web", "development", "3rd", "year", "department"
+    };
+
+    @Param({"10", "100", "1000"})
+    private int wordCount;
+
+    @Param({"100", "1000", "10000"})
+    private int textLength;
+
+    private List<String> words;
+    private String text;
+    private BannedWordMatcher matcher;
+    private ContentModerationService contentModerationService;
+
+    @Setup
+    public void setup() {
+        words = new ArrayList<>(wordCount);
+        for (int i = 0; i < wordCount; i++) {
+            words.add(word(i));
+        }
+        text = text(words, textLength, new Random(42));
+        matcher = BannedWordMatcher.compile(words);
+        if (matcher.size() != wordCount) {
+            throw new IllegalStateException("Generated words collide after normalization: "
+                    + matcher.size() + " distinct of " + wordCount);
+        }
+
+        List<BannedWord> bannedWords = words.stream()
+                .map(word -> BannedWord.builder().word(word).build())
+                .toList();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ModerationResultCache resultCache = new ModerationResultCache(meterRegistry);
+        ReflectionTestUtils.setField(resultCache, "maxEntries", 10_000);
+        contentModerationService = new ContentModerationService(inMemoryRepository(bannedWords),
+                null, null, resultCache, null, meterRegistry);
+        contentModerationService.checkForBannedWords(text);
+    }
+
+    @Benchmark
+    public BannedWordMatcher compile() {
+        return BannedWordMatcher.compile(words);
+    }
+
+    @Benchmark
+    public List<String> findMatches() {
+        return matcher.findMatches(text);
+    }
+
+    @Benchmark
+    public int substringMatches() {
+        String lower = text.toLowerCase();
+        int found = 0;
+        for (String word : words) {
+            if (lower.contains(word)) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public List<String> checkForBannedWordsCached() {
+        return contentModerationService.checkForBannedWords(text);
+    }
+
+    /**
+     * Distinct letters-only banned word: digits would be normalized as leetspeak, and repeated
+     * letters collapsed, so the suffix is {@code i} in base 13 with digits alternating between
+     * the two halves of the alphabet (no two adjacent letters are equal).
+     */
+    private static String word(int i) {
+        StringBuilder suffix = new StringBuilder();
+        int position = 0;
+        do {
+            suffix.append((char) ((position++ % 2 == 0 ? 'n' : 'a') + i % 13));
+            i /= 13;
+        } while (i > 0);
+        return "bannedword" + suffix;
+    }
+
+    /**
+     * Profile-like text with one banned word roughly every 200 characters.
+     */
+    private static String text(List<String> words, int length, Random random) {
+        StringBuilder text = new StringBuilder(length + 32);
+        while (text.length() < length) {
+            boolean banned = random.nextInt(200) < 8;
+            text.append(banned ? words.get(random.nextInt(words.size())) : VOCABULARY[random.nextInt(VOCABULARY.length)]);
+            text.append(random.nextInt(10) == 0 ? ". " : " ");
+        }
+        return text.substring(0, length);
+    }
+
+    private static BannedWordRepository inMemoryRepository(List<BannedWord> bannedWords) {
+        return (BannedWordRepository) Proxy.newProxyInstance(BannedWordRepository.class.getClassLoader(),
+                new Class<?>[] {BannedWordRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findAll") && (args == null || args.length == 0)) {
+                        return bannedWords;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
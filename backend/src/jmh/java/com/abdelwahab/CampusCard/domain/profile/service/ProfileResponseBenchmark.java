@@ -0,0 +1,107 @@
+package com.abdelwahab.CampusCard.domain.profile.service;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.abdelwahab.CampusCard.domain.academic.model.Department;
+import com.abdelwahab.CampusCard.domain.academic.model.Faculty;
+import com.abdelwahab.CampusCard.domain.profile.dto.ProfileResponse;
+import com.abdelwahab.CampusCard.domain.profile.model.Profile;
+import com.abdelwahab.CampusCard.domain.profile.repository.ProfileRepository;
+import com.abdelwahab.CampusCard.domain.user.model.User;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Cost of turning a loaded profile into the response body: {@link ProfileService#getCurrentUserProfile}
+ * mapping the entities to {@link ProfileResponse}, serializing it, and both together as done for
+ * every profile view. The repository is an in-memory proxy, so no database time is included.
+ *
+ * <p>Run with {@code mvn -Pbenchmarks -DskipTests verify -Djmh.include=ProfileResponseBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProfileResponseBenchmark {
+
+    private static final Integer USER_ID = 42;
+
+    private ProfileService profileService;
+    private JsonMapper jsonMapper;
+    private ProfileResponse response;
+
+    @Setup
+    public void setup() {
+        jsonMapper = JsonMapper.builder().build();
+
+        Faculty faculty = Faculty.builder().id(1).name("Faculty of Engineering").yearsNumbers(5).build();
+        User user = User.builder()
+                .id(USER_ID)
+                .email("student@eng.psu.edu.eg")
+                .firstName("Omar")
+                .lastName("Hassan")
+                .birthDate(LocalDate.of(2003, 4, 12))
+                .nationalIdScan("national-ids/42.jpg")
+                .role(User.Role.STUDENT)
+                .status(User.Status.APPROVED)
+                .year(3)
+                .faculty(faculty)
+                .department(Department.builder().id(3).name("Computer Engineering").faculty(faculty).build())
+                .build();
+        Profile profile = Profile.builder()
+                .id(42)
+                .user(user)
+                .profilePhoto("profile-photos/42.jpg")
+                .bio("Third year computer engineering student interested in distributed systems and robotics.")
+                .phone("+201001234567")
+                .linkedin("https://www.linkedin.com/in/omar-hassan")
+                .github("https://github.com/omar-hassan")
+                .interests("Distributed systems, robotics, competitive programming")
+                .visibility(Profile.Visibility.STUDENTS_ONLY)
+                .build();
+        // Only the profile lookup is used by getCurrentUserProfile
+        profileService = new ProfileService(inMemoryRepository(profile), null, null, null, null, null, null, null);
+        response = profileService.getCurrentUserProfile(user.getId());
+    }
+
+    @Benchmark
+    public ProfileResponse getCurrentUserProfile() {
+        return profileService.getCurrentUserProfile(USER_ID);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return jsonMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] buildAndSerialize() {
+        return jsonMapper.writeValueAsBytes(profileService.getCurrentUserProfile(USER_ID));
+    }
+
+    private static ProfileRepository inMemoryRepository(Profile profile) {
+        return (ProfileRepository) Proxy.newProxyInstance(ProfileRepository.class.getClassLoader(),
+                new Class<?>[] {ProfileRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findWithUserByUserId")) {
+                        return Optional.of(profile);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -6,6 +6,7 @@
  * <ul>
  *   <li><strong>Models:</strong> Faculty, Department entities</li>
  *   <li><strong>Repositories:</strong> FacultyRepository, DepartmentRepository</li>
+ *   <li><strong>Services:</strong> ReferenceDataService (immutable in-memory snapshot)</li>
  *   <li><strong>DTOs:</strong> Faculty and department responses</li>
  * </ul>
  *
@@ -26,7 +27,8 @@
  * </ol>
  *
  * <p>This data is typically seeded via database migrations and rarely changes.
- * Updates are handled by admins through database scripts or admin tools.
+ * Updates are handled by admins through database scripts or admin tools, followed by
+ * {@code POST /api/admin/reference-data/reload} to refresh the in-memory snapshot.
  *
  * @since 1.0
  * @author CampusCard Team
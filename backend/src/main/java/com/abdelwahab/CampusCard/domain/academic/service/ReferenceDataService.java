@@ -0,0 +1,182 @@
+package com.abdelwahab.CampusCard.domain.academic.service;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.abdelwahab.CampusCard.domain.academic.model.Department;
+import com.abdelwahab.CampusCard.domain.academic.model.Faculty;
+import com.abdelwahab.CampusCard.domain.academic.repository.DepartmentRepository;
+import com.abdelwahab.CampusCard.domain.academic.repository.FacultyRepository;
+import com.abdelwahab.CampusCard.domain.academic.service.ReferenceDataSnapshot.DepartmentEntry;
+import com.abdelwahab.CampusCard.domain.academic.service.ReferenceDataSnapshot.FacultyEntry;
+import com.abdelwahab.CampusCard.domain.common.cluster.CacheInvalidationHandler;
+import com.abdelwahab.CampusCard.domain.common.cluster.ClusterInvalidationService;
+import com.abdelwahab.CampusCard.domain.common.exception.InvalidStateException;
+import com.abdelwahab.CampusCard.domain.common.exception.ResourceNotFoundException;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Holds the in-memory faculty/department reference data used by registration,
+ * profile updates and the public lookup endpoints.
+ *
+ * <p>Faculties and departments are seeded by migrations and change very rarely, so they are
+ * loaded once at startup into an immutable {@link ReferenceDataSnapshot}. Readers always see a
+ * complete snapshot: {@link #reload()} builds a new one off to the side and publishes it with a
+ * single volatile write.
+ *
+ * <p>Reloads are triggered by admins ({@code POST /api/admin/reference-data/reload}) after the
+ * underlying tables are changed. {@link #reloadAcrossCluster()} also tells the other backend
+ * nodes to reload, through {@link ClusterInvalidationService} (cache name
+ * {@value #CACHE_NAME}). Those reloads run on {@code referenceDataReloadExecutor}, not on the
+ * invalidation listener thread, so invalidations of other caches are not held up by the queries.
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Service
+@Slf4j
+public class ReferenceDataService implements CacheInvalidationHandler {
+
+    public static final String CACHE_NAME = "reference-data";
+
+    private final FacultyRepository facultyRepository;
+    private final DepartmentRepository departmentRepository;
+    private final JsonMapper jsonMapper;
+    private final ClusterInvalidationService clusterInvalidationService;
+    private final ThreadPoolTaskExecutor reloadExecutor;
+
+    private volatile ReferenceDataSnapshot snapshot;
+
+    public ReferenceDataService(FacultyRepository facultyRepository,
+                                DepartmentRepository departmentRepository,
+                                JsonMapper jsonMapper,
+                                ClusterInvalidationService clusterInvalidationService,
+                                @Qualifier("referenceDataReloadExecutor") ThreadPoolTaskExecutor reloadExecutor) {
+        this.facultyRepository = facultyRepository;
+        this.departmentRepository = departmentRepository;
+        this.jsonMapper = jsonMapper;
+        this.clusterInvalidationService = clusterInvalidationService;
+        this.reloadExecutor = reloadExecutor;
+    }
+
+    @PostConstruct
+    void loadOnStartup() {
+        reload();
+    }
+
+    /**
+     * Returns the current snapshot. The returned instance never changes; callers that need
+     * several values consistently should read them all from the same snapshot.
+     *
+     * @return current reference data snapshot
+     */
+    public ReferenceDataSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Reloads faculties and departments from the database and atomically replaces the snapshot.
+     *
+     * @return the newly published snapshot
+     */
+    public synchronized ReferenceDataSnapshot reload() {
+        List<FacultyEntry> faculties = facultyRepository.findAll().stream()
+                .sorted(Comparator.comparing(Faculty::getId))
+                .map(faculty -> new FacultyEntry(
+                        faculty.getId(),
+                        faculty.getName(),
+                        faculty.getDescription(),
+                        faculty.getYearsNumbers()))
+                .toList();
+
+        List<DepartmentEntry> departments = departmentRepository.findAll().stream()
+                .sorted(Comparator.comparing(Department::getId))
+                .map(department -> new DepartmentEntry(
+                        department.getId(),
+                        department.getName(),
+                        department.getDescription(),
+                        department.getFaculty().getId()))
+                .toList();
+
+        ReferenceDataSnapshot reloaded = ReferenceDataSnapshot.build(faculties, departments, jsonMapper);
+        ReferenceDataSnapshot previous = snapshot;
+        snapshot = reloaded;
+
+        log.info("Reference data loaded: {} faculties, {} departments (etag {}, previous {})",
+                reloaded.getFacultyCount(), reloaded.getDepartmentCount(), reloaded.getETag(),
+                previous != null ? previous.getETag() : "none");
+        return reloaded;
+    }
+
+    /**
+     * Reloads this node and notifies the other nodes to reload as well.
+     *
+     * @return the newly published snapshot of this node
+     */
+    public ReferenceDataSnapshot reloadAcrossCluster() {
+        ReferenceDataSnapshot reloaded = reload();
+        clusterInvalidationService.publish(CACHE_NAME, null);
+        return reloaded;
+    }
+
+    @Override
+    public String getCacheName() {
+        return CACHE_NAME;
+    }
+
+    @Override
+    public void invalidate(String key) {
+        // The snapshot is all-or-nothing
+        invalidateAll();
+    }
+
+    @Override
+    public void invalidateAll() {
+        reloadExecutor.execute(() -> {
+            try {
+                reload();
+            } catch (RuntimeException e) {
+                log.error("Reference data reload failed, keeping snapshot {}: {}",
+                        snapshot.getETag(), e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * Validates a faculty/department/year combination against the current snapshot.
+     *
+     * @param facultyId selected faculty ID
+     * @param departmentId selected department ID
+     * @param year selected academic year (ignored if null)
+     * @return the faculty entry
+     * @throws ResourceNotFoundException if the faculty or department does not exist
+     * @throws InvalidStateException if the department does not belong to the faculty or the year is out of range
+     */
+    public FacultyEntry validateAcademicSelection(Integer facultyId, Integer departmentId, Integer year) {
+        ReferenceDataSnapshot current = snapshot;
+
+        FacultyEntry faculty = current.findFaculty(facultyId)
+                .orElseThrow(() -> new ResourceNotFoundException("Faculty", "id", facultyId));
+
+        DepartmentEntry department = current.findDepartment(departmentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Department", "id", departmentId));
+
+        if (!department.facultyId().equals(faculty.id())) {
+            throw new InvalidStateException("Department does not belong to the selected faculty");
+        }
+
+        if (year != null && (year < 1 || year > faculty.yearsNumbers())) {
+            throw new InvalidStateException("Invalid year for the selected faculty");
+        }
+
+        return faculty;
+    }
+}
@@ -0,0 +1,204 @@
+package com.abdelwahab.CampusCard.domain.academic.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.abdelwahab.CampusCard.domain.academic.dto.DepartmentResponse;
+import com.abdelwahab.CampusCard.domain.academic.dto.FacultyResponse;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Immutable, point-in-time copy of all faculties and departments.
+ * Built once per (re)load by {@link ReferenceDataService} and shared by all request threads
+ * without locking; a reload builds a new snapshot and swaps the reference.
+ *
+ * <p>Contents:
+ * <ul>
+ *   <li><strong>Id lookups:</strong> faculties and departments by primary key</li>
+ *   <li><strong>Faculty index:</strong> departments grouped by owning faculty</li>
+ *   <li><strong>Pre-serialized JSON:</strong> response bodies for the public endpoints</li>
+ *   <li><strong>ETag:</strong> content hash of the serialized data, stable across reloads
+ *       that do not change anything</li>
+ * </ul>
+ *
+ * <p>The JSON byte arrays are shared between requests and must not be modified by callers.
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+public final class ReferenceDataSnapshot {
+
+    private static final byte[] EMPTY_ARRAY_JSON = "[]".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Faculty reference entry.
+     */
+    public record FacultyEntry(Integer id, String name, String description, Integer yearsNumbers) {}
+
+    /**
+     * Department reference entry.
+     */
+    public record DepartmentEntry(Integer id, String name, String description, Integer facultyId) {}
+
+    private final Map<Integer, FacultyEntry> facultiesById;
+    private final Map<Integer, DepartmentEntry> departmentsById;
+    private final Map<Integer, List<DepartmentEntry>> departmentsByFaculty;
+    private final byte[] facultiesJson;
+    private final byte[] departmentsJson;
+    private final Map<Integer, byte[]> departmentsJsonByFaculty;
+    private final String eTag;
+
+    private ReferenceDataSnapshot(
+            Map<Integer, FacultyEntry> facultiesById,
+            Map<Integer, DepartmentEntry> departmentsById,
+            Map<Integer, List<DepartmentEntry>> departmentsByFaculty,
+            byte[] facultiesJson,
+            byte[] departmentsJson,
+            Map<Integer, byte[]> departmentsJsonByFaculty,
+            String eTag) {
+        this.facultiesById = facultiesById;
+        this.departmentsById = departmentsById;
+        this.departmentsByFaculty = departmentsByFaculty;
+        this.facultiesJson = facultiesJson;
+        this.departmentsJson = departmentsJson;
+        this.departmentsJsonByFaculty = departmentsJsonByFaculty;
+        this.eTag = eTag;
+    }
+
+    /**
+     * Builds a snapshot from entries sorted by id.
+     *
+     * @param faculties all faculties, sorted by id
+     * @param departments all departments, sorted by id
+     * @param jsonMapper mapper used to pre-serialize the public responses
+     * @return new immutable snapshot
+     */
+    static ReferenceDataSnapshot build(List<FacultyEntry> faculties, List<DepartmentEntry> departments,
+                                       JsonMapper jsonMapper) {
+        Map<Integer, FacultyEntry> facultiesById = new LinkedHashMap<>();
+        for (FacultyEntry faculty : faculties) {
+            facultiesById.put(faculty.id(), faculty);
+        }
+
+        Map<Integer, DepartmentEntry> departmentsById = new LinkedHashMap<>();
+        Map<Integer, List<DepartmentEntry>> grouped = new LinkedHashMap<>();
+        for (DepartmentEntry department : departments) {
+            departmentsById.put(department.id(), department);
+            grouped.computeIfAbsent(department.facultyId(), id -> new ArrayList<>()).add(department);
+        }
+
+        Map<Integer, List<DepartmentEntry>> departmentsByFaculty = new LinkedHashMap<>();
+        Map<Integer, byte[]> departmentsJsonByFaculty = new LinkedHashMap<>();
+        for (Map.Entry<Integer, List<DepartmentEntry>> entry : grouped.entrySet()) {
+            departmentsByFaculty.put(entry.getKey(), List.copyOf(entry.getValue()));
+            departmentsJsonByFaculty.put(entry.getKey(),
+                    jsonMapper.writeValueAsBytes(toDepartmentResponses(entry.getValue())));
+        }
+
+        byte[] facultiesJson = jsonMapper.writeValueAsBytes(toFacultyResponses(faculties));
+        byte[] departmentsJson = jsonMapper.writeValueAsBytes(toDepartmentResponses(departments));
+
+        return new ReferenceDataSnapshot(
+                Collections.unmodifiableMap(facultiesById),
+                Collections.unmodifiableMap(departmentsById),
+                Collections.unmodifiableMap(departmentsByFaculty),
+                facultiesJson,
+                departmentsJson,
+                Collections.unmodifiableMap(departmentsJsonByFaculty),
+                contentHash(facultiesJson, departmentsJson));
+    }
+
+    public Optional<FacultyEntry> findFaculty(Integer facultyId) {
+        return Optional.ofNullable(facultiesById.get(facultyId));
+    }
+
+    public Optional<DepartmentEntry> findDepartment(Integer departmentId) {
+        return Optional.ofNullable(departmentsById.get(departmentId));
+    }
+
+    public List<FacultyEntry> getFaculties() {
+        return List.copyOf(facultiesById.values());
+    }
+
+    public List<DepartmentEntry> getDepartments() {
+        return List.copyOf(departmentsById.values());
+    }
+
+    public List<DepartmentEntry> getDepartmentsByFaculty(Integer facultyId) {
+        return departmentsByFaculty.getOrDefault(facultyId, List.of());
+    }
+
+    public byte[] getFacultiesJson() {
+        return facultiesJson;
+    }
+
+    public byte[] getDepartmentsJson() {
+        return departmentsJson;
+    }
+
+    public byte[] getDepartmentsJson(Integer facultyId) {
+        return departmentsJsonByFaculty.getOrDefault(facultyId, EMPTY_ARRAY_JSON);
+    }
+
+    public int getFacultyCount() {
+        return facultiesById.size();
+    }
+
+    public int getDepartmentCount() {
+        return departmentsById.size();
+    }
+
+    /**
+     * @return ETag value (without quotes) shared by all reference data responses of this snapshot
+     */
+    public String getETag() {
+        return eTag;
+    }
+
+    private static FacultyResponse toFacultyResponse(FacultyEntry faculty) {
+        return FacultyResponse.builder()
+                .id(faculty.id())
+                .name(faculty.name())
+                .description(faculty.description())
+                .yearsNumbers(faculty.yearsNumbers())
+                .build();
+    }
+
+    private static DepartmentResponse toDepartmentResponse(DepartmentEntry department) {
+        return DepartmentResponse.builder()
+                .id(department.id())
+                .name(department.name())
+                .description(department.description())
+                .facultyId(department.facultyId())
+                .build();
+    }
+
+    private static List<FacultyResponse> toFacultyResponses(List<FacultyEntry> faculties) {
+        return faculties.stream().map(ReferenceDataSnapshot::toFacultyResponse).toList();
+    }
+
+    private static List<DepartmentResponse> toDepartmentResponses(List<DepartmentEntry> departments) {
+        return departments.stream().map(ReferenceDataSnapshot::toDepartmentResponse).toList();
+    }
+
+    private static String contentHash(byte[] facultiesJson, byte[] departmentsJson) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(facultiesJson);
+            digest.update(departmentsJson);
+            return "ref-" + HexFormat.of().formatHex(digest.digest(), 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
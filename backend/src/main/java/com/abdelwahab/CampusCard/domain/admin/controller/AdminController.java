@@ -1,10 +1,17 @@
 package com.abdelwahab.CampusCard.domain.admin.controller;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,14 +19,33 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.abdelwahab.CampusCard.domain.admin.dto.AdminDashboardStats;
 import com.abdelwahab.CampusCard.domain.admin.dto.ApprovalDecisionRequest;
+import com.abdelwahab.CampusCard.domain.admin.dto.BulkApprovalRequest;
+import com.abdelwahab.CampusCard.domain.admin.dto.BulkApprovalResponse;
 import com.abdelwahab.CampusCard.domain.admin.dto.UserApprovalResponse;
 import com.abdelwahab.CampusCard.domain.user.model.User;
+import com.abdelwahab.CampusCard.domain.admin.service.AdminEventStreamService;
 import com.abdelwahab.CampusCard.domain.admin.service.AdminService;
+import com.abdelwahab.CampusCard.domain.admin.service.BulkApprovalService;
+import com.abdelwahab.CampusCard.domain.admin.service.UserExportService;
+import com.abdelwahab.CampusCard.domain.admin.service.UserImportService;
+import com.abdelwahab.CampusCard.domain.academic.service.ReferenceDataService;
+import com.abdelwahab.CampusCard.domain.academic.service.ReferenceDataSnapshot;
+import com.abdelwahab.CampusCard.domain.common.dto.JobStatusResponse;
 import com.abdelwahab.CampusCard.domain.common.exception.UnauthorizedException;
+import com.abdelwahab.CampusCard.domain.common.scheduling.ClusterJobRunner;
+import com.abdelwahab.CampusCard.domain.moderation.dto.ModerationRescanResponse;
+import com.abdelwahab.CampusCard.domain.moderation.dto.ResolveFlaggedContentRequest;
+import com.abdelwahab.CampusCard.domain.moderation.service.BannedWordBulkService;
+import com.abdelwahab.CampusCard.domain.moderation.service.FlaggedContentReviewService;
+import com.abdelwahab.CampusCard.domain.moderation.service.ProfileRescanService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -70,7 +96,18 @@ import lombok.RequiredArgsConstructor;
 @SecurityRequirement(name = "bearerAuth")
 public class AdminController {
     
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final AdminService adminService;
+    private final BulkApprovalService bulkApprovalService;
+    private final AdminEventStreamService adminEventStreamService;
+    private final ReferenceDataService referenceDataService;
+    private final UserExportService userExportService;
+    private final UserImportService userImportService;
+    private final ClusterJobRunner clusterJobRunner;
+    private final ProfileRescanService profileRescanService;
+    private final FlaggedContentReviewService flaggedContentReviewService;
+    private final BannedWordBulkService bannedWordBulkService;
     
     @Value("${app.testing.mode:true}")
     private boolean testingMode;
@@ -135,6 +172,22 @@ public class AdminController {
         }
     }
     
+    /**
+     * GET /api/admin/users/pending/stream
+     * Live approval queue over Server-Sent Events, replacing polling of the pending list and stats.
+     * 
+     * Events: "stats" (on connect and when counters change, debounced), "user-registered"
+     * (new pending user), "user-approved" and "user-rejected" (user left the queue).
+     * Connections are async, so open streams do not hold request threads.
+     */
+    @GetMapping(value = "/users/pending/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamPendingApprovals() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .header("X-Accel-Buffering", "no") // disable proxy buffering (nginx)
+                .body(adminEventStreamService.subscribe());
+    }
+    
     /**
      * GET /api/admin/users
      * Get all users in the system for bulk management.
@@ -149,6 +202,69 @@ public class AdminController {
         }
     }
     
+    /**
+     * GET /api/admin/users/export?format=ndjson|csv&status={status}
+     * Stream all users (optionally filtered by status) as NDJSON or CSV for offline processing.
+     * 
+     * Rows are streamed from a database cursor as they are read, so memory usage stays
+     * constant regardless of the number of users and the download starts immediately.
+     */
+    @GetMapping("/users/export")
+    public ResponseEntity<?> exportUsers(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String status) {
+        try {
+            UserExportService.ExportFormat exportFormat = UserExportService.ExportFormat.from(format);
+            User.Status statusFilter = userExportService.parseStatus(status);
+
+            StreamingResponseBody body = outputStream ->
+                    userExportService.exportUsers(exportFormat, statusFilter, outputStream);
+
+            return ResponseEntity.ok()
+                    .contentType(exportFormat.getMediaType())
+                    .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                            .filename(userExportService.fileName(exportFormat))
+                            .build()
+                            .toString())
+                    .body(body);
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("message", e.getMessage()));
+        }
+    }
+    
+    /**
+     * POST /api/admin/users/import
+     * Bulk-create student accounts from a registrar CSV file (multipart field "file").
+     * Accounts are created as pending with an unverified email, like self-registered ones: they
+     * cannot be approved until the student uploads a national ID scan, and stay out of public
+     * listings until an admin approves them.
+     * 
+     * The response is streamed as NDJSON: one line per input row with its outcome
+     * (created, skipped or failed), followed by a summary line with the totals.
+     * Rows are inserted in JDBC batches, one transaction per chunk.
+     */
+    @PostMapping(value = "/users/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> importUsers(@RequestParam("file") MultipartFile file) {
+        try {
+            if (file.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(Map.of("message", "CSV file is required"));
+            }
+            userImportService.validateHeader(file.getInputStream());
+
+            StreamingResponseBody body = outputStream ->
+                    userImportService.importUsers(file.getInputStream(), outputStream);
+
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                    .body(body);
+        } catch (IOException | RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("message", e.getMessage()));
+        }
+    }
+    
     /**
      * GET /api/admin/users/{userId}
      * Get detailed information about a specific user for approval review.
@@ -210,6 +326,38 @@ public class AdminController {
         }
     }
     
+    /**
+     * POST /api/admin/users/approve-reject/bulk
+     * Approve or reject many pending users in one request (e.g., clearing the pending queue).
+     * 
+     * A single conditional UPDATE changes only users that are still pending (and, for approvals,
+     * have a verified email), so concurrent admins cannot process the same user twice.
+     * Every ID gets an outcome: APPROVED/REJECTED, or SKIPPED with the reason.
+     * Notification emails are sent in the background after the change is committed.
+     * 
+     * Request body:
+     * {
+     *   "userIds": [12, 15, 18],
+     *   "approved": true,
+     *   "rejectionReason": "Photo does not match ID" // optional, for rejections
+     * }
+     */
+    @PostMapping("/users/approve-reject/bulk")
+    public ResponseEntity<?> bulkApproveOrReject(@Valid @RequestBody BulkApprovalRequest request) {
+        try {
+            BulkApprovalResponse response = bulkApprovalService.decide(
+                    request.getUserIds(),
+                    request.getApproved(),
+                    request.getRejectionReason(),
+                    getCurrentUserId()
+            );
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("message", e.getMessage()));
+        }
+    }
+    
     /**
      * POST /api/admin/users/{userId}/verify-email
      * Send email verification to user.
@@ -294,6 +442,51 @@ public class AdminController {
         }
     }
 
+    /**
+     * POST /api/admin/banned-words/import
+     * Add many banned words at once: a text/plain body or a multipart file (field "file") with
+     * one word per line or comma-separated words.
+     * 
+     * Words are lowercased and deduplicated, and existing words are skipped. The word list is
+     * changed in one transaction, so the matcher is rebuilt and profiles are rescanned once per import.
+     */
+    @PostMapping(value = "/banned-words/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> importBannedWords(@RequestParam("file") MultipartFile file) {
+        try {
+            return ResponseEntity.ok(bannedWordBulkService.importWords(file.getInputStream()));
+        } catch (IOException | RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    @PostMapping(value = "/banned-words/import", consumes = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<?> importBannedWords(@RequestBody String words) {
+        try {
+            return ResponseEntity.ok(bannedWordBulkService.importWords(
+                    new ByteArrayInputStream(words.getBytes(StandardCharsets.UTF_8))));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    /**
+     * GET /api/admin/banned-words/export
+     * Stream the banned word list as text, one word per line (the import format).
+     */
+    @GetMapping("/banned-words/export")
+    public ResponseEntity<StreamingResponseBody> exportBannedWords() {
+        StreamingResponseBody body = bannedWordBulkService::exportWords;
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("banned-words.txt")
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     /**
      * DELETE /api/admin/banned-words/{wordId}
      * Remove a banned word from the moderation list.
@@ -310,20 +503,79 @@ public class AdminController {
     }
 
     /**
-     * GET /api/admin/flagged-content
-     * Get all flagged content for admin review.
+     * GET /api/admin/flagged-content?status=open&since=2025-01-01&limit=50&cursor={cursor}
+     * Review queue of flagged content, newest first (status: open, resolved or dismissed).
+     * Only flags since the given date are listed (default: the last 90 days).
+     * 
+     * Keyset-paginated: when more items exist, the X-Next-Cursor response header holds the
+     * cursor for the next page; it is absent on the last page.
      */
     @GetMapping("/flagged-content")
-    public ResponseEntity<List<com.abdelwahab.CampusCard.domain.moderation.dto.FlaggedContentResponse>> getFlaggedContent() {
+    public ResponseEntity<?> getFlaggedContent(
+            @RequestParam(defaultValue = "open") String status,
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) String cursor) {
         try {
-            List<com.abdelwahab.CampusCard.domain.moderation.dto.FlaggedContentResponse> content = 
-                    adminService.getFlaggedContent();
-            return ResponseEntity.ok(content);
+            FlaggedContentReviewService.Page page = flaggedContentReviewService.getFlaggedContent(status, since, cursor, limit);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.nextCursor() != null) {
+                response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+            }
+            return response.body(page.items());
         } catch (RuntimeException e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("message", e.getMessage()));
         }
     }
 
+    /**
+     * POST /api/admin/flagged-content/resolve
+     * Resolve (acted on) or dismiss (false positive) many open flags with one UPDATE.
+     * 
+     * Request body:
+     * {
+     *   "ids": [101, 102, 150],
+     *   "status": "dismissed"
+     * }
+     * 
+     * Flags that are no longer open (closed by another admin) are not updated and are
+     * left out of "updatedIds".
+     */
+    @PostMapping("/flagged-content/resolve")
+    public ResponseEntity<?> resolveFlaggedContent(@Valid @RequestBody ResolveFlaggedContentRequest request) {
+        try {
+            List<Integer> updatedIds = flaggedContentReviewService.resolve(
+                    request.getIds(), request.getStatus(), getCurrentUserId());
+            return ResponseEntity.ok(Map.of(
+                    "requested", request.getIds().size(),
+                    "updated", updatedIds.size(),
+                    "updatedIds", updatedIds));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    /**
+     * GET /api/admin/moderation/rescans
+     * Get the most recent retroactive profile rescans (started when banned words are added)
+     * with their progress.
+     */
+    @GetMapping("/moderation/rescans")
+    public ResponseEntity<List<ModerationRescanResponse>> getModerationRescans() {
+        return ResponseEntity.ok(profileRescanService.getRecentRescans(20));
+    }
+
+    /**
+     * GET /api/admin/moderation/rescans/{rescanId}
+     * Get the progress of one profile rescan.
+     */
+    @GetMapping("/moderation/rescans/{rescanId}")
+    public ResponseEntity<ModerationRescanResponse> getModerationRescan(@PathVariable Long rescanId) {
+        return ResponseEntity.ok(profileRescanService.getRescan(rescanId));
+    }
+
     /**
      * POST /api/admin/users/{userId}/change-role
      * Change a user's role (e.g., make a student an admin).
@@ -343,6 +595,56 @@ public class AdminController {
         }
     }
 
+    /**
+     * GET /api/admin/jobs
+     * Get every scheduled background job with its schedule and most recent run
+     * (on whichever node ran it).
+     */
+    @GetMapping("/jobs")
+    public ResponseEntity<List<JobStatusResponse>> getJobs() {
+        return ResponseEntity.ok(clusterJobRunner.getStatuses());
+    }
+
+    /**
+     * POST /api/admin/jobs/{name}/run
+     * Run a background job immediately. Returns 409 if another node is running it.
+     */
+    @PostMapping("/jobs/{name}/run")
+    public ResponseEntity<?> runJob(@PathVariable String name) {
+        try {
+            if (!clusterJobRunner.runNow(name)) {
+                return ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body(Map.of("message", "Job is already running on another node"));
+            }
+            return ResponseEntity.ok(Map.of("message", "Job finished", "job", name));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    /**
+     * POST /api/admin/reference-data/reload
+     * Reload faculties and departments into the in-memory reference data snapshot.
+     * Call after changing the faculties/departments tables; the new snapshot replaces
+     * the old one atomically and public lookup ETags change if the content changed.
+     * Other backend nodes are notified and reload as well.
+     */
+    @PostMapping("/reference-data/reload")
+    public ResponseEntity<?> reloadReferenceData() {
+        try {
+            ReferenceDataSnapshot snapshot = referenceDataService.reloadAcrossCluster();
+            return ResponseEntity.ok(Map.of(
+                    "message", "Reference data reloaded successfully",
+                    "faculties", snapshot.getFacultyCount(),
+                    "departments", snapshot.getDepartmentCount(),
+                    "etag", snapshot.getETag()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("message", e.getMessage()));
+        }
+    }
+
     /**
      * Get current admin's user ID from SecurityContext.
      */
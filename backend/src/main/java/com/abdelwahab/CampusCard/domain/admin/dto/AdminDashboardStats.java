@@ -21,4 +21,5 @@ public class AdminDashboardStats {
     private Long adminsCount;
     private Long verifiedEmails;
     private Long unverifiedEmails;
+    private Long openFlaggedContent;
 }
@@ -0,0 +1,28 @@
+package com.abdelwahab.CampusCard.domain.admin.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request DTO for approving or rejecting many pending users at once.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkApprovalRequest {
+
+    @NotEmpty(message = "At least one user ID is required")
+    private List<Integer> userIds;
+
+    @NotNull(message = "Approval decision is required (true for approve, false for reject)")
+    private Boolean approved;
+
+    private String rejectionReason; // Optional reason if rejected, applied to every user
+}
@@ -0,0 +1,44 @@
+package com.abdelwahab.CampusCard.domain.admin.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for bulk approve/reject.
+ * Contains one result per requested user ID, in request order.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkApprovalResponse {
+    private int requested;
+    private int updated;
+    private List<Item> results;
+
+    /**
+     * Outcome of a single requested user.
+     */
+    public enum Outcome {
+        APPROVED,
+        REJECTED,
+        SKIPPED
+    }
+
+    /**
+     * Per-ID result; skipped users carry the reason they were not updated.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private Integer userId;
+        private Outcome outcome;
+        private String message; // null unless outcome is SKIPPED
+    }
+}
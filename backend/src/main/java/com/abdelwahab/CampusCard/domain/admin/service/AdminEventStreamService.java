@@ -0,0 +1,237 @@
+package com.abdelwahab.CampusCard.domain.admin.service;
+
+import java.io.IOException;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.abdelwahab.CampusCard.domain.academic.service.ReferenceDataService;
+import com.abdelwahab.CampusCard.domain.academic.service.ReferenceDataSnapshot;
+import com.abdelwahab.CampusCard.domain.admin.dto.AdminDashboardStats;
+import com.abdelwahab.CampusCard.domain.admin.dto.UserApprovalResponse;
+import com.abdelwahab.CampusCard.domain.common.event.DomainEvent;
+import com.abdelwahab.CampusCard.domain.common.event.DomainEventListener;
+import com.abdelwahab.CampusCard.domain.common.event.UserApprovedEvent;
+import com.abdelwahab.CampusCard.domain.common.event.UserRegisteredEvent;
+import com.abdelwahab.CampusCard.domain.common.event.UserRejectedEvent;
+import com.abdelwahab.CampusCard.domain.user.model.User;
+
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Pushes approval-queue changes to admins over Server-Sent Events.
+ *
+ * <p>Instead of polling the pending list and dashboard statistics, the admin panel keeps one
+ * {@link SseEmitter} open. Emitters are async servlet responses: no thread is held per
+ * connection, and events are written by a single broadcast thread.
+ *
+ * <p>Events (JSON data):
+ * <ul>
+ *   <li>{@code stats} - dashboard statistics; sent on connect, then at most once per debounce
+ *       interval and only when they changed</li>
+ *   <li>{@code user-registered} - a new pending user (same shape as the pending list entries)</li>
+ *   <li>{@code user-approved} / {@code user-rejected} - a user left the queue (possibly handled
+ *       by another admin)</li>
+ * </ul>
+ * A comment line is sent periodically as heartbeat so proxies keep idle connections open.
+ *
+ * <p>Deltas come from domain events delivered by the event bus after the raising transaction
+ * committed.
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Service
+@Slf4j
+public class AdminEventStreamService implements DomainEventListener {
+
+    private static final DateTimeFormatter REGISTRATION_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final AdminService adminService;
+    private final ReferenceDataService referenceDataService;
+    private final ThreadPoolTaskExecutor eventStreamExecutor;
+    private final JsonMapper jsonMapper;
+
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean statsDirty = new AtomicBoolean();
+    private volatile AdminDashboardStats lastStats;
+
+    @Value("${app.admin.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    public AdminEventStreamService(AdminService adminService,
+                                   ReferenceDataService referenceDataService,
+                                   @Qualifier("eventStreamExecutor") ThreadPoolTaskExecutor eventStreamExecutor,
+                                   JsonMapper jsonMapper) {
+        this.adminService = adminService;
+        this.referenceDataService = referenceDataService;
+        this.eventStreamExecutor = eventStreamExecutor;
+        this.jsonMapper = jsonMapper;
+    }
+
+    /**
+     * Opens a new stream and sends the current statistics as first event.
+     * The client reconnects after the timeout (EventSource does this automatically).
+     *
+     * @return emitter to return from the controller
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(error -> emitters.remove(emitter));
+        emitters.add(emitter);
+
+        AdminDashboardStats stats = adminService.getDashboardStats();
+        lastStats = stats;
+        send(emitter, "stats", jsonMapper.writeValueAsString(stats));
+        return emitter;
+    }
+
+    /**
+     * @return number of open streams
+     */
+    public int getSubscriberCount() {
+        return emitters.size();
+    }
+
+    @Override
+    public boolean supports(DomainEvent event) {
+        return event instanceof UserRegisteredEvent
+                || event instanceof UserApprovedEvent
+                || event instanceof UserRejectedEvent;
+    }
+
+    @Override
+    public void onEvent(DomainEvent event) {
+        if (event instanceof UserRegisteredEvent registered) {
+            onUserRegistered(registered);
+        } else if (event instanceof UserApprovedEvent approved) {
+            onUserApproved(approved);
+        } else if (event instanceof UserRejectedEvent rejected) {
+            onUserRejected(rejected);
+        }
+    }
+
+    private void onUserRegistered(UserRegisteredEvent event) {
+        statsDirty.set(true);
+        if (emitters.isEmpty()) {
+            return;
+        }
+
+        ReferenceDataSnapshot snapshot = referenceDataService.getSnapshot();
+        UserApprovalResponse pendingUser = UserApprovalResponse.builder()
+                .id(event.userId())
+                .email(event.email())
+                .emailVerified(false)
+                .nationalId(event.nationalId())
+                .firstName(event.firstName())
+                .lastName(event.lastName())
+                .birthDate(event.birthDate())
+                .status(User.Status.PENDING.getValue())
+                .role(User.Role.STUDENT.getValue())
+                .year(event.year())
+                .faculty(snapshot.findFaculty(event.facultyId())
+                        .map(ReferenceDataSnapshot.FacultyEntry::name).orElse(null))
+                .department(snapshot.findDepartment(event.departmentId())
+                        .map(ReferenceDataSnapshot.DepartmentEntry::name).orElse(null))
+                .nationalIdScanUrl(event.nationalIdScanUrl())
+                .registrationDate(event.occurredAt()
+                        .atZone(ZoneId.systemDefault())
+                        .format(REGISTRATION_DATE_FORMAT))
+                .build();
+        broadcast("user-registered", pendingUser);
+    }
+
+    private void onUserApproved(UserApprovedEvent event) {
+        statsDirty.set(true);
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("userId", event.userId());
+        data.put("adminId", event.adminId());
+        broadcast("user-approved", data);
+    }
+
+    private void onUserRejected(UserRejectedEvent event) {
+        statsDirty.set(true);
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("userId", event.userId());
+        data.put("adminId", event.adminId());
+        data.put("reason", event.reason());
+        broadcast("user-rejected", data);
+    }
+
+    /**
+     * Debounced statistics push: recomputes at most once per interval, only after a change
+     * and only while someone is listening, and sends only if the numbers differ.
+     */
+    @Scheduled(fixedDelayString = "${app.admin.stream.stats-debounce-ms:2000}")
+    public void publishStatsIfChanged() {
+        if (emitters.isEmpty() || !statsDirty.getAndSet(false)) {
+            return;
+        }
+        AdminDashboardStats stats = adminService.getDashboardStats();
+        if (stats.equals(lastStats)) {
+            return;
+        }
+        lastStats = stats;
+        broadcast("stats", stats);
+    }
+
+    /**
+     * Heartbeat comment so reverse proxies do not close idle streams.
+     */
+    @Scheduled(fixedRateString = "${app.admin.stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        if (emitters.isEmpty()) {
+            return;
+        }
+        eventStreamExecutor.execute(() -> {
+            for (SseEmitter emitter : emitters) {
+                try {
+                    emitter.send(SseEmitter.event().comment("ping"));
+                } catch (IOException | IllegalStateException e) {
+                    emitters.remove(emitter);
+                }
+            }
+        });
+    }
+
+    /**
+     * Serializes once and writes the event to every open stream on the broadcast thread.
+     */
+    private void broadcast(String eventName, Object data) {
+        if (emitters.isEmpty()) {
+            return;
+        }
+        String json = jsonMapper.writeValueAsString(data);
+        eventStreamExecutor.execute(() -> {
+            for (SseEmitter emitter : emitters) {
+                send(emitter, eventName, json);
+            }
+        });
+    }
+
+    private void send(SseEmitter emitter, String eventName, String json) {
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(json, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; the container completes the emitter
+            emitters.remove(emitter);
+            log.debug("Dropped admin event stream: {}", e.getMessage());
+        }
+    }
+}
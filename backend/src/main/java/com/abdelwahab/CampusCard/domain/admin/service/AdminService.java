@@ -6,12 +6,12 @@ import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.abdelwahab.CampusCard.domain.admin.dto.AdminDashboardStats;
 import com.abdelwahab.CampusCard.domain.moderation.dto.BannedWordResponse;
-import com.abdelwahab.CampusCard.domain.moderation.dto.FlaggedContentResponse;
 import com.abdelwahab.CampusCard.domain.admin.dto.UserApprovalResponse;
 import com.abdelwahab.CampusCard.domain.moderation.model.BannedWord;
 import com.abdelwahab.CampusCard.domain.moderation.model.FlaggedContent;
@@ -24,6 +24,10 @@ import com.abdelwahab.CampusCard.domain.profile.repository.ProfileRepository;
 import com.abdelwahab.CampusCard.domain.user.repository.UserRepository;
 import com.abdelwahab.CampusCard.domain.storage.service.MinioService;
 import com.abdelwahab.CampusCard.domain.moderation.service.ContentModerationService;
+import com.abdelwahab.CampusCard.domain.common.event.BannedWordsChangedEvent;
+import com.abdelwahab.CampusCard.domain.common.event.RoleChangedEvent;
+import com.abdelwahab.CampusCard.domain.common.event.UserApprovedEvent;
+import com.abdelwahab.CampusCard.domain.common.event.UserRejectedEvent;
 import com.abdelwahab.CampusCard.domain.common.exception.ResourceNotFoundException;
 import com.abdelwahab.CampusCard.domain.common.exception.InvalidStateException;
 import com.abdelwahab.CampusCard.domain.common.exception.DuplicateResourceException;
@@ -67,6 +71,7 @@ public class AdminService {
     private final EmailService emailService;
     private final BannedWordRepository bannedWordRepository;
     private final FlaggedContentRepository flaggedContentRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * Retrieves all users with PENDING status awaiting admin approval.
@@ -132,6 +137,7 @@ public class AdminService {
      * <ul>
      *   <li>Updates user status to APPROVED</li>
      *   <li>Clears any previous rejection reason</li>
+     *   <li>Publishes a {@link UserApprovedEvent}</li>
      *   <li>User gains access to full profile features</li>
      * </ul>
      *
@@ -155,10 +161,16 @@ public class AdminService {
         if (!user.getEmailVerified()) {
             throw new InvalidStateException("Cannot approve user with unverified email. Please verify email first.");
         }
+
+        // Imported accounts start without a national ID scan
+        if (UserImportService.IMPORTED_SCAN_PLACEHOLDER.equals(user.getNationalIdScan())) {
+            throw new InvalidStateException("Cannot approve user before a national ID scan is uploaded.");
+        }
         
         user.setStatus(User.Status.APPROVED);
         user.setRejectionReason(null); // Clear any previous rejection reason
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserApprovedEvent(userId, adminId));
         
         return buildUserApprovalResponse(savedUser);
     }
@@ -176,6 +188,7 @@ public class AdminService {
      * <ul>
      *   <li>Updates user status to REJECTED</li>
      *   <li>Stores rejection reason for admin reference</li>
+     *   <li>Publishes a {@link UserRejectedEvent}</li>
      *   <li>User profile remains private and inaccessible</li>
      * </ul>
      *
@@ -198,6 +211,7 @@ public class AdminService {
         user.setStatus(User.Status.REJECTED);
         user.setRejectionReason(reason);
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserRejectedEvent(userId, adminId, reason));
         
         return buildUserApprovalResponse(savedUser);
     }
@@ -290,6 +304,7 @@ public class AdminService {
                 .adminsCount(userRepository.countByRole(User.Role.ADMIN))
                 .verifiedEmails(userRepository.countByEmailVerified(true))
                 .unverifiedEmails(userRepository.countByEmailVerified(false))
+                .openFlaggedContent(flaggedContentRepository.countByStatus(FlaggedContent.Status.OPEN))
                 .build();
     }
     
@@ -358,6 +373,7 @@ public class AdminService {
                 .build();
         
         BannedWord saved = bannedWordRepository.save(bannedWord);
+        eventPublisher.publishEvent(new BannedWordsChangedEvent(List.of(normalizedWord), 0));
         
         return BannedWordResponse.builder()
                 .id(saved.getId())
@@ -374,23 +390,7 @@ public class AdminService {
         BannedWord word = bannedWordRepository.findById(wordId)
                 .orElseThrow(() -> new RuntimeException("Banned word not found"));
         bannedWordRepository.delete(word);
-    }
-
-    /**
-     * Get all flagged content for admin review.
-     */
-    public List<FlaggedContentResponse> getFlaggedContent() {
-        List<FlaggedContent> content = flaggedContentRepository.findAllByOrderByFlaggedAtDesc();
-        return content.stream()
-                .map(fc -> FlaggedContentResponse.builder()
-                        .id(fc.getId())
-                        .userId(fc.getUser().getId())
-                        .userEmail(fc.getUser().getEmail())
-                        .userName(fc.getUser().getFirstName() + " " + fc.getUser().getLastName())
-                        .content(fc.getContent())
-                        .flaggedAt(fc.getFlaggedAt())
-                        .build())
-                .collect(Collectors.toList());
+        eventPublisher.publishEvent(new BannedWordsChangedEvent(List.of(), 1));
     }
 
     /**
@@ -420,8 +420,12 @@ public class AdminService {
         }
         
         // Update role
+        User.Role previousRole = user.getRole();
         user.setRole(role);
         User savedUser = userRepository.save(user);
+        if (previousRole != role) {
+            eventPublisher.publishEvent(new RoleChangedEvent(userId, adminId, previousRole, role));
+        }
         
         return buildUserApprovalResponse(savedUser);
     }
@@ -0,0 +1,59 @@
+package com.abdelwahab.CampusCard.domain.admin.service;
+
+import org.springframework.stereotype.Component;
+
+import com.abdelwahab.CampusCard.domain.auth.service.EmailService;
+import com.abdelwahab.CampusCard.domain.common.event.DomainEvent;
+import com.abdelwahab.CampusCard.domain.common.event.DomainEventListener;
+import com.abdelwahab.CampusCard.domain.common.event.UserApprovedEvent;
+import com.abdelwahab.CampusCard.domain.common.event.UserRejectedEvent;
+import com.abdelwahab.CampusCard.domain.user.model.User;
+import com.abdelwahab.CampusCard.domain.user.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Emails users when an admin approves or rejects their registration (single or bulk decisions).
+ * Runs on the domain event executor after commit, so SMTP latency never reaches the admin's request.
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ApprovalNotificationListener implements DomainEventListener {
+
+    private final UserRepository userRepository;
+    private final EmailService emailService;
+
+    @Override
+    public boolean supports(DomainEvent event) {
+        return event instanceof UserApprovedEvent || event instanceof UserRejectedEvent;
+    }
+
+    @Override
+    public void onEvent(DomainEvent event) {
+        if (event instanceof UserApprovedEvent approved) {
+            User user = findUser(approved.userId());
+            if (user != null) {
+                emailService.sendApprovalEmail(user.getEmail(), user.getFirstName());
+            }
+        } else if (event instanceof UserRejectedEvent rejected) {
+            User user = findUser(rejected.userId());
+            if (user != null) {
+                emailService.sendRejectionEmail(user.getEmail(), user.getFirstName(), rejected.reason());
+            }
+        }
+    }
+
+    private User findUser(Integer userId) {
+        User user = userRepository.findById(userId).orElse(null);
+        if (user == null) {
+            log.warn("Skipping notification: user {} no longer exists", userId);
+        }
+        return user;
+    }
+}
@@ -0,0 +1,162 @@
+package com.abdelwahab.CampusCard.domain.admin.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.abdelwahab.CampusCard.domain.admin.dto.BulkApprovalResponse;
+import com.abdelwahab.CampusCard.domain.common.event.UserApprovedEvent;
+import com.abdelwahab.CampusCard.domain.common.event.UserRejectedEvent;
+import com.abdelwahab.CampusCard.domain.common.exception.InvalidStateException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Approves or rejects many pending users with one set-based conditional UPDATE.
+ *
+ * <p>The status preconditions are part of the {@code WHERE} clause ({@code status = 'pending'},
+ * plus {@code email_verified} and an uploaded national ID scan for approvals, the same rules as
+ * {@link AdminService#approveUser}), so the database decides atomically which rows change. Two admins processing the same queue can never both update a user: the second
+ * UPDATE simply does not match it, and that user is reported as skipped.
+ *
+ * <p>{@code RETURNING} gives the updated IDs; skipped IDs are explained with one follow-up
+ * SELECT. The version column is bumped so profile ETags change. One approval/rejection event is
+ * published per updated user; notification emails are sent by
+ * {@link ApprovalNotificationListener} after the transaction commits.
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class BulkApprovalService {
+
+    private static final String APPROVE_SQL = """
+        UPDATE users
+        SET status = 'approved', rejection_reason = NULL, version = version + 1, updated_at = CURRENT_TIMESTAMP
+        WHERE id IN (:ids) AND status = 'pending' AND email_verified = true
+          AND national_id_scan <> :importPlaceholder
+        RETURNING id
+        """;
+
+    private static final String REJECT_SQL = """
+        UPDATE users
+        SET status = 'rejected', rejection_reason = :reason, version = version + 1, updated_at = CURRENT_TIMESTAMP
+        WHERE id IN (:ids) AND status = 'pending'
+        RETURNING id
+        """;
+
+    private static final String SKIPPED_SQL = "SELECT id, status, email_verified, national_id_scan FROM users WHERE id IN (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.admin.bulk-approval.max-size:500}")
+    private int maxSize;
+
+    /**
+     * Approves or rejects the given pending users.
+     *
+     * @param userIds user IDs (duplicates and nulls are ignored, order is kept)
+     * @param approve true to approve, false to reject
+     * @param rejectionReason optional reason stored on rejected users
+     * @param adminId the ID of the admin making the decision
+     * @return per-ID outcomes in request order
+     * @throws InvalidStateException if no IDs or more than the configured maximum are given
+     */
+    @Transactional
+    public BulkApprovalResponse decide(List<Integer> userIds, boolean approve, String rejectionReason, Integer adminId) {
+        Set<Integer> distinctIds = new LinkedHashSet<>(userIds);
+        distinctIds.remove(null);
+        if (distinctIds.isEmpty()) {
+            throw new InvalidStateException("At least one user ID is required");
+        }
+        if (distinctIds.size() > maxSize) {
+            throw new InvalidStateException(
+                String.format("Too many user IDs: maximum is %d per request", maxSize));
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", distinctIds);
+        if (approve) {
+            params.addValue("importPlaceholder", UserImportService.IMPORTED_SCAN_PLACEHOLDER);
+        } else {
+            params.addValue("reason", rejectionReason);
+        }
+        Set<Integer> updatedIds = new LinkedHashSet<>(jdbcTemplate.queryForList(
+                approve ? APPROVE_SQL : REJECT_SQL, params, Integer.class));
+        Map<Integer, String> skipReasons = explainSkipped(distinctIds, updatedIds, approve);
+
+        BulkApprovalResponse.Outcome success = approve
+                ? BulkApprovalResponse.Outcome.APPROVED
+                : BulkApprovalResponse.Outcome.REJECTED;
+        List<BulkApprovalResponse.Item> results = new ArrayList<>(distinctIds.size());
+        for (Integer userId : distinctIds) {
+            if (updatedIds.contains(userId)) {
+                results.add(BulkApprovalResponse.Item.builder()
+                        .userId(userId)
+                        .outcome(success)
+                        .build());
+            } else {
+                results.add(BulkApprovalResponse.Item.builder()
+                        .userId(userId)
+                        .outcome(BulkApprovalResponse.Outcome.SKIPPED)
+                        .message(skipReasons.get(userId))
+                        .build());
+            }
+        }
+
+        for (Integer userId : updatedIds) {
+            eventPublisher.publishEvent(approve
+                    ? new UserApprovedEvent(userId, adminId)
+                    : new UserRejectedEvent(userId, adminId, rejectionReason));
+        }
+        log.info("Bulk {}: {} of {} users updated", approve ? "approval" : "rejection", updatedIds.size(), distinctIds.size());
+
+        return BulkApprovalResponse.builder()
+                .requested(distinctIds.size())
+                .updated(updatedIds.size())
+                .results(results)
+                .build();
+    }
+
+    /**
+     * Reads the current state of the IDs the UPDATE did not match to report why.
+     */
+    private Map<Integer, String> explainSkipped(Set<Integer> requestedIds, Set<Integer> updatedIds, boolean approve) {
+        List<Integer> skippedIds = requestedIds.stream().filter(id -> !updatedIds.contains(id)).toList();
+        Map<Integer, String> reasons = new HashMap<>();
+        if (skippedIds.isEmpty()) {
+            return reasons;
+        }
+
+        jdbcTemplate.query(SKIPPED_SQL, new MapSqlParameterSource("ids", skippedIds), rs -> {
+            String status = rs.getString("status");
+            if (!"pending".equals(status)) {
+                reasons.put(rs.getInt("id"), "User is not in pending status (current status: " + status + ")");
+            } else if (approve && !rs.getBoolean("email_verified")) {
+                reasons.put(rs.getInt("id"), "Cannot approve user with unverified email");
+            } else if (approve && UserImportService.IMPORTED_SCAN_PLACEHOLDER.equals(rs.getString("national_id_scan"))) {
+                reasons.put(rs.getInt("id"), "National ID scan not uploaded");
+            } else {
+                reasons.put(rs.getInt("id"), "User was updated concurrently");
+            }
+        });
+        for (Integer userId : skippedIds) {
+            reasons.putIfAbsent(userId, "User not found");
+        }
+        return reasons;
+    }
+}
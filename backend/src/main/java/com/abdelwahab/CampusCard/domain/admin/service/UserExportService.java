@@ -0,0 +1,259 @@
+package com.abdelwahab.CampusCard.domain.admin.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.abdelwahab.CampusCard.domain.common.exception.InvalidStateException;
+import com.abdelwahab.CampusCard.domain.user.model.User;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Streams the user list (with academic and profile details) as NDJSON or CSV for admin exports.
+ *
+ * <p>Rows are read with a forward-only JDBC cursor: the query runs inside a read-only
+ * transaction (autocommit off) with a fetch size, so PostgreSQL sends rows in chunks instead of
+ * materializing the whole result. No entities are loaded, so no persistence context grows, and each
+ * row is written to the response as soon as it is read. Heap usage is constant in the number of
+ * users and the first bytes are sent immediately.
+ *
+ * <p>Columns mirror {@link com.abdelwahab.CampusCard.domain.admin.dto.UserApprovalResponse}.
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class UserExportService {
+
+    private static final String[] COLUMNS = {
+        "id", "email", "emailVerified", "nationalId", "firstName", "lastName", "birthDate",
+        "status", "role", "year", "faculty", "department", "profilePhotoUrl", "nationalIdScanUrl",
+        "registrationDate"
+    };
+
+    private static final String EXPORT_SQL = """
+        SELECT u.id, u.email, u.email_verified, u.national_id, u.first_name, u.last_name,
+               u.birth_date, u.status, u.role, u.year, f.name AS faculty, d.name AS department,
+               p.profile_photo, u.national_id_scan, u.created_at
+        FROM users u
+        JOIN faculties f ON f.id = u.faculty_id
+        JOIN departments d ON d.id = u.department_id
+        LEFT JOIN profiles p ON p.user_id = u.id
+        WHERE (CAST(? AS VARCHAR) IS NULL OR u.status = ?)
+        ORDER BY u.id
+        """;
+
+    private static final DateTimeFormatter REGISTRATION_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final JsonMapper jsonMapper;
+
+    @Value("${app.export.fetch-size:1000}")
+    private int fetchSize;
+
+    /**
+     * Supported export formats.
+     */
+    public enum ExportFormat {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final MediaType mediaType;
+        private final String extension;
+
+        ExportFormat(String mediaType, String extension) {
+            this.mediaType = MediaType.parseMediaType(mediaType);
+            this.extension = extension;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        /**
+         * Parse a format name (case-insensitive).
+         *
+         * @throws InvalidStateException if the format is not supported
+         */
+        public static ExportFormat from(String value) {
+            for (ExportFormat format : values()) {
+                if (format.extension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new InvalidStateException("Unsupported export format: " + value + " (use ndjson or csv)");
+        }
+    }
+
+    /**
+     * Parse an optional status filter.
+     *
+     * @param status status value (pending, approved, rejected) or null for all users
+     * @return matching status or null
+     * @throws InvalidStateException if the status is unknown
+     */
+    public User.Status parseStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        for (User.Status candidate : User.Status.values()) {
+            if (candidate.getValue().equalsIgnoreCase(status)) {
+                return candidate;
+            }
+        }
+        throw new InvalidStateException("Invalid status: " + status);
+    }
+
+    /**
+     * Writes all users (optionally filtered by status) to the output stream in the given format.
+     * Intended to be called from a {@code StreamingResponseBody}.
+     *
+     * @param format output format
+     * @param status optional status filter (null for all users)
+     * @param outputStream response output stream (not closed by this method)
+     * @return number of exported rows
+     */
+    public long exportUsers(ExportFormat format, User.Status status, OutputStream outputStream) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        String statusValue = status != null ? status.getValue() : null;
+
+        Long exported = readOnly.execute(tx -> {
+            long[] count = {0};
+            try {
+                if (format == ExportFormat.CSV) {
+                    writeCsvRow(writer, COLUMNS);
+                }
+
+                jdbcTemplate.query(connection -> {
+                    PreparedStatement statement = connection.prepareStatement(
+                            EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(fetchSize);
+                    statement.setString(1, statusValue);
+                    statement.setString(2, statusValue);
+                    return statement;
+                }, (ResultSet rs) -> {
+                    try {
+                        Object[] values = readRow(rs);
+                        if (format == ExportFormat.CSV) {
+                            writeCsvRow(writer, values);
+                        } else {
+                            writeJsonRow(writer, values);
+                        }
+                        count[0]++;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return count[0];
+        });
+
+        log.info("Exported {} users as {}", exported, format);
+        return exported != null ? exported : 0;
+    }
+
+    private Object[] readRow(ResultSet rs) throws SQLException {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        java.sql.Date birthDate = rs.getDate("birth_date");
+
+        return new Object[] {
+            rs.getInt("id"),
+            rs.getString("email"),
+            rs.getBoolean("email_verified"),
+            rs.getString("national_id"),
+            rs.getString("first_name"),
+            rs.getString("last_name"),
+            birthDate != null ? birthDate.toLocalDate().toString() : null,
+            rs.getString("status"),
+            rs.getString("role"),
+            rs.getInt("year"),
+            rs.getString("faculty"),
+            rs.getString("department"),
+            rs.getString("profile_photo"),
+            rs.getString("national_id_scan"),
+            createdAt != null ? createdAt.toLocalDateTime().format(REGISTRATION_DATE_FORMAT) : null
+        };
+    }
+
+    private void writeJsonRow(Writer writer, Object[] values) throws IOException {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (int i = 0; i < COLUMNS.length; i++) {
+            row.put(COLUMNS[i], values[i]);
+        }
+        writer.write(jsonMapper.writeValueAsString(row));
+        writer.write('\n');
+    }
+
+    private void writeCsvRow(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvCell(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * Quote a CSV cell (RFC 4180) and neutralize spreadsheet formulas.
+     */
+    private static String csvCell(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0 && !(value instanceof Number)) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+
+    /**
+     * Build the download file name for an export.
+     */
+    public String fileName(ExportFormat format) {
+        return String.format(Locale.ROOT, "users-export-%s.%s",
+                LocalDate.now(), format.getExtension());
+    }
+}
@@ -0,0 +1,461 @@
+package com.abdelwahab.CampusCard.domain.admin.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.abdelwahab.CampusCard.domain.academic.service.ReferenceDataService;
+import com.abdelwahab.CampusCard.domain.common.constants.ValidationConstants;
+import com.abdelwahab.CampusCard.domain.common.exception.InvalidStateException;
+import com.abdelwahab.CampusCard.domain.common.persistence.PooledIdAllocator;
+
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Bulk-provisions student accounts from a registrar CSV file.
+ *
+ * <p>Processing pipeline (per chunk of rows):
+ * <ol>
+ *   <li>Rows are read from the uploaded stream one line at a time</li>
+ *   <li>Each row is validated (required fields, email domain, national ID format, password length,
+ *       faculty/department/year against the in-memory reference data)</li>
+ *   <li>Uniqueness is checked against email and national ID sets loaded once with a single query
+ *       (and updated as rows are accepted, so duplicates within the file are caught too)</li>
+ *   <li>Passwords of the valid rows are BCrypt-hashed in parallel on a bounded pool; a row whose
+ *       hash fails is reported as failed on its own</li>
+ *   <li>Users are inserted with a JDBC batch statement and their default profiles with one
+ *       statement per chunk, in one transaction per chunk. Ids are taken from the pooled
+ *       sequences through {@link PooledIdAllocator}</li>
+ *   <li>One NDJSON result line per input row is written to the response, followed by a summary</li>
+ * </ol>
+ *
+ * <p>Expected CSV header (column order is free, names are case-insensitive):
+ * {@code email,password,firstName,lastName,birthDate,nationalId,year,facultyId,departmentId}.
+ * Fields may be quoted; quoted fields cannot span lines. Birth dates use ISO format (yyyy-MM-dd).
+ *
+ * <p>Imported accounts go through the same review as self-registered ones: they are created as
+ * PENDING students with an unverified email, so they do not appear anywhere public until an admin
+ * approves them. The national ID scan is set to {@link #IMPORTED_SCAN_PLACEHOLDER} until the
+ * student uploads one, and such accounts cannot be approved before that.
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Service
+@Slf4j
+public class UserImportService {
+
+    /** Placeholder stored in users.national_id_scan for imported accounts. */
+    public static final String IMPORTED_SCAN_PLACEHOLDER = "registrar-import";
+
+    private static final String USERS_SEQUENCE = "users_id_seq";
+    private static final String PROFILES_SEQUENCE = "profiles_id_seq";
+
+    private static final List<String> REQUIRED_COLUMNS = List.of(
+        "email", "password", "firstname", "lastname", "birthdate", "nationalid", "year", "facultyid", "departmentid"
+    );
+
+    private static final String INSERT_USER_SQL = """
+        INSERT INTO users (id, email, password, first_name, last_name, birth_date, national_id, national_id_scan,
+                           role, status, email_verified, year, faculty_id, department_id)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, 'student', 'pending', false, ?, ?, ?)
+        """;
+
+    private static final String INSERT_PROFILES_SQL = """
+        INSERT INTO profiles (id, user_id, visibility)
+        SELECT p.id, p.user_id, 'public'
+        FROM unnest(CAST(? AS INTEGER[]), CAST(? AS INTEGER[])) AS p(id, user_id)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final PasswordEncoder passwordEncoder;
+    private final ReferenceDataService referenceDataService;
+    private final ThreadPoolTaskExecutor passwordHashExecutor;
+    private final JsonMapper jsonMapper;
+    private final PooledIdAllocator idAllocator;
+
+    @Value("${app.import.chunk-size:500}")
+    private int chunkSize;
+
+    public UserImportService(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             PasswordEncoder passwordEncoder,
+                             ReferenceDataService referenceDataService,
+                             @Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor passwordHashExecutor,
+                             JsonMapper jsonMapper,
+                             PooledIdAllocator idAllocator) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionManager = transactionManager;
+        this.passwordEncoder = passwordEncoder;
+        this.referenceDataService = referenceDataService;
+        this.passwordHashExecutor = passwordHashExecutor;
+        this.jsonMapper = jsonMapper;
+        this.idAllocator = idAllocator;
+    }
+
+    /**
+     * Outcome of a single imported row.
+     */
+    public enum RowStatus {
+        CREATED,
+        SKIPPED,
+        FAILED
+    }
+
+    /**
+     * A parsed CSV row waiting to be inserted.
+     */
+    private static final class PendingUser {
+        final int rowNumber;
+        final String email;
+        final String rawPassword;
+        final String firstName;
+        final String lastName;
+        final LocalDate birthDate;
+        final String nationalId;
+        final int year;
+        final int facultyId;
+        final int departmentId;
+        String passwordHash;
+        int id;
+
+        PendingUser(int rowNumber, String email, String rawPassword, String firstName, String lastName,
+                    LocalDate birthDate, String nationalId, int year, int facultyId, int departmentId) {
+            this.rowNumber = rowNumber;
+            this.email = email;
+            this.rawPassword = rawPassword;
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.birthDate = birthDate;
+            this.nationalId = nationalId;
+            this.year = year;
+            this.facultyId = facultyId;
+            this.departmentId = departmentId;
+        }
+    }
+
+    /**
+     * Checks that a CSV file starts with a header containing all required columns.
+     * Called before streaming starts so header problems can still be reported as 400.
+     *
+     * @param csv CSV input (UTF-8, header row first)
+     * @throws InvalidStateException if the file is empty or the header is missing required columns
+     */
+    public void validateHeader(InputStream csv) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+            String headerLine = reader.readLine();
+            if (headerLine == null) {
+                throw new InvalidStateException("CSV file is empty");
+            }
+            parseHeader(headerLine);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Imports users from a CSV stream and writes an NDJSON report to the output stream.
+     * Intended to be called from a {@code StreamingResponseBody}.
+     *
+     * @param csv CSV input (UTF-8, header row first)
+     * @param report output stream receiving one JSON object per input row plus a final summary
+     * @throws InvalidStateException if the header is missing required columns
+     */
+    public void importUsers(InputStream csv, OutputStream report) {
+        Set<String> existingEmails = new HashSet<>();
+        Set<String> existingNationalIds = new HashSet<>();
+        jdbcTemplate.query("SELECT email, national_id FROM users", rs -> {
+            existingEmails.add(rs.getString(1).toLowerCase(Locale.ROOT));
+            existingNationalIds.add(rs.getString(2));
+        });
+
+        Map<RowStatus, Integer> totals = new LinkedHashMap<>();
+        for (RowStatus status : RowStatus.values()) {
+            totals.put(status, 0);
+        }
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+            String headerLine = reader.readLine();
+            if (headerLine == null) {
+                throw new InvalidStateException("CSV file is empty");
+            }
+            Map<String, Integer> columns = parseHeader(headerLine);
+
+            List<PendingUser> chunk = new ArrayList<>(chunkSize);
+            List<Map<String, Object>> chunkResults = new ArrayList<>();
+            String line;
+            int rowNumber = 1;
+
+            while ((line = reader.readLine()) != null) {
+                rowNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                try {
+                    PendingUser user = parseRow(rowNumber, parseCsvLine(line), columns);
+                    String emailKey = user.email.toLowerCase(Locale.ROOT);
+                    if (existingEmails.contains(emailKey)) {
+                        chunkResults.add(result(rowNumber, user.email, RowStatus.SKIPPED, "Email already exists"));
+                    } else if (existingNationalIds.contains(user.nationalId)) {
+                        chunkResults.add(result(rowNumber, user.email, RowStatus.SKIPPED, "National ID already exists"));
+                    } else {
+                        existingEmails.add(emailKey);
+                        existingNationalIds.add(user.nationalId);
+                        chunk.add(user);
+                    }
+                } catch (RuntimeException e) {
+                    chunkResults.add(result(rowNumber, null, RowStatus.FAILED, e.getMessage()));
+                }
+
+                if (chunk.size() >= chunkSize) {
+                    chunkResults.addAll(insertChunk(chunk));
+                    writeResults(report, chunkResults, totals);
+                    chunk.clear();
+                    chunkResults.clear();
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                chunkResults.addAll(insertChunk(chunk));
+            }
+            writeResults(report, chunkResults, totals);
+
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("summary", totals);
+            writeLine(report, summary);
+            report.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        log.info("User import finished: {}", totals);
+    }
+
+    /**
+     * Hashes passwords in parallel and inserts the chunk in one transaction.
+     * Rows whose password could not be hashed are reported as failed and left out; if the batch
+     * fails, every remaining row of the chunk is reported as failed.
+     */
+    private List<Map<String, Object>> insertChunk(List<PendingUser> pending) {
+        List<CompletableFuture<Void>> hashes = new ArrayList<>(pending.size());
+        for (PendingUser user : pending) {
+            hashes.add(CompletableFuture.runAsync(
+                    () -> user.passwordHash = passwordEncoder.encode(user.rawPassword),
+                    passwordHashExecutor));
+        }
+
+        List<Map<String, Object>> results = new ArrayList<>(pending.size());
+        List<PendingUser> chunk = new ArrayList<>(pending.size());
+        for (int i = 0; i < pending.size(); i++) {
+            PendingUser user = pending.get(i);
+            try {
+                hashes.get(i).join();
+                chunk.add(user);
+            } catch (CompletionException | CancellationException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                log.warn("Password hashing failed for import row {}: {}", user.rowNumber, cause.toString());
+                results.add(result(user.rowNumber, user.email, RowStatus.FAILED, "Password hashing failed"));
+            }
+        }
+        if (chunk.isEmpty()) {
+            return results;
+        }
+
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(tx -> {
+                int[] userIds = idAllocator.allocate(USERS_SEQUENCE, chunk.size());
+                for (int i = 0; i < chunk.size(); i++) {
+                    chunk.get(i).id = userIds[i];
+                }
+                jdbcTemplate.batchUpdate(INSERT_USER_SQL, chunk, chunk.size(), (ps, user) -> {
+                    ps.setInt(1, user.id);
+                    ps.setString(2, user.email);
+                    ps.setString(3, user.passwordHash);
+                    ps.setString(4, user.firstName);
+                    ps.setString(5, user.lastName);
+                    ps.setObject(6, user.birthDate);
+                    ps.setString(7, user.nationalId);
+                    ps.setString(8, IMPORTED_SCAN_PLACEHOLDER);
+                    ps.setInt(9, user.year);
+                    ps.setInt(10, user.facultyId);
+                    ps.setInt(11, user.departmentId);
+                });
+                int[] profileIds = idAllocator.allocate(PROFILES_SEQUENCE, chunk.size());
+                jdbcTemplate.update(INSERT_PROFILES_SQL, profileIds, userIds);
+            });
+            for (PendingUser user : chunk) {
+                results.add(result(user.rowNumber, user.email, RowStatus.CREATED, null));
+            }
+        } catch (RuntimeException e) {
+            String cause = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            log.warn("Import chunk of {} rows failed: {}", chunk.size(), cause);
+            for (PendingUser user : chunk) {
+                results.add(result(user.rowNumber, user.email, RowStatus.FAILED,
+                        "Batch insert failed: " + cause));
+            }
+        }
+        return results;
+    }
+
+    private Map<String, Integer> parseHeader(String headerLine) {
+        // Spreadsheet exports often start with a UTF-8 byte order mark
+        List<String> names = parseCsvLine(headerLine.startsWith("\uFEFF") ? headerLine.substring(1) : headerLine);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(name -> !columns.containsKey(name)).toList();
+        if (!missing.isEmpty()) {
+            throw new InvalidStateException("CSV header is missing columns: " + String.join(", ", missing));
+        }
+        return columns;
+    }
+
+    private PendingUser parseRow(int rowNumber, List<String> values, Map<String, Integer> columns) {
+        String email = required(values, columns, "email");
+        String password = required(values, columns, "password");
+        String firstName = required(values, columns, "firstname");
+        String lastName = required(values, columns, "lastname");
+        String nationalId = required(values, columns, "nationalid");
+
+        if (!email.toLowerCase(Locale.ROOT).endsWith(ValidationConstants.EMAIL_DOMAIN)
+                || email.length() > ValidationConstants.MAX_EMAIL_LENGTH) {
+            throw new InvalidStateException("Email must end with " + ValidationConstants.EMAIL_DOMAIN);
+        }
+        if (password.length() < ValidationConstants.MIN_PASSWORD_LENGTH
+                || password.length() > ValidationConstants.MAX_PASSWORD_LENGTH) {
+            throw new InvalidStateException("Password must be between 8 and 100 characters");
+        }
+        if (firstName.length() > ValidationConstants.MAX_NAME_LENGTH
+                || lastName.length() > ValidationConstants.MAX_NAME_LENGTH) {
+            throw new InvalidStateException("Names must not exceed 50 characters");
+        }
+        if (!ValidationConstants.NATIONAL_ID_PATTERN.matcher(nationalId).matches()) {
+            throw new InvalidStateException("National ID must be exactly 14 digits");
+        }
+
+        LocalDate birthDate;
+        try {
+            birthDate = LocalDate.parse(required(values, columns, "birthdate"));
+        } catch (DateTimeParseException e) {
+            throw new InvalidStateException("Birth date must use the yyyy-MM-dd format");
+        }
+        if (!birthDate.isBefore(LocalDate.now())) {
+            throw new InvalidStateException("Birth date must be in the past");
+        }
+
+        int year = requiredInt(values, columns, "year");
+        int facultyId = requiredInt(values, columns, "facultyid");
+        int departmentId = requiredInt(values, columns, "departmentid");
+        referenceDataService.validateAcademicSelection(facultyId, departmentId, year);
+
+        return new PendingUser(rowNumber, email, password, firstName, lastName, birthDate,
+                nationalId, year, facultyId, departmentId);
+    }
+
+    private String required(List<String> values, Map<String, Integer> columns, String column) {
+        int index = columns.get(column);
+        String value = index < values.size() ? values.get(index).trim() : "";
+        if (value.isEmpty()) {
+            throw new InvalidStateException("Missing value for " + column);
+        }
+        return value;
+    }
+
+    private int requiredInt(List<String> values, Map<String, Integer> columns, String column) {
+        try {
+            return Integer.parseInt(required(values, columns, column));
+        } catch (NumberFormatException e) {
+            throw new InvalidStateException("Invalid number for " + column);
+        }
+    }
+
+    /**
+     * Splits one CSV line (RFC 4180 quoting, no embedded line breaks).
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    private Map<String, Object> result(int rowNumber, String email, RowStatus status, String message) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("row", rowNumber);
+        result.put("email", email);
+        result.put("status", status);
+        result.put("message", message);
+        return result;
+    }
+
+    private void writeResults(OutputStream report, List<Map<String, Object>> results,
+                              Map<RowStatus, Integer> totals) throws IOException {
+        results.sort((a, b) -> Integer.compare((Integer) a.get("row"), (Integer) b.get("row")));
+        for (Map<String, Object> result : results) {
+            totals.merge((RowStatus) result.get("status"), 1, Integer::sum);
+            writeLine(report, result);
+        }
+        report.flush();
+    }
+
+    private void writeLine(OutputStream report, Object value) throws IOException {
+        report.write(jsonMapper.writeValueAsBytes(value));
+        report.write('\n');
+    }
+}
@@ -0,0 +1,51 @@
+package com.abdelwahab.CampusCard.domain.admin.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.abdelwahab.CampusCard.domain.common.scheduling.ClusterJob;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Clears email verification tokens that can no longer be used.
+ *
+ * <p>Tokens expire 24 hours after they were sent (see {@link AdminService#verifyEmail}); expired
+ * tokens are removed so they do not linger in the users table. Runs on one node at a time via
+ * {@link com.abdelwahab.CampusCard.domain.common.scheduling.ClusterJobRunner}.
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class VerificationTokenPurgeJob implements ClusterJob {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.jobs.verification-token-purge.cron:0 15 * * * *}")
+    private String cron;
+
+    @Override
+    public String getName() {
+        return "verification-token-purge";
+    }
+
+    @Override
+    public String getCron() {
+        return cron;
+    }
+
+    @Override
+    public String run() {
+        int purged = jdbcTemplate.update("""
+            UPDATE users
+            SET email_verification_token = NULL, email_verification_sent_at = NULL
+            WHERE email_verification_token IS NOT NULL
+              AND email_verification_sent_at < CURRENT_TIMESTAMP - INTERVAL '24 hours'
+            """);
+        return "Purged " + purged + " expired verification tokens";
+    }
+}
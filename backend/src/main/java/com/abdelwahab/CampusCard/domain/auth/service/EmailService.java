@@ -109,16 +109,16 @@ public class EmailService {
     /**
      * Send rejection notification to user.
      * 
-     * @if (mailSender == null) {
-            System.out.println("Email sending disabled - mailSender not configured");
-            return;
-        }
-        
-        param toEmail User's email address
+     * @param toEmail User's email address
      * @param firstName User's first name
      * @param reason Rejection reason
      */
     public void sendRejectionEmail(String toEmail, String firstName, String reason) {
+        if (mailSender == null) {
+            System.out.println("Email sending disabled - mailSender not configured");
+            return;
+        }
+        
         SimpleMailMessage message = new SimpleMailMessage();
         message.setFrom(fromEmail);
         message.setTo(toEmail);
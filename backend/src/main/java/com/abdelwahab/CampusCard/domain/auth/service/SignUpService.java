@@ -1,5 +1,8 @@
 package com.abdelwahab.CampusCard.domain.auth.service;
 
+import java.time.Instant;
+
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,9 +15,11 @@ import com.abdelwahab.CampusCard.domain.profile.model.Profile;
 import com.abdelwahab.CampusCard.domain.user.model.User;
 import com.abdelwahab.CampusCard.domain.academic.repository.DepartmentRepository;
 import com.abdelwahab.CampusCard.domain.academic.repository.FacultyRepository;
+import com.abdelwahab.CampusCard.domain.academic.service.ReferenceDataService;
 import com.abdelwahab.CampusCard.domain.profile.repository.ProfileRepository;
 import com.abdelwahab.CampusCard.domain.user.repository.UserRepository;
 import com.abdelwahab.CampusCard.domain.storage.service.MinioService;
+import com.abdelwahab.CampusCard.domain.common.event.UserRegisteredEvent;
 import com.abdelwahab.CampusCard.domain.common.exception.DuplicateResourceException;
 import com.abdelwahab.CampusCard.domain.common.exception.ResourceNotFoundException;
 import com.abdelwahab.CampusCard.domain.common.exception.InvalidStateException;
@@ -34,6 +39,7 @@ import lombok.RequiredArgsConstructor;
  *   <li>Uploads national ID scan to MinIO storage</li>
  *   <li>Creates user account with PENDING status</li>
  *   <li>Initializes empty profile for user</li>
+ *   <li>Publishes a {@link UserRegisteredEvent} (live admin approval queue)</li>
  * </ul>
  *
  * <p>New users are created with PENDING status and require admin approval
@@ -50,9 +56,11 @@ public class SignUpService {
     private final UserRepository userRepository;
     private final FacultyRepository facultyRepository;
     private final DepartmentRepository departmentRepository;
+    private final ReferenceDataService referenceDataService;
     private final ProfileRepository profileRepository;
     private final PasswordEncoder passwordEncoder;
     private final MinioService minioService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Registers a new user account with complete validation and setup.
@@ -94,22 +102,11 @@ public class SignUpService {
             throw new DuplicateResourceException("User", "nationalId", request.getNationalId());
         }
 
-        // Validate faculty exists
-        Faculty faculty = facultyRepository.findById(request.getFacultyId())
-            .orElseThrow(() -> new ResourceNotFoundException("Faculty", "id", request.getFacultyId()));
-
-        // Validate department exists and belongs to the faculty
-        Department department = departmentRepository.findById(request.getDepartmentId())
-            .orElseThrow(() -> new ResourceNotFoundException("Department", "id", request.getDepartmentId()));
-        
-        if (!department.getFaculty().getId().equals(faculty.getId())) {
-            throw new InvalidStateException("Department does not belong to the selected faculty");
-        }
-
-        // Validate year is within faculty's year range
-        if (request.getYear() < 1 || request.getYear() > faculty.getYearsNumbers()) {
-            throw new InvalidStateException("Invalid year for the selected faculty");
-        }
+        // Validate faculty, department and year against the in-memory reference data
+        referenceDataService.validateAcademicSelection(
+            request.getFacultyId(), request.getDepartmentId(), request.getYear());
+        Faculty faculty = facultyRepository.getReferenceById(request.getFacultyId());
+        Department department = departmentRepository.getReferenceById(request.getDepartmentId());
 
         // Create new user with temporary national ID scan placeholder
         User user = User.builder()
@@ -139,6 +136,19 @@ public class SignUpService {
             .build();
         profileRepository.save(profile);
 
+        eventPublisher.publishEvent(new UserRegisteredEvent(
+            savedUser.getId(),
+            savedUser.getEmail(),
+            savedUser.getFirstName(),
+            savedUser.getLastName(),
+            savedUser.getNationalId(),
+            savedUser.getBirthDate(),
+            savedUser.getYear(),
+            request.getFacultyId(),
+            request.getDepartmentId(),
+            scanUrl,
+            Instant.now()));
+
         return SignUpResponse.builder()
             .id(savedUser.getId())
             .email(savedUser.getEmail())
@@ -0,0 +1,33 @@
+package com.abdelwahab.CampusCard.domain.common.cluster;
+
+/**
+ * Applies cache invalidations received from other backend nodes.
+ *
+ * <p>Implementations are Spring beans owning one in-process cache; they are discovered
+ * automatically by {@link ClusterInvalidationService}. Handlers run on the listener thread and
+ * should only evict or swap data (no long blocking work).
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+public interface CacheInvalidationHandler {
+
+    /**
+     * @return cache name used in invalidation messages (e.g., {@code "reference-data"})
+     */
+    String getCacheName();
+
+    /**
+     * Evict one entry.
+     *
+     * @param key entry key as published by the changing node
+     */
+    void invalidate(String key);
+
+    /**
+     * Evict everything. Called for whole-cache messages and after the listener reconnects,
+     * because notifications sent while disconnected are lost.
+     */
+    void invalidateAll();
+}
@@ -0,0 +1,261 @@
+package com.abdelwahab.CampusCard.domain.common.cluster;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Keeps in-process caches coherent across backend replicas with PostgreSQL {@code LISTEN/NOTIFY}.
+ *
+ * <p>Publishing: {@link #publish(String, String)} runs {@code pg_notify} on the caller's
+ * connection. NOTIFY is transactional, so inside a transaction the message is delivered only if
+ * and when the transaction commits; outside one it is sent immediately.
+ *
+ * <p>Subscribing: a daemon thread holds one dedicated connection (taken from the pool for the
+ * lifetime of the application), runs {@code LISTEN} and polls for notifications. Messages from
+ * this node are ignored; others are routed to the {@link CacheInvalidationHandler} registered for
+ * the cache name ({@code "*"} flushes every cache). If the connection fails the thread reconnects
+ * with exponential backoff and then flushes all caches, since messages sent in between are lost.
+ *
+ * <p>Message format (JSON, well below the 8000 byte NOTIFY limit):
+ * {@code {"n":"<node id>","c":"<cache>","k":"<key or null>"}}.
+ *
+ * <p>Disabled with {@code app.cluster.invalidation.enabled=false} (single node, non-PostgreSQL
+ * databases): publishing becomes a no-op and no listener is started.
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Service
+@Slf4j
+public class ClusterInvalidationService implements SmartLifecycle {
+
+    /** Cache name that flushes every registered cache. */
+    public static final String ALL_CACHES = "*";
+
+    private static final long MAX_BACKOFF_MS = 30_000;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<CacheInvalidationHandler> handlers;
+    private final JsonMapper jsonMapper;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Value("${app.cluster.invalidation.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.cluster.invalidation.channel:campuscard_invalidation}")
+    private String channel;
+
+    @Value("${app.cluster.invalidation.poll-timeout-ms:10000}")
+    private int pollTimeoutMs;
+
+    private volatile boolean running;
+    private volatile Thread listenerThread;
+    private volatile Connection listenerConnection;
+
+    public ClusterInvalidationService(DataSource dataSource,
+                                      JdbcTemplate jdbcTemplate,
+                                      ObjectProvider<CacheInvalidationHandler> handlers,
+                                      JsonMapper jsonMapper,
+                                      MeterRegistry meterRegistry) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.handlers = handlers;
+        this.jsonMapper = jsonMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Tell other nodes to evict an entry (or the whole cache when {@code key} is null).
+     * Delivered after the current transaction commits, if there is one.
+     *
+     * @param cacheName cache name of the handler on the other nodes
+     * @param key entry key, or null for the whole cache
+     */
+    public void publish(String cacheName, String key) {
+        if (!enabled) {
+            return;
+        }
+        Map<String, String> message = new LinkedHashMap<>();
+        message.put("n", nodeId);
+        message.put("c", cacheName);
+        message.put("k", key);
+
+        jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", String.class,
+                channel, jsonMapper.writeValueAsString(message));
+        Counter.builder("campuscard.cluster.invalidations.published")
+                .tag("cache", cacheName)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * @return identifier of this node in invalidation messages
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        Thread thread = new Thread(this::listenLoop, "cluster-invalidation-listener");
+        thread.setDaemon(true);
+        listenerThread = thread;
+        thread.start();
+        log.info("Cluster cache invalidation listening on channel '{}' as node {}", channel, nodeId);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = listenerThread;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        closeQuietly(listenerConnection);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listenLoop() {
+        long backoffMs = 1_000;
+        boolean reconnecting = false;
+
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                listenerConnection = connection;
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+
+                if (reconnecting) {
+                    log.info("Cluster invalidation listener reconnected; flushing all caches");
+                    flushAll();
+                }
+                backoffMs = 1_000;
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+                    if (notifications == null || notifications.length == 0) {
+                        // Keep-alive: surfaces broken connections that polling alone would not notice
+                        try (Statement statement = connection.createStatement()) {
+                            statement.execute("SELECT 1");
+                        }
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        handle(notification.getParameter());
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    break;
+                }
+                reconnecting = true;
+                Counter.builder("campuscard.cluster.listener.reconnects").register(meterRegistry).increment();
+                log.warn("Cluster invalidation listener failed ({}); reconnecting in {} ms", e.getMessage(), backoffMs);
+                try {
+                    Thread.sleep(backoffMs);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                backoffMs = Math.min(backoffMs * 2, MAX_BACKOFF_MS);
+            } finally {
+                listenerConnection = null;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void handle(String payload) {
+        Map<String, String> message;
+        try {
+            message = jsonMapper.readValue(payload, Map.class);
+        } catch (RuntimeException e) {
+            log.warn("Ignoring malformed invalidation message: {}", payload);
+            return;
+        }
+        if (nodeId.equals(message.get("n"))) {
+            return;
+        }
+
+        String cacheName = message.get("c");
+        String key = message.get("k");
+        Counter.builder("campuscard.cluster.invalidations.received")
+                .tag("cache", String.valueOf(cacheName))
+                .register(meterRegistry)
+                .increment();
+
+        if (ALL_CACHES.equals(cacheName)) {
+            flushAll();
+            return;
+        }
+        for (CacheInvalidationHandler handler : handlers) {
+            if (handler.getCacheName().equals(cacheName)) {
+                apply(handler, key);
+            }
+        }
+    }
+
+    private void apply(CacheInvalidationHandler handler, String key) {
+        try {
+            if (key == null) {
+                handler.invalidateAll();
+            } else {
+                handler.invalidate(key);
+            }
+        } catch (RuntimeException e) {
+            log.error("Cache invalidation failed for {}: {}", handler.getCacheName(), e.getMessage(), e);
+        }
+    }
+
+    private void flushAll() {
+        List<CacheInvalidationHandler> all = handlers.orderedStream().toList();
+        for (CacheInvalidationHandler handler : all) {
+            apply(handler, null);
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            // Already broken; nothing to do
+        }
+    }
+}
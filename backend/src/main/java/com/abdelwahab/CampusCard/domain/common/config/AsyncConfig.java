@@ -0,0 +1,140 @@
+package com.abdelwahab.CampusCard.domain.common.config;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Configuration of bounded thread pools used for CPU- or IO-heavy background work.
+ *
+ * <p>Pools are bounded in both threads and queue size. When a queue is full the submitting
+ * thread runs the task itself, which throttles producers instead of growing memory. The domain
+ * event pool is the exception: it rejects instead, so request threads never run listeners
+ * (see {@link com.abdelwahab.CampusCard.domain.common.event.DomainEventBus}).
+ *
+ * <p>Executors are registered with {@code defaultCandidate = false} so they do not replace
+ * Spring Boot's auto-configured {@code applicationTaskExecutor} (used for MVC async requests);
+ * inject them by name with {@code @Qualifier}.
+ *
+ * <p>Pools:
+ * <ul>
+ *   <li><strong>passwordHashExecutor:</strong> BCrypt hashing during bulk user imports</li>
+ *   <li><strong>domainEventExecutor:</strong> domain event listeners (notification emails, live streams)</li>
+ *   <li><strong>eventStreamExecutor:</strong> single thread writing Server-Sent Events to open admin streams</li>
+ *   <li><strong>workQueueExecutor:</strong> long-running work queue worker loops (one thread per worker)</li>
+ *   <li><strong>moderationRescanPool:</strong> fork-join pool matching profile chunks against new banned words</li>
+ *   <li><strong>referenceDataReloadExecutor:</strong> single thread reloading reference data on cluster invalidations</li>
+ * </ul>
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * Executor for parallel BCrypt password hashing (CPU bound, sized to available cores by default).
+     */
+    @Bean(defaultCandidate = false)
+    public ThreadPoolTaskExecutor passwordHashExecutor(
+            @Value("${app.import.hash-threads:0}") int hashThreads,
+            @Value("${app.import.chunk-size:500}") int chunkSize) {
+        int threads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(chunkSize);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    /**
+     * Executor for domain event listeners. Uses the default abort policy: a full queue rejects
+     * the task and the event bus drops and counts it.
+     */
+    @Bean(defaultCandidate = false)
+    public ThreadPoolTaskExecutor domainEventExecutor(
+            @Value("${app.events.threads:4}") int threads,
+            @Value("${app.events.queue-capacity:10000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("domain-event-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * Single-threaded executor for Server-Sent Event broadcasts.
+     * Keeps events in order and keeps slow clients off the request threads that raised the events.
+     */
+    @Bean(defaultCandidate = false)
+    public ThreadPoolTaskExecutor eventStreamExecutor(
+            @Value("${app.admin.stream.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("event-stream-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    /**
+     * Threads for the durable work queue workers. Each thread runs one claim/process loop for the
+     * lifetime of the application, so the pool has no queue.
+     */
+    @Bean(defaultCandidate = false)
+    public ThreadPoolTaskExecutor workQueueExecutor(@Value("${app.queue.workers:4}") int workers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("work-queue-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * Single thread reloading the reference data snapshot when another node changed it, so the
+     * cluster invalidation listener never waits for the database. One reload may wait while one
+     * runs; further requests are discarded because the waiting reload will read their changes.
+     */
+    @Bean(defaultCandidate = false)
+    public ThreadPoolTaskExecutor referenceDataReloadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("reference-data-reload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        return executor;
+    }
+
+    /**
+     * Fork-join pool for parallel banned word matching during profile rescans (CPU bound,
+     * sized to available cores by default). Separate from the common pool so rescans cannot
+     * starve other parallel streams.
+     */
+    @Bean(defaultCandidate = false, destroyMethod = "shutdown")
+    public ForkJoinPool moderationRescanPool(@Value("${app.moderation.rescan.parallelism:0}") int parallelism) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        return new ForkJoinPool(threads, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("moderation-rescan-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+}
@@ -7,7 +7,9 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.abdelwahab.CampusCard.domain.common.security.ModerationThrottleInterceptor;
 import com.abdelwahab.CampusCard.domain.common.security.RateLimitInterceptor;
+import com.abdelwahab.CampusCard.domain.moderation.service.ModerationThrottle;
 
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
@@ -25,6 +27,9 @@ import io.github.bucket4j.Refill;
  * 
  * <p>Uses Bucket4j token bucket algorithm for efficient rate limiting.
  * Rate limits are applied per IP address.
+ *
+ * <p>Profile updates ({@code PUT /api/profile}) are additionally throttled per user after repeated
+ * content moderation violations (see {@link ModerationThrottle}).
  * 
  * @author CampusCard Team
  * @version 1.0
@@ -32,6 +37,8 @@ import io.github.bucket4j.Refill;
  */
 @Configuration
 public class RateLimitConfig implements WebMvcConfigurer {
+
+    private final ModerationThrottle moderationThrottle;
     
     @Value("${app.ratelimit.login.maxAttempts}")
     private int loginMaxAttempts;
@@ -44,6 +51,10 @@ public class RateLimitConfig implements WebMvcConfigurer {
     
     @Value("${app.ratelimit.signup.windowMinutes}")
     private int signupWindowMinutes;
+
+    public RateLimitConfig(ModerationThrottle moderationThrottle) {
+        this.moderationThrottle = moderationThrottle;
+    }
     
     /**
      * Registers the rate limiting interceptor for authentication endpoints.
@@ -64,6 +75,9 @@ public class RateLimitConfig implements WebMvcConfigurer {
         
         registry.addInterceptor(new RateLimitInterceptor(signupBucket, "signup"))
                 .addPathPatterns("/api/signup");
+
+        registry.addInterceptor(new ModerationThrottleInterceptor(moderationThrottle))
+                .addPathPatterns("/api/profile");
     }
     
     /**
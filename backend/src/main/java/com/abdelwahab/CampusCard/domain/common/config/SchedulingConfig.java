@@ -0,0 +1,18 @@
+package com.abdelwahab.CampusCard.domain.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} methods (SSE heartbeats, debounced statistics pushes) and
+ * cluster jobs ({@link com.abdelwahab.CampusCard.domain.common.scheduling.ClusterJobRunner}).
+ * Tasks run on Spring Boot's auto-configured task scheduler ({@code spring.task.scheduling.*}).
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
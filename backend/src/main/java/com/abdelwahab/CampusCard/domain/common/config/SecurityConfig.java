@@ -21,6 +21,7 @@ import com.abdelwahab.CampusCard.domain.user.repository.UserRepository;
 import com.abdelwahab.CampusCard.domain.common.security.JwtAuthenticationFilter;
 import com.abdelwahab.CampusCard.domain.common.security.JwtService;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -93,6 +94,7 @@ public class SecurityConfig {
         configuration.addAllowedMethod("*"); // Allow all HTTP methods (GET, POST, PUT, DELETE, etc.)
         configuration.addAllowedHeader("*"); // Allow all headers
         configuration.setAllowCredentials(true); // Allow credentials (cookies, authorization headers)
+        configuration.addExposedHeader("X-Next-Cursor"); // Keyset pagination cursor (flagged content queue)
         
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
@@ -135,6 +137,10 @@ public class SecurityConfig {
             
             // Configure authorization rules for HTTP requests
             .authorizeHttpRequests(auth -> auth
+                // Async dispatches (e.g., streamed exports) were already authorized on the
+                // original request; the JWT filter does not run again for them
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                
                 // Allow public access to authentication endpoints
                 .requestMatchers("/api/signup", "/api/login").permitAll()
                 
@@ -152,6 +158,10 @@ public class SecurityConfig {
                 // Only users with ROLE_ADMIN can access /api/admin/**
                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
                 
+                // Actuator: health is public (load balancers), metrics are admin only
+                .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
+                
                 // All other requests require authentication
                 .anyRequest().authenticated()
             );
@@ -0,0 +1,26 @@
+package com.abdelwahab.CampusCard.domain.common.converter;
+
+import com.abdelwahab.CampusCard.domain.moderation.model.FlaggedContent;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = true)
+public class FlaggedContentStatusConverter implements AttributeConverter<FlaggedContent.Status, String> {
+
+    @Override
+    public String convertToDatabaseColumn(FlaggedContent.Status status) {
+        if (status == null) {
+            return null;
+        }
+        return status.getValue();
+    }
+
+    @Override
+    public FlaggedContent.Status convertToEntityAttribute(String dbData) {
+        if (dbData == null) {
+            return null;
+        }
+        return FlaggedContent.Status.from(dbData);
+    }
+}
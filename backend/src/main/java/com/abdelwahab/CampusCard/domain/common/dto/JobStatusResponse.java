@@ -0,0 +1,28 @@
+package com.abdelwahab.CampusCard.domain.common.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO describing a scheduled cluster job and its most recent run.
+ * The {@code last*} fields are null if the job never ran.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobStatusResponse {
+    private String name;
+    private String cron;
+    private String lastStatus;
+    private String lastNode;
+    private LocalDateTime lastStartedAt;
+    private LocalDateTime lastFinishedAt;
+    private Long lastDurationMs;
+    private String lastMessage;
+    private LocalDateTime lastSuccessAt;
+}
@@ -0,0 +1,30 @@
+package com.abdelwahab.CampusCard.domain.common.event;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Raised when the banned word list changes (words added or removed).
+ * Added words are listed so existing content can be rescanned for them only.
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+public record BannedWordsChangedEvent(List<String> addedWords, int removed, Instant occurredAt) implements DomainEvent {
+
+    public BannedWordsChangedEvent {
+        addedWords = List.copyOf(addedWords);
+    }
+
+    public BannedWordsChangedEvent(List<String> addedWords, int removed) {
+        this(addedWords, removed, Instant.now());
+    }
+
+    /**
+     * @return number of words added
+     */
+    public int added() {
+        return addedWords.size();
+    }
+}
@@ -0,0 +1,30 @@
+package com.abdelwahab.CampusCard.domain.common.event;
+
+import java.time.Instant;
+
+/**
+ * Marker for events raised by domain services when business state changes.
+ *
+ * <p>Events are published with Spring's {@code ApplicationEventPublisher} inside the
+ * transaction that made the change. {@link DomainEventBus} picks them up after commit and
+ * hands them to {@link DomainEventListener} beans on a bounded executor, so listeners only
+ * see committed changes and never run on the request thread.
+ *
+ * <p>Events:
+ * <ul>
+ *   <li>{@link UserRegisteredEvent}, {@link UserApprovedEvent}, {@link UserRejectedEvent}</li>
+ *   <li>{@link ProfileUpdatedEvent}, {@link RoleChangedEvent}</li>
+ *   <li>{@link BannedWordsChangedEvent}</li>
+ * </ul>
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+public interface DomainEvent {
+
+    /**
+     * @return when the change happened
+     */
+    Instant occurredAt();
+}
@@ -0,0 +1,105 @@
+package com.abdelwahab.CampusCard.domain.common.event;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Dispatches committed {@link DomainEvent}s to {@link DomainEventListener} beans asynchronously.
+ *
+ * <p>Services publish events with Spring's {@code ApplicationEventPublisher}. The bus receives
+ * them after the transaction commits (or immediately when no transaction is active) and submits
+ * one task per interested listener to the bounded {@code domainEventExecutor}. The request thread
+ * only pays for the queue offer.
+ *
+ * <p>Back-pressure: when the queue is full the task is dropped (never run on the request thread),
+ * logged and counted, so a slow or stuck listener cannot add latency to HTTP responses.
+ *
+ * <p>Metrics:
+ * <ul>
+ *   <li>{@code campuscard.events.published} (tag {@code event})</li>
+ *   <li>{@code campuscard.events.listener} timer (tags {@code listener}, {@code event}, {@code outcome})</li>
+ *   <li>{@code campuscard.events.dropped} (tags {@code listener}, {@code event})</li>
+ *   <li>{@code campuscard.events.queue.size} gauge</li>
+ * </ul>
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+@Slf4j
+public class DomainEventBus {
+
+    private final List<DomainEventListener> listeners;
+    private final ThreadPoolTaskExecutor executor;
+    private final MeterRegistry meterRegistry;
+
+    public DomainEventBus(List<DomainEventListener> listeners,
+                          @Qualifier("domainEventExecutor") ThreadPoolTaskExecutor executor,
+                          MeterRegistry meterRegistry) {
+        this.listeners = List.copyOf(listeners);
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("campuscard.events.queue.size", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .description("Domain event tasks waiting for a listener thread")
+                .register(meterRegistry);
+        log.info("Domain event bus started with {} listeners", this.listeners.size());
+    }
+
+    /**
+     * Fan out a committed event to every listener that supports it.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void dispatch(DomainEvent event) {
+        String eventName = event.getClass().getSimpleName();
+        Counter.builder("campuscard.events.published")
+                .tag("event", eventName)
+                .register(meterRegistry)
+                .increment();
+
+        for (DomainEventListener listener : listeners) {
+            if (!listener.supports(event)) {
+                continue;
+            }
+            try {
+                executor.execute(() -> invoke(listener, event, eventName));
+            } catch (TaskRejectedException e) {
+                Counter.builder("campuscard.events.dropped")
+                        .tag("listener", listener.getName())
+                        .tag("event", eventName)
+                        .register(meterRegistry)
+                        .increment();
+                log.warn("Event queue full, dropped {} for listener {}", eventName, listener.getName());
+            }
+        }
+    }
+
+    private void invoke(DomainEventListener listener, DomainEvent event, String eventName) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            listener.onEvent(event);
+        } catch (RuntimeException e) {
+            outcome = "failure";
+            log.error("Listener {} failed for {}: {}", listener.getName(), eventName, e.getMessage(), e);
+        } finally {
+            sample.stop(Timer.builder("campuscard.events.listener")
+                    .tag("listener", listener.getName())
+                    .tag("event", eventName)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+}
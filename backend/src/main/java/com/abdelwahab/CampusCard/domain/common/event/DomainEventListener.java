@@ -0,0 +1,37 @@
+package com.abdelwahab.CampusCard.domain.common.event;
+
+import org.springframework.util.ClassUtils;
+
+/**
+ * Reaction to committed domain events, run by {@link DomainEventBus} on its bounded executor.
+ *
+ * <p>Implementations are Spring beans; they are discovered automatically. Listeners run off the
+ * request thread, after the raising transaction committed, so they may be slow (emails) without
+ * affecting response times. They must not assume they run in the raising transaction.
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+public interface DomainEventListener {
+
+    /**
+     * @param event a committed domain event
+     * @return true if this listener wants the event
+     */
+    boolean supports(DomainEvent event);
+
+    /**
+     * Handle a supported event. Exceptions are logged and counted, never propagated.
+     *
+     * @param event the event
+     */
+    void onEvent(DomainEvent event);
+
+    /**
+     * @return name used in logs and metric tags
+     */
+    default String getName() {
+        return ClassUtils.getUserClass(this).getSimpleName();
+    }
+}
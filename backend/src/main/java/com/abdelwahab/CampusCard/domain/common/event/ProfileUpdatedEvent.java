@@ -0,0 +1,19 @@
+package com.abdelwahab.CampusCard.domain.common.event;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Raised when a user changes their profile (text fields, photo, visibility or ID scan).
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+public record ProfileUpdatedEvent(Integer userId, Set<String> changedFields, Instant occurredAt)
+        implements DomainEvent {
+
+    public ProfileUpdatedEvent(Integer userId, Set<String> changedFields) {
+        this(userId, Set.copyOf(changedFields), Instant.now());
+    }
+}
@@ -0,0 +1,20 @@
+package com.abdelwahab.CampusCard.domain.common.event;
+
+import java.time.Instant;
+
+import com.abdelwahab.CampusCard.domain.user.model.User;
+
+/**
+ * Raised when an admin promotes or demotes a user.
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+public record RoleChangedEvent(Integer userId, Integer adminId, User.Role previousRole, User.Role newRole,
+        Instant occurredAt) implements DomainEvent {
+
+    public RoleChangedEvent(Integer userId, Integer adminId, User.Role previousRole, User.Role newRole) {
+        this(userId, adminId, previousRole, newRole, Instant.now());
+    }
+}
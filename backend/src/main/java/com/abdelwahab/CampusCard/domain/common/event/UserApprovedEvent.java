@@ -0,0 +1,17 @@
+package com.abdelwahab.CampusCard.domain.common.event;
+
+import java.time.Instant;
+
+/**
+ * Raised when an admin approves a pending user.
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+public record UserApprovedEvent(Integer userId, Integer adminId, Instant occurredAt) implements DomainEvent {
+
+    public UserApprovedEvent(Integer userId, Integer adminId) {
+        this(userId, adminId, Instant.now());
+    }
+}
@@ -0,0 +1,26 @@
+package com.abdelwahab.CampusCard.domain.common.event;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Raised when a new student registers and is waiting for approval.
+ * Carries the fields shown in the admin approval queue, so listeners need no extra lookup.
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+public record UserRegisteredEvent(
+        Integer userId,
+        String email,
+        String firstName,
+        String lastName,
+        String nationalId,
+        LocalDate birthDate,
+        Integer year,
+        Integer facultyId,
+        Integer departmentId,
+        String nationalIdScanUrl,
+        Instant occurredAt) implements DomainEvent {
+}
@@ -0,0 +1,18 @@
+package com.abdelwahab.CampusCard.domain.common.event;
+
+import java.time.Instant;
+
+/**
+ * Raised when an admin rejects a pending user.
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+public record UserRejectedEvent(Integer userId, Integer adminId, String reason, Instant occurredAt)
+        implements DomainEvent {
+
+    public UserRejectedEvent(Integer userId, Integer adminId, String reason) {
+        this(userId, adminId, reason, Instant.now());
+    }
+}
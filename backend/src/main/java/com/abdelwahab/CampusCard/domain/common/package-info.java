@@ -9,6 +9,7 @@
  *   <li><strong>Converters:</strong> JPA attribute converters for enums (Role, Status, Visibility)</li>
  *   <li><strong>Validation:</strong> Custom validators (PSU email validation)</li>
  *   <li><strong>Exception Handling:</strong> Global exception handler</li>
+ *   <li><strong>Persistence:</strong> Pooled sequence id allocation for plain SQL bulk inserts</li>
  * </ul>
  *
  * <p>Security components:
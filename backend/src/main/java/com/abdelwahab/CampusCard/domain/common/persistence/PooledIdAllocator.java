@@ -0,0 +1,81 @@
+package com.abdelwahab.CampusCard.domain.common.persistence;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Allocates primary keys for plain SQL inserts from the pooled entity sequences, the same way
+ * Hibernate's pooled-lo optimizer does for the entities.
+ *
+ * <p>The entity sequences advance by {@value #BLOCK_SIZE} (migration V6): each {@code nextval()}
+ * reserves the ids {@code value .. value + 49}. An INSERT that leaves the id to the column default
+ * therefore consumes a whole block for one row. Bulk paths (user import, banned word import,
+ * flag writes) instead take their ids from here: the unused rest of a block is kept in memory
+ * per sequence and handed out to the next call, and missing blocks are reserved with a single
+ * query. Ids reserved but not used (rows skipped by {@code ON CONFLICT}, restarts) leave gaps,
+ * as with Hibernate.
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class PooledIdAllocator {
+
+    /** Must match the sequences' INCREMENT BY and the entities' {@code allocationSize}. */
+    public static final int BLOCK_SIZE = 50;
+
+    private static final String NEXTVAL_SQL = "SELECT nextval(CAST(? AS regclass)) FROM generate_series(1, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    /**
+     * Remaining ids of the current block of one sequence (guarded by its monitor).
+     */
+    private static final class Block {
+        long next;
+        long limit;
+    }
+
+    /**
+     * Reserves ids from a pooled sequence.
+     *
+     * @param sequence sequence name (e.g. {@code users_id_seq})
+     * @param count number of ids needed
+     * @return {@code count} distinct ids
+     */
+    public int[] allocate(String sequence, int count) {
+        int[] ids = new int[count];
+        Block block = blocks.computeIfAbsent(sequence, name -> new Block());
+        synchronized (block) {
+            int filled = 0;
+            while (filled < count && block.next < block.limit) {
+                ids[filled++] = Math.toIntExact(block.next++);
+            }
+            if (filled == count) {
+                return ids;
+            }
+
+            int blockCount = (count - filled + BLOCK_SIZE - 1) / BLOCK_SIZE;
+            List<Long> starts = jdbcTemplate.queryForList(NEXTVAL_SQL, Long.class, sequence, blockCount);
+            for (long start : starts) {
+                long end = start + BLOCK_SIZE;
+                long id = start;
+                while (filled < count && id < end) {
+                    ids[filled++] = Math.toIntExact(id++);
+                }
+                block.next = id;
+                block.limit = end;
+            }
+            return ids;
+        }
+    }
+}
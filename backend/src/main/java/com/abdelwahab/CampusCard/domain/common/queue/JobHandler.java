@@ -0,0 +1,34 @@
+package com.abdelwahab.CampusCard.domain.common.queue;
+
+/**
+ * Processes work queue jobs of one type.
+ *
+ * <p>Implementations are Spring beans discovered by {@link WorkQueueWorker}. A job may be
+ * delivered more than once (retries, a node dying mid-run), so handlers must be idempotent.
+ * Throwing marks the attempt as failed; the job is retried with exponential backoff until it
+ * runs out of attempts and is dead-lettered.
+ *
+ * @param <P> payload type, deserialized from the stored JSON
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+public interface JobHandler<P> {
+
+    /**
+     * @return job type handled, as passed to {@link WorkQueue#enqueue(String, Object)}
+     */
+    String getType();
+
+    /**
+     * @return class the JSON payload is read into
+     */
+    Class<P> getPayloadType();
+
+    /**
+     * Processes one job.
+     *
+     * @param payload job payload
+     */
+    void handle(P payload);
+}
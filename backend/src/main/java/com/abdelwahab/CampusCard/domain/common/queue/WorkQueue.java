@@ -0,0 +1,69 @@
+package com.abdelwahab.CampusCard.domain.common.queue;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Producer side of the durable PostgreSQL work queue ({@code jobs} table).
+ *
+ * <p>Enqueueing is a plain INSERT on the caller's connection: inside a transaction the job only
+ * becomes visible to workers if the transaction commits, so work is never lost or run for
+ * changes that were rolled back. Jobs are processed by {@link WorkQueueWorker} on any node.
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class WorkQueue {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO jobs (type, payload, priority, run_after, max_attempts)
+        VALUES (?, ?::jsonb, ?, ?, ?)
+        RETURNING id
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JsonMapper jsonMapper;
+
+    @Value("${app.queue.max-attempts:5}")
+    private int maxAttempts;
+
+    /**
+     * Enqueues a job with default priority, ready to run immediately.
+     *
+     * @param type job type (see {@link JobHandler#getType()})
+     * @param payload payload, serialized as JSON
+     * @return job ID
+     */
+    public long enqueue(String type, Object payload) {
+        return enqueue(type, payload, 0, null);
+    }
+
+    /**
+     * Enqueues a job.
+     *
+     * @param type job type (see {@link JobHandler#getType()})
+     * @param payload payload, serialized as JSON
+     * @param priority higher runs first
+     * @param runAfter earliest start time, or null for now
+     * @return job ID
+     */
+    public long enqueue(String type, Object payload, int priority, Instant runAfter) {
+        Long id = jdbcTemplate.queryForObject(INSERT_SQL, Long.class,
+                type,
+                jsonMapper.writeValueAsString(payload),
+                priority,
+                Timestamp.from(runAfter != null ? runAfter : Instant.now()),
+                maxAttempts);
+        return id;
+    }
+}
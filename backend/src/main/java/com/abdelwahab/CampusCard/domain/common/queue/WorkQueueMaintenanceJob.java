@@ -0,0 +1,77 @@
+package com.abdelwahab.CampusCard.domain.common.queue;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.abdelwahab.CampusCard.domain.common.scheduling.ClusterJob;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Housekeeping for the work queue, run on one node at a time.
+ *
+ * <p>Workers renew the leases of the jobs they hold every heartbeat, so jobs still
+ * {@code running} after the lease timeout belong to a worker that died or lost the database; they are
+ * returned to the queue, or dead-lettered if that was their last attempt. The job also refreshes
+ * the queue depth gauges {@code campuscard.queue.depth} (ready jobs) and
+ * {@code campuscard.queue.dead} (dead letters) so scrapes never query the table.
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+public class WorkQueueMaintenanceJob implements ClusterJob {
+
+    private static final String REQUEUE_EXPIRED_SQL = """
+        UPDATE jobs
+        SET status = CASE WHEN attempts >= max_attempts THEN 'dead' ELSE 'queued' END,
+            last_error = 'Lease expired on ' || locked_by,
+            locked_by = NULL, locked_at = NULL
+        WHERE status = 'running' AND locked_at < CURRENT_TIMESTAMP - make_interval(secs => ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AtomicLong depth = new AtomicLong();
+    private final AtomicLong dead = new AtomicLong();
+
+    @Value("${app.queue.maintenance.cron:30 * * * * *}")
+    private String cron;
+
+    @Value("${app.queue.lease-timeout-ms:600000}")
+    private long leaseTimeoutMs;
+
+    public WorkQueueMaintenanceJob(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        Gauge.builder("campuscard.queue.depth", depth, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("campuscard.queue.dead", dead, AtomicLong::get).register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return "work-queue-maintenance";
+    }
+
+    @Override
+    public String getCron() {
+        return cron;
+    }
+
+    @Override
+    public String run() {
+        int requeued = jdbcTemplate.update(REQUEUE_EXPIRED_SQL, leaseTimeoutMs / 1000.0);
+        jdbcTemplate.query("""
+            SELECT COUNT(*) FILTER (WHERE status = 'queued' AND run_after <= CURRENT_TIMESTAMP) AS ready,
+                   COUNT(*) FILTER (WHERE status = 'dead') AS dead
+            FROM jobs
+            """, rs -> {
+            depth.set(rs.getLong("ready"));
+            dead.set(rs.getLong("dead"));
+        });
+        return String.format("Recovered %d expired jobs; %d ready, %d dead", requeued, depth.get(), dead.get());
+    }
+}
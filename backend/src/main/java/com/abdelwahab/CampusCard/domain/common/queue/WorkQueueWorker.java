@@ -0,0 +1,317 @@
+package com.abdelwahab.CampusCard.domain.common.queue;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Consumer side of the durable work queue: a fixed number of worker loops per node.
+ *
+ * <p>Each loop claims a batch of ready jobs with one statement
+ * ({@code UPDATE ... WHERE id IN (SELECT ... FOR UPDATE SKIP LOCKED) RETURNING ...}), so workers on
+ * all nodes claim disjoint batches without waiting for each other and throughput grows with the
+ * number of replicas. Claimed jobs are marked {@code running} with this node and a lease start;
+ * {@link WorkQueueMaintenanceJob} requeues jobs whose lease expired (node died).
+ *
+ * <p>Leases: a lease is identified by (id, {@code locked_by}, {@code attempts}), since every claim
+ * increments {@code attempts}. The lease is renewed when a job of the claimed batch starts, and
+ * every {@code app.queue.heartbeat-ms} for all jobs this node still holds, so long handlers and
+ * jobs waiting behind them in the batch never look expired. A job whose lease was already taken
+ * over is not started, and every outcome statement is conditional on the lease, so a stale worker
+ * can never delete or requeue a job another node now owns.
+ *
+ * <p>Outcomes: success deletes the job; failure reschedules it with exponential backoff
+ * ({@code app.queue.retry-base-ms * 2^(attempt-1)}, capped at {@code app.queue.retry-max-ms});
+ * the last failed attempt dead-letters it (status {@code dead}). A job type without handler on
+ * this node counts as a failed attempt. A result arriving after the lease was lost is discarded
+ * (outcome {@code lost}).
+ *
+ * <p>Metrics: counter {@code campuscard.queue.jobs} (tags type, outcome), timer
+ * {@code campuscard.queue.latency} (ready until claimed) and timer
+ * {@code campuscard.queue.processing} (tags type, outcome).
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Service
+@Slf4j
+public class WorkQueueWorker implements SmartLifecycle {
+
+    private static final String CLAIM_SQL = """
+        UPDATE jobs
+        SET status = 'running', locked_by = ?, locked_at = CURRENT_TIMESTAMP, attempts = attempts + 1
+        WHERE id IN (
+            SELECT id FROM jobs
+            WHERE status = 'queued' AND run_after <= CURRENT_TIMESTAMP
+            ORDER BY priority DESC, run_after, id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+        )
+        RETURNING id, type, payload::text AS payload, attempts, max_attempts, run_after
+        """;
+
+    private static final String LEASE_CONDITION = "id = ? AND locked_by = ? AND attempts = ? AND status = 'running'";
+
+    private static final String START_SQL = "UPDATE jobs SET locked_at = CURRENT_TIMESTAMP WHERE " + LEASE_CONDITION;
+
+    private static final String HEARTBEAT_SQL = """
+        UPDATE jobs SET locked_at = CURRENT_TIMESTAMP
+        FROM unnest(CAST(? AS BIGINT[]), CAST(? AS INTEGER[])) AS l(id, attempts)
+        WHERE jobs.id = l.id AND jobs.attempts = l.attempts AND jobs.locked_by = ? AND jobs.status = 'running'
+        """;
+
+    private final ThreadPoolTaskExecutor workQueueExecutor;
+    private final JdbcTemplate jdbcTemplate;
+    private final JsonMapper jsonMapper;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, JobHandler<?>> handlers = new HashMap<>();
+    private final String node = ManagementFactory.getRuntimeMXBean().getName();
+    // Claimed jobs not finished yet (id -> attempts), renewed by the heartbeat
+    private final Map<Long, Integer> leased = new ConcurrentHashMap<>();
+
+    @Value("${app.queue.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.queue.workers:4}")
+    private int workers;
+
+    @Value("${app.queue.batch-size:10}")
+    private int batchSize;
+
+    @Value("${app.queue.poll-interval-ms:1000}")
+    private long pollIntervalMs;
+
+    @Value("${app.queue.retry-base-ms:5000}")
+    private long retryBaseMs;
+
+    @Value("${app.queue.retry-max-ms:3600000}")
+    private long retryMaxMs;
+
+    private volatile boolean running;
+
+    public WorkQueueWorker(@Qualifier("workQueueExecutor") ThreadPoolTaskExecutor workQueueExecutor,
+                           ObjectProvider<JobHandler<?>> jobHandlers,
+                           JdbcTemplate jdbcTemplate,
+                           JsonMapper jsonMapper,
+                           MeterRegistry meterRegistry) {
+        this.workQueueExecutor = workQueueExecutor;
+        this.jdbcTemplate = jdbcTemplate;
+        this.jsonMapper = jsonMapper;
+        this.meterRegistry = meterRegistry;
+        for (JobHandler<?> handler : jobHandlers.orderedStream().toList()) {
+            JobHandler<?> previous = handlers.put(handler.getType(), handler);
+            if (previous != null) {
+                throw new IllegalStateException("Duplicate job handler for type " + handler.getType());
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < workers; i++) {
+            workQueueExecutor.execute(this::workLoop);
+        }
+        log.info("Work queue started: {} workers on {} ({} job types)", workers, node, handlers.size());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void workLoop() {
+        while (running) {
+            try {
+                List<ClaimedJob> batch = claim();
+                if (batch.isEmpty()) {
+                    Thread.sleep(pollIntervalMs);
+                    continue;
+                }
+                for (ClaimedJob job : batch) {
+                    try {
+                        if (!running) {
+                            release(job);
+                        } else if (start(job)) {
+                            process(job);
+                        }
+                    } finally {
+                        leased.remove(job.id());
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // Database unavailable: back off instead of spinning
+                log.warn("Work queue worker error: {}", e.getMessage());
+                try {
+                    Thread.sleep(pollIntervalMs);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private List<ClaimedJob> claim() {
+        Instant claimedAt = Instant.now();
+        List<ClaimedJob> batch = jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> new ClaimedJob(
+                rs.getLong("id"),
+                rs.getString("type"),
+                rs.getString("payload"),
+                rs.getInt("attempts"),
+                rs.getInt("max_attempts"),
+                rs.getTimestamp("run_after")), node, batchSize);
+
+        for (ClaimedJob job : batch) {
+            leased.put(job.id(), job.attempts());
+            Duration waited = Duration.between(job.runAfter().toInstant(), claimedAt);
+            Timer.builder("campuscard.queue.latency")
+                    .tag("type", job.type())
+                    .register(meterRegistry)
+                    .record(waited.isNegative() ? Duration.ZERO : waited);
+        }
+        return batch;
+    }
+
+    /**
+     * Renews the lease as the job starts; false if it expired while the job waited in its batch.
+     */
+    private boolean start(ClaimedJob job) {
+        if (jdbcTemplate.update(START_SQL, job.id(), node, job.attempts()) == 1) {
+            return true;
+        }
+        log.warn("Job {} ({}) lost its lease before it started; skipping", job.id(), job.type());
+        count(job.type(), "lost");
+        return false;
+    }
+
+    /**
+     * Renews the leases of all jobs this node has claimed and not finished.
+     */
+    @Scheduled(fixedDelayString = "${app.queue.heartbeat-ms:60000}")
+    void heartbeat() {
+        if (leased.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, Integer>> jobs = List.copyOf(leased.entrySet());
+        long[] ids = jobs.stream().mapToLong(Map.Entry::getKey).toArray();
+        int[] attempts = jobs.stream().mapToInt(Map.Entry::getValue).toArray();
+        try {
+            jdbcTemplate.update(HEARTBEAT_SQL, ids, attempts, node);
+        } catch (RuntimeException e) {
+            log.warn("Work queue heartbeat failed: {}", e.getMessage());
+        }
+    }
+
+    private void process(ClaimedJob job) {
+        long start = System.nanoTime();
+        String outcome;
+        try {
+            JobHandler<?> handler = handlers.get(job.type());
+            if (handler == null) {
+                // Possibly enqueued by a newer node during a rolling deployment; retry elsewhere
+                throw new IllegalStateException("No handler for job type " + job.type() + " on " + node);
+            }
+            invoke(handler, job.payload());
+            outcome = jdbcTemplate.update("DELETE FROM jobs WHERE " + LEASE_CONDITION, job.id(), node, job.attempts()) == 1
+                    ? "succeeded"
+                    : "lost";
+        } catch (RuntimeException e) {
+            log.warn("Job {} ({}) failed on attempt {}/{}: {}",
+                    job.id(), job.type(), job.attempts(), job.maxAttempts(), e.getMessage());
+            if (job.attempts() >= job.maxAttempts()) {
+                outcome = deadLetter(job, e.toString()) ? "dead" : "lost";
+            } else {
+                outcome = retry(job, e.toString()) ? "retried" : "lost";
+            }
+        }
+        if ("lost".equals(outcome)) {
+            log.warn("Job {} ({}) lost its lease while running; result discarded", job.id(), job.type());
+        }
+        Timer.builder("campuscard.queue.processing")
+                .tag("type", job.type())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (!"dead".equals(outcome)) {
+            count(job.type(), outcome);
+        }
+    }
+
+    private <P> void invoke(JobHandler<P> handler, String payload) {
+        handler.handle(jsonMapper.readValue(payload, handler.getPayloadType()));
+    }
+
+    private boolean retry(ClaimedJob job, String error) {
+        long delayMs = Math.min(retryBaseMs << Math.min(job.attempts() - 1, 30), retryMaxMs);
+        return jdbcTemplate.update("""
+            UPDATE jobs
+            SET status = 'queued', run_after = ?, locked_by = NULL, locked_at = NULL, last_error = ?
+            WHERE """ + LEASE_CONDITION,
+            Timestamp.from(Instant.now().plusMillis(delayMs)), error, job.id(), node, job.attempts()) == 1;
+    }
+
+    private boolean deadLetter(ClaimedJob job, String error) {
+        boolean updated = jdbcTemplate.update("""
+            UPDATE jobs SET status = 'dead', locked_by = NULL, locked_at = NULL, last_error = ?
+            WHERE """ + LEASE_CONDITION, error, job.id(), node, job.attempts()) == 1;
+        if (updated) {
+            log.error("Job {} ({}) moved to dead letters after {} attempts: {}", job.id(), job.type(), job.attempts(), error);
+            count(job.type(), "dead");
+        }
+        return updated;
+    }
+
+    /**
+     * Returns a claimed but unprocessed job to the queue on shutdown without using up an attempt.
+     */
+    private void release(ClaimedJob job) {
+        jdbcTemplate.update("""
+            UPDATE jobs SET status = 'queued', attempts = attempts - 1, locked_by = NULL, locked_at = NULL
+            WHERE """ + LEASE_CONDITION, job.id(), node, job.attempts());
+    }
+
+    private void count(String type, String outcome) {
+        Counter.builder("campuscard.queue.jobs")
+                .tag("type", type)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private record ClaimedJob(long id, String type, String payload, int attempts, int maxAttempts, Timestamp runAfter) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.abdelwahab.CampusCard.domain.common.scheduling;
+
+/**
+ * Periodic background job that must run on only one backend node at a time.
+ *
+ * <p>Implementations are Spring beans; {@link ClusterJobRunner} schedules them and wraps every
+ * run in a PostgreSQL advisory lock, so a job does not need its own locking. Jobs should be
+ * idempotent: a run may be skipped (another node holds the lock) or repeated after a crash.
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+public interface ClusterJob {
+
+    /**
+     * @return unique job name, used as lock key and in the run history (e.g., {@code "verification-token-purge"})
+     */
+    String getName();
+
+    /**
+     * @return Spring cron expression, or {@code "-"} to disable the job
+     */
+    String getCron();
+
+    /**
+     * Performs one run. Exceptions mark the run as failed.
+     *
+     * @return short summary stored with the run (e.g., {@code "Purged 12 tokens"})
+     */
+    String run();
+}
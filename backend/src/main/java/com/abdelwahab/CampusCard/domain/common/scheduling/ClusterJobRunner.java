@@ -0,0 +1,287 @@
+package com.abdelwahab.CampusCard.domain.common.scheduling;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.stereotype.Service;
+
+import com.abdelwahab.CampusCard.domain.common.dto.JobStatusResponse;
+import com.abdelwahab.CampusCard.domain.common.exception.ResourceNotFoundException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Schedules {@link ClusterJob} beans and runs each occurrence on exactly one node.
+ *
+ * <p>Before running, the node takes a session-level {@code pg_try_advisory_lock} for the job on a
+ * dedicated connection and keeps it until the run ends. Nodes that do not get the lock skip that
+ * occurrence. If a node dies mid-run, PostgreSQL releases the lock with the session, and the next
+ * run marks the orphaned history row as {@code abandoned}.
+ *
+ * <p>The lock alone does not make an occurrence run once: a short run releases it before another
+ * node's trigger for the same occurrence fires (clock skew, scheduler jitter). Scheduled runs
+ * therefore carry their nominal fire time, and the node inserts the run row for
+ * {@code (job_name, scheduled_at)} under the lock before running; the unique constraint on that
+ * pair makes a late node find the occurrence already taken and skip it. Manual runs
+ * ({@link #runNow}) have no fire time and only need the lock.
+ *
+ * <p>Every run is recorded in {@code job_runs} (node, occurrence, status, duration, summary or
+ * error). Metrics: timer {@code campuscard.jobs.run} (tags job, outcome) and counter
+ * {@code campuscard.jobs.skipped}.
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Service
+@Slf4j
+public class ClusterJobRunner implements SchedulingConfigurer {
+
+    /** First key of the two-int advisory lock, separating job locks from other advisory lock users. */
+    private static final int LOCK_NAMESPACE = 0x434A4F42;
+
+    private static final String LATEST_RUNS_SQL = """
+        SELECT DISTINCT ON (job_name) job_name, node, status, started_at, finished_at, duration_ms, message
+        FROM job_runs
+        ORDER BY job_name, started_at DESC
+        """;
+
+    private static final String LAST_SUCCESS_SQL = """
+        SELECT job_name, MAX(started_at) AS last_success_at
+        FROM job_runs
+        WHERE status = 'succeeded'
+        GROUP BY job_name
+        """;
+
+    private static final String INSERT_RUN_SQL = """
+        INSERT INTO job_runs (job_name, node, status, scheduled_at) VALUES (?, ?, 'running', ?)
+        ON CONFLICT (job_name, scheduled_at) DO NOTHING
+        RETURNING id
+        """;
+
+    private final List<ClusterJob> jobs;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final String node = ManagementFactory.getRuntimeMXBean().getName();
+
+    public ClusterJobRunner(List<ClusterJob> jobs,
+                            DataSource dataSource,
+                            JdbcTemplate jdbcTemplate,
+                            MeterRegistry meterRegistry) {
+        this.jobs = jobs;
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        for (ClusterJob job : jobs) {
+            if (Scheduled.CRON_DISABLED.equals(job.getCron())) {
+                log.info("Job {} is disabled", job.getName());
+                continue;
+            }
+            // The trigger computes the next fire time before that run starts, so the task reads its own occurrence
+            CronTrigger cron = new CronTrigger(job.getCron());
+            AtomicReference<Instant> scheduledAt = new AtomicReference<>();
+            registrar.addTriggerTask(() -> runExclusively(job, scheduledAt.get()), context -> {
+                Instant next = cron.nextExecution(context);
+                scheduledAt.set(next);
+                return next;
+            });
+            log.info("Scheduled job {} ({})", job.getName(), job.getCron());
+        }
+    }
+
+    /**
+     * Runs a job now if no other node is running it.
+     *
+     * @param name job name
+     * @return true if the job ran (successfully or not), false if another node holds the lock
+     * @throws ResourceNotFoundException if no job has this name
+     */
+    public boolean runNow(String name) {
+        return runExclusively(findJob(name), null);
+    }
+
+    /**
+     * Runs one scheduled occurrence of a job unless it is running on another node or any node
+     * already ran that occurrence.
+     *
+     * @param name job name
+     * @param scheduledAt nominal fire time of the occurrence
+     * @return true if the job ran (successfully or not), false if it was skipped
+     * @throws ResourceNotFoundException if no job has this name
+     */
+    public boolean runOccurrence(String name, Instant scheduledAt) {
+        return runExclusively(findJob(name), scheduledAt);
+    }
+
+    private ClusterJob findJob(String name) {
+        return jobs.stream()
+                .filter(candidate -> candidate.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Job", "name", name));
+    }
+
+    /**
+     * Runs the job while holding its advisory lock.
+     *
+     * @param job job to run
+     * @param scheduledAt nominal fire time, or null for a manual run
+     * @return true if this node got the lock and ran the job
+     */
+    private boolean runExclusively(ClusterJob job, Instant scheduledAt) {
+        try (Connection lockConnection = dataSource.getConnection()) {
+            lockConnection.setAutoCommit(true);
+            if (!tryLock(lockConnection, job.getName())) {
+                skipped(job);
+                log.debug("Job {} is running on another node; skipped", job.getName());
+                return false;
+            }
+            try {
+                Long runId = startRun(job, scheduledAt);
+                if (runId == null) {
+                    skipped(job);
+                    log.debug("Job {} occurrence {} already ran on another node; skipped", job.getName(), scheduledAt);
+                    return false;
+                }
+                execute(job, runId);
+            } finally {
+                unlock(lockConnection, job.getName());
+            }
+            return true;
+        } catch (SQLException e) {
+            log.error("Could not acquire lock for job {}: {}", job.getName(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Returns the most recent run of every registered job.
+     *
+     * @return one entry per job, in registration order
+     */
+    public List<JobStatusResponse> getStatuses() {
+        Map<String, JobStatusResponse> latest = new HashMap<>();
+        jdbcTemplate.query(LATEST_RUNS_SQL, (ResultSet rs) -> {
+            latest.put(rs.getString("job_name"), JobStatusResponse.builder()
+                    .name(rs.getString("job_name"))
+                    .lastNode(rs.getString("node"))
+                    .lastStatus(rs.getString("status"))
+                    .lastStartedAt(toLocalDateTime(rs.getTimestamp("started_at")))
+                    .lastFinishedAt(toLocalDateTime(rs.getTimestamp("finished_at")))
+                    .lastDurationMs(rs.getObject("duration_ms", Long.class))
+                    .lastMessage(rs.getString("message"))
+                    .build());
+        });
+        Map<String, Timestamp> lastSuccess = new HashMap<>();
+        jdbcTemplate.query(LAST_SUCCESS_SQL, (ResultSet rs) -> {
+            lastSuccess.put(rs.getString("job_name"), rs.getTimestamp("last_success_at"));
+        });
+
+        return jobs.stream()
+                .map(job -> {
+                    JobStatusResponse status = latest.getOrDefault(job.getName(),
+                            JobStatusResponse.builder().name(job.getName()).build());
+                    status.setCron(job.getCron());
+                    status.setLastSuccessAt(toLocalDateTime(lastSuccess.get(job.getName())));
+                    return status;
+                })
+                .toList();
+    }
+
+    /**
+     * Records the run under the lock.
+     *
+     * @return run ID, or null if the occurrence was already recorded by another run
+     */
+    private Long startRun(ClusterJob job, Instant scheduledAt) {
+        // The lock was free, so any run still marked running belongs to a node that died
+        jdbcTemplate.update("""
+            UPDATE job_runs SET status = 'abandoned', finished_at = CURRENT_TIMESTAMP
+            WHERE job_name = ? AND status = 'running'
+            """, job.getName());
+        List<Long> ids = jdbcTemplate.queryForList(INSERT_RUN_SQL, Long.class,
+                job.getName(), node, scheduledAt != null ? OffsetDateTime.ofInstant(scheduledAt, ZoneOffset.UTC) : null);
+        return ids.isEmpty() ? null : ids.get(0);
+    }
+
+    private void skipped(ClusterJob job) {
+        Counter.builder("campuscard.jobs.skipped").tag("job", job.getName()).register(meterRegistry).increment();
+    }
+
+    private void execute(ClusterJob job, Long runId) {
+        long start = System.nanoTime();
+        String status;
+        String message;
+        try {
+            message = job.run();
+            status = "succeeded";
+            log.info("Job {} succeeded: {}", job.getName(), message);
+        } catch (RuntimeException e) {
+            message = e.getMessage();
+            status = "failed";
+            log.error("Job {} failed: {}", job.getName(), e.getMessage(), e);
+        }
+        long durationNanos = System.nanoTime() - start;
+
+        jdbcTemplate.update("""
+            UPDATE job_runs SET status = ?, finished_at = CURRENT_TIMESTAMP, duration_ms = ?, message = ?
+            WHERE id = ?
+            """, status, TimeUnit.NANOSECONDS.toMillis(durationNanos), message, runId);
+        Timer.builder("campuscard.jobs.run")
+                .tag("job", job.getName())
+                .tag("outcome", status)
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static boolean tryLock(Connection connection, String jobName) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT pg_try_advisory_lock(?, hashtext(?))")) {
+            statement.setInt(1, LOCK_NAMESPACE);
+            statement.setString(2, jobName);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    private static void unlock(Connection connection, String jobName) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT pg_advisory_unlock(?, hashtext(?))")) {
+            statement.setInt(1, LOCK_NAMESPACE);
+            statement.setString(2, jobName);
+            statement.execute();
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,64 @@
+package com.abdelwahab.CampusCard.domain.common.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.abdelwahab.CampusCard.domain.moderation.service.ModerationThrottle;
+import com.abdelwahab.CampusCard.domain.user.model.User;
+
+/**
+ * Interceptor that rejects profile updates of users in moderation cool-down.
+ *
+ * <p>Runs before the controller, so a throttled user's update costs one in-memory lookup instead
+ * of the user and profile loads, moderation and flagging. Returns HTTP 429 with a
+ * {@code Retry-After} header and the same JSON body as {@link RateLimitInterceptor}.
+ * Only {@code PUT} requests are checked; reading the own profile stays allowed.
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+public class ModerationThrottleInterceptor implements HandlerInterceptor {
+
+    private final ModerationThrottle moderationThrottle;
+
+    /**
+     * @param moderationThrottle per-user violation counters
+     */
+    public ModerationThrottleInterceptor(ModerationThrottle moderationThrottle) {
+        this.moderationThrottle = moderationThrottle;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws Exception {
+        if (!"PUT".equals(request.getMethod())) {
+            return true;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof User user) || user.getId() == null) {
+            return true;
+        }
+
+        long retryAfter = moderationThrottle.retryAfterSeconds(user.getId());
+        if (retryAfter == 0) {
+            return true;
+        }
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        response.setContentType("application/json");
+        response.getWriter().write(String.format(
+            "{\"error\": \"Too many content moderation violations\", " +
+            "\"message\": \"Profile updates are paused. Please try again in %d seconds.\", " +
+            "\"retryAfter\": %d}",
+            retryAfter, retryAfter
+        ));
+        return false;
+    }
+}
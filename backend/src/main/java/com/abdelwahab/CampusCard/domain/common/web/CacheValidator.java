@@ -0,0 +1,61 @@
+package com.abdelwahab.CampusCard.domain.common.web;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * HTTP cache validators (strong ETag and Last-Modified) for a resource representation.
+ * Computed from cheap entity metadata (ids, version counters, update timestamps) so that
+ * conditional GETs can be answered before the response DTO is built or serialized.
+ *
+ * <p>Usage in a controller:
+ * <pre>
+ * CacheValidator validator = profileService.getProfileValidator(userId, viewerId, viewerRole);
+ * if (webRequest.checkNotModified(validator.eTag(), validator.lastModified())) {
+ *     return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+ * }
+ * </pre>
+ *
+ * @param eTag opaque entity tag value (without quotes)
+ * @param lastModified last modification time in epoch millis, or -1 if unknown
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+public record CacheValidator(String eTag, long lastModified) {
+
+    /**
+     * Builds a validator with the given tag whose Last-Modified is the latest of the given timestamps.
+     *
+     * @param tag value identifying the representation (e.g., built from ids, versions, counts)
+     * @param timestamps candidate modification times, nulls are ignored
+     * @return cache validator for the representation
+     */
+    public static CacheValidator of(String tag, LocalDateTime... timestamps) {
+        long lastModified = Arrays.stream(timestamps)
+                .filter(Objects::nonNull)
+                .mapToLong(CacheValidator::toEpochMillis)
+                .max()
+                .orElse(-1L);
+
+        return new CacheValidator(tag, lastModified);
+    }
+
+    /**
+     * Derives a validator for another representation of the same resource (e.g., a sparse
+     * fieldset), so that strong ETags stay unique per representation.
+     *
+     * @param variant short identifier of the representation
+     * @return validator with the variant appended to the tag
+     */
+    public CacheValidator withVariant(String variant) {
+        return new CacheValidator(eTag + "~" + variant, lastModified);
+    }
+
+    private static long toEpochMillis(LocalDateTime timestamp) {
+        return timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
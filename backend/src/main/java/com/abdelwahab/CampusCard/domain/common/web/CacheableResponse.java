@@ -0,0 +1,16 @@
+package com.abdelwahab.CampusCard.domain.common.web;
+
+/**
+ * A response body paired with the HTTP cache validators computed from the same loaded data,
+ * so a full (non-conditional) view does not need a separate metadata lookup.
+ *
+ * @param <T> response body type
+ * @param body the response body
+ * @param validator cache validators for the body
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+public record CacheableResponse<T>(T body, CacheValidator validator) {
+}
@@ -0,0 +1,23 @@
+package com.abdelwahab.CampusCard.domain.moderation.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for a bulk banned word import.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BannedWordImportResponse {
+    private int received;         // non-empty entries read from the list
+    private int distinct;         // valid entries left after normalization and deduplication
+    private int added;            // newly inserted words
+    private int alreadyBanned;    // distinct entries that were already in the list
+    private List<String> invalid; // rejected entries (first ones only)
+}
@@ -18,5 +18,10 @@ public class FlaggedContentResponse {
     private String userName;
     private String content;
     private LocalDateTime flaggedAt;
+    private Integer occurrences;
+    private LocalDateTime lastFlaggedAt;
+    private String status;
+    private LocalDateTime resolvedAt;
+    private Integer resolvedBy;
 }
 
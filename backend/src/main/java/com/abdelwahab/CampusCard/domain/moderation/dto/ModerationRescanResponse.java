@@ -0,0 +1,29 @@
+package com.abdelwahab.CampusCard.domain.moderation.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO describing the progress of a retroactive profile rescan.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ModerationRescanResponse {
+    private Long id;
+    private List<String> words;
+    private String status;
+    private Integer totalProfiles;
+    private Integer scannedProfiles;
+    private Integer flaggedProfiles;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,26 @@
+package com.abdelwahab.CampusCard.domain.moderation.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request DTO for closing many flagged content items at once.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResolveFlaggedContentRequest {
+
+    @NotEmpty(message = "At least one flagged content ID is required")
+    private List<Integer> ids;
+
+    @NotBlank(message = "Status is required (resolved or dismissed)")
+    private String status;
+}
@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -25,7 +26,8 @@ import java.time.LocalDateTime;
 public class BannedWord {
     
     @Id
-    @GeneratedValue(strategy=GenerationType.IDENTITY)
+    @GeneratedValue(strategy=GenerationType.SEQUENCE, generator="banned_words_id_seq")
+    @SequenceGenerator(name="banned_words_id_seq", sequenceName="banned_words_id_seq", allocationSize=50)
     private Integer id;
 
     @Column(unique=true, nullable=false, length=100)
@@ -8,6 +8,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -28,7 +29,8 @@ import java.time.LocalDateTime;
 public class FlaggedContent {
     
     @Id
-    @GeneratedValue(strategy=GenerationType.IDENTITY)
+    @GeneratedValue(strategy=GenerationType.SEQUENCE, generator="flagged_content_id_seq")
+    @SequenceGenerator(name="flagged_content_id_seq", sequenceName="flagged_content_id_seq", allocationSize=50)
     private Integer id;
 
     @ManyToOne(optional=false)
@@ -39,6 +41,61 @@ public class FlaggedContent {
     private String content;
 
     @CreationTimestamp
-    @Column(name="flagged_at", updatable=false)
+    @Column(name="flagged_at", nullable=false, updatable=false)
     private LocalDateTime flaggedAt;
+
+    /** Number of identical violations aggregated into this row. */
+    @Builder.Default
+    @Column(nullable=false)
+    private Integer occurrences = 1;
+
+    @CreationTimestamp
+    @Column(name="last_flagged_at", nullable=false)
+    private LocalDateTime lastFlaggedAt;
+
+    @Builder.Default
+    @Column(nullable=false)
+    private Status status = Status.OPEN;
+
+    @Column(name="resolved_at")
+    private LocalDateTime resolvedAt;
+
+    /** ID of the admin who resolved or dismissed the flag. */
+    @Column(name="resolved_by")
+    private Integer resolvedBy;
+
+    public enum Status {
+        OPEN("open"),
+        RESOLVED("resolved"),
+        DISMISSED("dismissed");
+
+        private final String value;
+
+        Status(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+
+        /**
+         * @param value database or API value (case-insensitive)
+         * @return matching status
+         * @throws IllegalArgumentException if the value is unknown
+         */
+        public static Status from(String value) {
+            for (Status status : values()) {
+                if (status.value.equalsIgnoreCase(value)) {
+                    return status;
+                }
+            }
+            throw new IllegalArgumentException("Unknown flagged content status: " + value);
+        }
+    }
 }
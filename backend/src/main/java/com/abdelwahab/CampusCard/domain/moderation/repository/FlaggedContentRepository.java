@@ -10,5 +10,5 @@ import java.util.List;
 public interface FlaggedContentRepository extends JpaRepository<FlaggedContent, Integer> {
     List<FlaggedContent> findByUser(User user);
     List<FlaggedContent> findByUserIdOrderByFlaggedAtDesc(Integer userId);
-    List<FlaggedContent> findAllByOrderByFlaggedAtDesc();
+    long countByStatus(FlaggedContent.Status status);
 }
@@ -0,0 +1,210 @@
+package com.abdelwahab.CampusCard.domain.moderation.service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.abdelwahab.CampusCard.domain.common.event.BannedWordsChangedEvent;
+import com.abdelwahab.CampusCard.domain.common.exception.InvalidStateException;
+import com.abdelwahab.CampusCard.domain.common.persistence.PooledIdAllocator;
+import com.abdelwahab.CampusCard.domain.moderation.dto.BannedWordImportResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bulk import and export of the banned word list.
+ *
+ * <p>Import accepts one word per line or comma-separated words (a {@code word} header line, blank
+ * lines and {@code #} comments are skipped; surrounding quotes are removed). Entries are lowercased
+ * like {@link com.abdelwahab.CampusCard.domain.admin.service.AdminService#addBannedWord} and
+ * deduplicated in memory by their {@link TextNormalizer} form, so spelling variants that match
+ * the same text are stored once. Words are inserted in batches of
+ * {@code app.moderation.import.batch-size} with {@code unnest(...) ON CONFLICT DO NOTHING RETURNING},
+ * without a lookup per word, all in one transaction. Ids come from {@link PooledIdAllocator}.
+ *
+ * <p>One {@link BannedWordsChangedEvent} with all added words is published per import, so the
+ * matcher is rebuilt once (after commit) and one retroactive rescan covers the whole import.
+ *
+ * <p>Export streams the list, one word per line, from a forward-only cursor.
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class BannedWordBulkService {
+
+    private static final String SEQUENCE = "banned_words_id_seq";
+    private static final int MAX_WORD_LENGTH = 100;
+    private static final int MAX_REPORTED_INVALID = 20;
+
+    private static final String INSERT_SQL = """
+        INSERT INTO banned_words (id, word)
+        SELECT w.id, w.word FROM unnest(CAST(? AS INTEGER[]), CAST(? AS VARCHAR[])) AS w(id, word)
+        ON CONFLICT (word) DO NOTHING
+        RETURNING word
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PooledIdAllocator idAllocator;
+
+    @Value("${app.moderation.import.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.moderation.import.max-words:20000}")
+    private int maxWords;
+
+    @Value("${app.export.fetch-size:1000}")
+    private int fetchSize;
+
+    /**
+     * Imports a newline or comma-separated word list.
+     *
+     * @param input uploaded list (UTF-8, not closed by this method)
+     * @return counts of received, distinct and added words, and rejected entries
+     * @throws InvalidStateException if the list is empty or has more than the configured maximum
+     */
+    @Transactional
+    public BannedWordImportResponse importWords(InputStream input) {
+        List<String> words = new ArrayList<>();
+        List<String> invalid = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        int received = 0;
+        int invalidCount = 0;
+
+        try {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+            boolean firstLine = true;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String trimmed = line.strip();
+                if (firstLine && trimmed.startsWith("\uFEFF")) {
+                    trimmed = trimmed.substring(1).strip(); // UTF-8 BOM
+                }
+                boolean header = firstLine && trimmed.equalsIgnoreCase("word");
+                firstLine = false;
+                if (header || trimmed.isEmpty() || trimmed.startsWith("#")) {
+                    continue;
+                }
+                for (String entry : trimmed.split(",")) {
+                    String word = unquote(entry.strip()).strip().toLowerCase(Locale.ROOT);
+                    if (word.isEmpty()) {
+                        continue;
+                    }
+                    if (++received > maxWords) {
+                        throw new InvalidStateException(
+                            String.format("Too many words: maximum is %d per import", maxWords));
+                    }
+                    String normalized = TextNormalizer.normalize(word);
+                    if (word.length() > MAX_WORD_LENGTH || normalized.isBlank()) {
+                        if (invalid.size() < MAX_REPORTED_INVALID) {
+                            invalid.add(word.length() > 40 ? word.substring(0, 40) + "..." : word);
+                        }
+                        invalidCount++;
+                    } else if (seen.add(normalized)) {
+                        words.add(word);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (received == 0) {
+            throw new InvalidStateException("Word list is empty");
+        }
+
+        List<String> added = new ArrayList<>();
+        for (int from = 0; from < words.size(); from += batchSize) {
+            String[] batch = words.subList(from, Math.min(from + batchSize, words.size())).toArray(String[]::new);
+            int[] ids = idAllocator.allocate(SEQUENCE, batch.length);
+            added.addAll(jdbcTemplate.queryForList(INSERT_SQL, String.class, ids, batch));
+        }
+        if (!added.isEmpty()) {
+            eventPublisher.publishEvent(new BannedWordsChangedEvent(added, 0));
+        }
+        log.info("Banned word import: {} received, {} distinct, {} added, {} invalid",
+                received, words.size(), added.size(), invalidCount);
+
+        return BannedWordImportResponse.builder()
+                .received(received)
+                .distinct(words.size())
+                .added(added.size())
+                .alreadyBanned(words.size() - added.size())
+                .invalid(invalid)
+                .build();
+    }
+
+    /**
+     * Writes all banned words, alphabetically, one per line.
+     * Intended to be called from a {@code StreamingResponseBody}.
+     *
+     * @param outputStream response output stream (not closed by this method)
+     * @return number of exported words
+     */
+    public long exportWords(OutputStream outputStream) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        Long exported = readOnly.execute(tx -> {
+            long[] count = {0};
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        "SELECT word FROM banned_words ORDER BY word", ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                return statement;
+            }, (ResultSet rs) -> {
+                try {
+                    writer.write(rs.getString("word"));
+                    writer.write('\n');
+                    count[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            try {
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return count[0];
+        });
+
+        log.info("Exported {} banned words", exported);
+        return exported != null ? exported : 0;
+    }
+
+    private static String unquote(String value) {
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            return value.substring(1, value.length() - 1).replace("\"\"", "\"");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,336 @@
+package com.abdelwahab.CampusCard.domain.moderation.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Precompiled, immutable matcher for a set of banned words (thread-safe).
+ *
+ * <p>Words are normalized with {@link TextNormalizer} and compiled into an Aho-Corasick automaton
+ * with a full transition table, so a text is scanned once regardless of the number of words.
+ * Matching is whole-word on the normalized text, which avoids "hell" in "hello" and "die" in
+ * "studies", with two relaxations:
+ * <ul>
+ *   <li>common English inflection suffixes ("spammer", "killed", "cheating")</li>
+ *   <li>attached Arabic prefixes (definite article, conjunctions and prepositions)</li>
+ * </ul>
+ * Words with doubled letters are also compiled in their single-letter form ("hell" as "hel"),
+ * which the normalizer produces for stretched spellings ("heeellll"). That form only matches as a
+ * whole word without suffixes, since "hel" plus a suffix is ordinary English ("held").
+ *
+ * <p>{@link #findMatches(CharSequence)} normalizes into a per-thread buffer and only allocates
+ * when a word is found. {@link #findNearMatches(CharSequence, int)} additionally finds misspelled
+ * variants (one edit away); it compares every word with every pattern and is meant for
+ * background checks, not the request path.
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+public final class BannedWordMatcher {
+
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+    private static final int[] NO_OUTPUT = new int[0];
+
+    private static final char[][] ALLOWED_SUFFIXES = chars("s", "es", "d", "ed", "r", "er", "ers", "rs", "ing", "y");
+    private static final char[][] ALLOWED_PREFIXES = chars("ال", "و", "ب", "ل", "ف", "ك", "وال", "بال", "فال", "كال", "لل");
+
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[1024]);
+
+    private final String[] words;
+    private final int distinctWords;
+    private final char[][] patterns;
+    private final boolean[] suffixable;
+    private final int[] wordLengths;
+    private final char[] alphabetIndex;
+    private final int alphabetSize;
+    private final int[] transitions;
+    private final int[][] outputs;
+
+    private BannedWordMatcher(String[] words, int distinctWords, char[][] patterns, boolean[] suffixable,
+                              int[] wordLengths, char[] alphabetIndex, int alphabetSize, int[] transitions,
+                              int[][] outputs) {
+        this.words = words;
+        this.distinctWords = distinctWords;
+        this.patterns = patterns;
+        this.suffixable = suffixable;
+        this.wordLengths = wordLengths;
+        this.alphabetIndex = alphabetIndex;
+        this.alphabetSize = alphabetSize;
+        this.transitions = transitions;
+        this.outputs = outputs;
+    }
+
+    /**
+     * Compiles a matcher. Words that normalize to nothing are ignored; words with the same
+     * normalized form are reported under the first one.
+     *
+     * @param bannedWords banned words as stored
+     * @return compiled matcher
+     */
+    public static BannedWordMatcher compile(Collection<String> bannedWords) {
+        Map<String, String> byNormalized = new LinkedHashMap<>();
+        for (String word : bannedWords) {
+            String normalized = TextNormalizer.normalize(word);
+            if (!normalized.isEmpty()) {
+                byNormalized.putIfAbsent(normalized, word);
+            }
+        }
+        int distinctWords = byNormalized.size();
+        // Single-letter forms after the stored forms, so a stored form always wins
+        for (Map.Entry<String, String> entry : List.copyOf(byNormalized.entrySet())) {
+            byNormalized.putIfAbsent(collapseDoubles(entry.getKey()), entry.getValue());
+        }
+        String[] patterns = byNormalized.keySet().toArray(String[]::new);
+        String[] words = byNormalized.values().toArray(String[]::new);
+        boolean[] suffixable = new boolean[patterns.length];
+        Arrays.fill(suffixable, 0, distinctWords, true);
+        int[] lengths = Arrays.stream(patterns).mapToInt(String::length).toArray();
+
+        // Alphabet: index 0 stands for every character that occurs in no pattern
+        TreeSet<Character> symbols = new TreeSet<>();
+        for (String pattern : patterns) {
+            for (char c : pattern.toCharArray()) {
+                symbols.add(c);
+            }
+        }
+        char[] alphabetIndex = new char[Character.MAX_VALUE + 1];
+        int alphabetSize = 1;
+        for (char c : symbols) {
+            alphabetIndex[c] = (char) alphabetSize++;
+        }
+
+        // Trie
+        List<Map<Integer, Integer>> trie = new ArrayList<>();
+        List<List<Integer>> terminal = new ArrayList<>();
+        trie.add(new HashMap<>());
+        terminal.add(new ArrayList<>());
+        for (int p = 0; p < patterns.length; p++) {
+            int state = 0;
+            for (char c : patterns[p].toCharArray()) {
+                int symbol = alphabetIndex[c];
+                Integer next = trie.get(state).get(symbol);
+                if (next == null) {
+                    next = trie.size();
+                    trie.get(state).put(symbol, next);
+                    trie.add(new HashMap<>());
+                    terminal.add(new ArrayList<>());
+                }
+                state = next;
+            }
+            terminal.get(state).add(p);
+        }
+
+        // Failure links by BFS, folded into a complete transition table
+        int states = trie.size();
+        int[] transitions = new int[states * alphabetSize];
+        int[] failure = new int[states];
+        int[][] outputs = new int[states][];
+        outputs[0] = toArray(terminal.get(0));
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int symbol = 1; symbol < alphabetSize; symbol++) {
+            Integer next = trie.get(0).get(symbol);
+            if (next != null) {
+                transitions[symbol] = next;
+                queue.add(next);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            List<Integer> stateOutputs = new ArrayList<>(terminal.get(state));
+            for (int out : outputs[failure[state]]) {
+                stateOutputs.add(out);
+            }
+            outputs[state] = toArray(stateOutputs);
+
+            for (int symbol = 1; symbol < alphabetSize; symbol++) {
+                Integer next = trie.get(state).get(symbol);
+                int fallback = transitions[failure[state] * alphabetSize + symbol];
+                if (next != null) {
+                    failure[next] = fallback;
+                    transitions[state * alphabetSize + symbol] = next;
+                    queue.add(next);
+                } else {
+                    transitions[state * alphabetSize + symbol] = fallback;
+                }
+            }
+        }
+
+        return new BannedWordMatcher(words, distinctWords, chars(patterns), suffixable, lengths, alphabetIndex,
+                alphabetSize, transitions, outputs);
+    }
+
+    /**
+     * @return number of distinct (normalized) banned words
+     */
+    public int size() {
+        return distinctWords;
+    }
+
+    /**
+     * Finds banned words in a text.
+     *
+     * @param text text to check, may be null
+     * @return banned words found (as stored), in order of first occurrence; empty if none
+     */
+    public List<String> findMatches(CharSequence text) {
+        if (text == null || text.isEmpty() || words.length == 0) {
+            return List.of();
+        }
+        char[] buffer = BUFFER.get();
+        if (buffer.length < text.length()) {
+            buffer = new char[text.length()];
+            if (buffer.length <= MAX_RETAINED_BUFFER) {
+                BUFFER.set(buffer);
+            }
+        }
+        int length = TextNormalizer.normalize(text, buffer);
+
+        List<String> found = null;
+        int state = 0;
+        for (int i = 0; i < length; i++) {
+            state = transitions[state * alphabetSize + alphabetIndex[buffer[i]]];
+            for (int pattern : outputs[state]) {
+                if (isWholeWord(buffer, length, i - wordLengths[pattern] + 1, i, suffixable[pattern])) {
+                    if (found == null) {
+                        found = new ArrayList<>(2);
+                    }
+                    if (!found.contains(words[pattern])) {
+                        found.add(words[pattern]);
+                    }
+                }
+            }
+        }
+        return found != null ? found : List.of();
+    }
+
+    /**
+     * Finds banned words that appear misspelled: a whole word of the text is one insertion,
+     * deletion, substitution or adjacent transposition away from a banned word (as stored, not its
+     * single-letter form). Exact matches are not reported (see {@link #findMatches(CharSequence)}).
+     *
+     * @param text text to check, may be null
+     * @param minLength minimum normalized banned word length considered; short words have too
+     *                  many innocent neighbours ("scam" and "scan")
+     * @return banned words with a near match (as stored), in order of first occurrence; empty if none
+     */
+    public List<String> findNearMatches(CharSequence text, int minLength) {
+        if (text == null || text.isEmpty() || words.length == 0) {
+            return List.of();
+        }
+        char[] buffer = new char[text.length()];
+        int length = TextNormalizer.normalize(text, buffer);
+
+        List<String> found = null;
+        int start = 0;
+        while (start < length) {
+            int end = start;
+            while (end < length && buffer[end] != ' ') {
+                end++;
+            }
+            for (int p = 0; p < distinctWords; p++) {
+                if (patterns[p].length >= minLength && isOneEditAway(buffer, start, end - start, patterns[p])) {
+                    if (found == null) {
+                        found = new ArrayList<>(2);
+                    }
+                    if (!found.contains(words[p])) {
+                        found.add(words[p]);
+                    }
+                }
+            }
+            start = end + 1;
+        }
+        return found != null ? found : List.of();
+    }
+
+    /**
+     * Optimal string alignment distance of exactly one between {@code text[from..from+length)} and a pattern.
+     */
+    private static boolean isOneEditAway(char[] text, int from, int length, char[] pattern) {
+        int m = pattern.length;
+        if (Math.abs(length - m) > 1) {
+            return false;
+        }
+        int common = 0;
+        while (common < length && common < m && text[from + common] == pattern[common]) {
+            common++;
+        }
+        if (common == length && common == m) {
+            return false;
+        }
+        if (length == m) {
+            // Substitution, or transposition of two adjacent characters
+            return regionEquals(text, from + common + 1, pattern, common + 1, m - common - 1)
+                    || (common + 1 < m
+                        && text[from + common] == pattern[common + 1]
+                        && text[from + common + 1] == pattern[common]
+                        && regionEquals(text, from + common + 2, pattern, common + 2, m - common - 2));
+        }
+        if (length == m + 1) {
+            return regionEquals(text, from + common + 1, pattern, common, m - common);
+        }
+        return regionEquals(text, from + common, pattern, common + 1, m - common - 1);
+    }
+
+    private static boolean regionEquals(char[] text, int from, char[] pattern, int patternFrom, int length) {
+        return Arrays.equals(text, from, from + length, pattern, patternFrom, patternFrom + length);
+    }
+
+    /**
+     * Checks word boundaries around {@code text[start..end]}, allowing the configured prefixes
+     * before and, if {@code suffixes} is set, suffixes after the match within the same word.
+     */
+    private static boolean isWholeWord(char[] text, int length, int start, int end, boolean suffixes) {
+        int wordStart = start;
+        while (wordStart > 0 && TextNormalizer.isWordChar(text[wordStart - 1])) {
+            wordStart--;
+        }
+        if (wordStart < start && !matchesAny(text, wordStart, start, ALLOWED_PREFIXES)) {
+            return false;
+        }
+        int wordEnd = end + 1;
+        while (wordEnd < length && TextNormalizer.isWordChar(text[wordEnd])) {
+            wordEnd++;
+        }
+        return wordEnd == end + 1 || (suffixes && matchesAny(text, end + 1, wordEnd, ALLOWED_SUFFIXES));
+    }
+
+    /**
+     * Collapses doubled letters of a normalized word ("hell" becomes "hel").
+     */
+    private static String collapseDoubles(String normalized) {
+        StringBuilder single = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (i == 0 || c != normalized.charAt(i - 1) || !Character.isLetter(c)) {
+                single.append(c);
+            }
+        }
+        return single.toString();
+    }
+
+    private static boolean matchesAny(char[] text, int from, int to, char[][] candidates) {
+        int length = to - from;
+        for (char[] candidate : candidates) {
+            if (candidate.length == length && Arrays.equals(text, from, to, candidate, 0, length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        return values.isEmpty() ? NO_OUTPUT : values.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static char[][] chars(String... values) {
+        return Arrays.stream(values).map(String::toCharArray).toArray(char[][]::new);
+    }
+}
@@ -1,17 +1,24 @@
 package com.abdelwahab.CampusCard.domain.moderation.service;
 
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import com.abdelwahab.CampusCard.domain.common.cluster.CacheInvalidationHandler;
+import com.abdelwahab.CampusCard.domain.common.cluster.ClusterInvalidationService;
+import com.abdelwahab.CampusCard.domain.common.event.BannedWordsChangedEvent;
 import com.abdelwahab.CampusCard.domain.moderation.model.BannedWord;
-import com.abdelwahab.CampusCard.domain.moderation.model.FlaggedContent;
-import com.abdelwahab.CampusCard.domain.user.model.User;
 import com.abdelwahab.CampusCard.domain.moderation.repository.BannedWordRepository;
-import com.abdelwahab.CampusCard.domain.moderation.repository.FlaggedContentRepository;
-import com.abdelwahab.CampusCard.domain.user.repository.UserRepository;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -35,7 +42,22 @@ import lombok.extern.slf4j.Slf4j;
  *   <li>Admin reviews flagged content and takes action (approve/edit/delete)</li>
  * </ol>
  *
- * <p>Banned words are checked case-insensitively and include common:
+ * <p>Text is normalized with {@link TextNormalizer} (case, width, accents, look-alike letters,
+ * Arabic diacritics, leetspeak, spaced-out and stretched words) and matched on word boundaries
+ * by a {@link BannedWordMatcher}, so "sp@m" and "s p a m" are caught while "hello" does not
+ * match "hell". Results per field text are memoized ({@link ModerationResultCache}), so unchanged
+ * fields resubmitted with every profile save are not scanned again. The compiled matcher and the
+ * results are cached and rebuilt lazily after banned words change,
+ * on this node and, through {@link ClusterInvalidationService}, on every other node
+ * (cache {@value #CACHE_NAME}).
+ *
+ * <p>Moderation runs in two tiers. This service is the synchronous tier: it runs inside the
+ * profile update, only does banned word matching and stops within a latency budget
+ * ({@code app.moderation.sync.budget-ms}); fields it could not check in time are left to the
+ * asynchronous tier ({@link DeepModerationService}), which re-checks committed profile changes in
+ * the background. Both tiers record {@code campuscard.moderation.check} timings tagged by tier.
+ *
+ * <p>Banned words include common:
  * <ul>
  *   <li>Offensive language and slurs</li>
  *   <li>Hate speech and discriminatory terms</li>
@@ -50,17 +72,29 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class ContentModerationService {
-    
+public class ContentModerationService implements CacheInvalidationHandler {
+
+    public static final String CACHE_NAME = "banned-words";
+    public static final String CHECK_TIMER = "campuscard.moderation.check";
+
     private final BannedWordRepository bannedWordRepository;
-    private final FlaggedContentRepository flaggedContentRepository;
-    private final UserRepository userRepository;
+    private final FlaggedContentBuffer flaggedContentBuffer;
+    private final ModerationThrottle moderationThrottle;
+    private final ModerationResultCache moderationResultCache;
+    private final ClusterInvalidationService clusterInvalidationService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.moderation.sync.budget-ms:25}")
+    private long syncBudgetMs;
+
+    private final AtomicLong matcherGeneration = new AtomicLong();
+    private volatile BannedWordMatcher matcher;
 
     /**
      * Detects banned words in user-submitted text content.
      * Returns list of specific banned words found for admin review.
      *
-     * <p>Search is case-insensitive and checks for substring matches.
+     * <p>Text is normalized before matching and words only match on word boundaries.
      * Empty or null text returns empty list (no violations).
      *
      * @param text the user-submitted content to check (bio, interests, etc.)
@@ -70,14 +104,103 @@ public class ContentModerationService {
         if (text == null || text.trim().isEmpty()) {
             return List.of();
         }
+        // Read the version before the matcher: a result computed with an outdated matcher is
+        // stored under an outdated version and never returned
+        long version = matcherGeneration.get();
+        List<String> cached = moderationResultCache.get(version, text);
+        if (cached != null) {
+            return cached;
+        }
+        List<String> bannedWords = List.copyOf(currentMatcher().findMatches(text));
+        moderationResultCache.put(version, text, bannedWords);
+        return bannedWords;
+    }
 
-        String lowerText = text.toLowerCase();
-        List<BannedWord> allBannedWords = bannedWordRepository.findAll();
-        
-        return allBannedWords.stream()
-                .map(BannedWord::getWord)
-                .filter(word -> lowerText.contains(word.toLowerCase()))
-                .collect(Collectors.toList());
+    /**
+     * Returns the compiled matcher for the current banned words, building it if needed.
+     *
+     * @return current matcher
+     */
+    public BannedWordMatcher currentMatcher() {
+        BannedWordMatcher current = matcher;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            current = matcher;
+            if (current == null) {
+                long generation = matcherGeneration.get();
+                current = BannedWordMatcher.compile(bannedWordRepository.findAll().stream()
+                        .map(BannedWord::getWord)
+                        .toList());
+                // Do not cache a matcher built from words that changed while loading
+                if (matcherGeneration.get() == generation) {
+                    matcher = current;
+                }
+                log.debug("Compiled banned word matcher with {} words", current.size());
+            }
+            return current;
+        }
+    }
+
+    /**
+     * Drops the cached matcher on this node and the other nodes once banned word changes commit.
+     *
+     * @param event banned words change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBannedWordsChanged(BannedWordsChangedEvent event) {
+        invalidateAll();
+        clusterInvalidationService.publish(CACHE_NAME, null);
+    }
+
+    @Override
+    public String getCacheName() {
+        return CACHE_NAME;
+    }
+
+    @Override
+    public void invalidate(String key) {
+        invalidateAll();
+    }
+
+    @Override
+    public void invalidateAll() {
+        // Drop the matcher before bumping the version, so no new version is paired with the old matcher
+        matcher = null;
+        matcherGeneration.incrementAndGet();
+        moderationResultCache.clear();
+    }
+
+    /**
+     * Builds the message stored in {@code flagged_content} for a violation.
+     *
+     * @param fieldName profile field containing the words
+     * @param bannedWords banned words found
+     * @param content field content (truncated to 500 characters)
+     * @return flagged content message
+     */
+    public static String formatFlaggedContent(String fieldName, List<String> bannedWords, String content) {
+        return formatFlaggedContent(fieldName, "Banned words detected", bannedWords, content);
+    }
+
+    /**
+     * Builds the message stored in {@code flagged_content} for any kind of finding.
+     *
+     * @param fieldName profile field containing the findings
+     * @param reason short description of the check that failed
+     * @param findings what was found
+     * @param content field content (truncated to 500 characters)
+     * @return flagged content message
+     */
+    public static String formatFlaggedContent(String fieldName, String reason, List<String> findings, String content) {
+        return String.format(
+            "[Field: %s] %s: %s | Content: %s",
+            fieldName,
+            reason,
+            String.join(", ", findings),
+            content.length() > 500 ? content.substring(0, 500) + "..." : content
+        );
     }
 
     /**
@@ -92,20 +215,58 @@ public class ContentModerationService {
     }
 
     /**
-     * Validate multiple text fields for banned words
+     * Validate a user's text fields and count a violation towards the user's throttling
+     * ({@link ModerationThrottle}) if any field is rejected.
+     *
+     * @param userId user submitting the fields
+     * @param fields Map of field names to text values
+     * @return Map of field names to lists of banned words found
+     */
+    public Map<String, List<String>> validateFields(Integer userId, Map<String, String> fields) {
+        Map<String, List<String>> violations = validateFields(fields);
+        if (!violations.isEmpty() && userId != null) {
+            moderationThrottle.recordViolation(userId);
+        }
+        return violations;
+    }
+
+    /**
+     * Validate multiple text fields for banned words (synchronous tier).
+     * Fields not reached within the latency budget are skipped and counted in
+     * {@code campuscard.moderation.sync.deferred}; the asynchronous tier checks them after commit.
+     *
      * @param fields Map of field names to text values
      * @return Map of field names to lists of banned words found
      */
-    public java.util.Map<String, List<String>> validateFields(java.util.Map<String, String> fields) {
-        java.util.Map<String, List<String>> violations = new java.util.HashMap<>();
-        
-        for (java.util.Map.Entry<String, String> entry : fields.entrySet()) {
+    public Map<String, List<String>> validateFields(Map<String, String> fields) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(syncBudgetMs);
+        Map<String, List<String>> violations = new HashMap<>();
+        int deferred = 0;
+
+        for (Map.Entry<String, String> entry : fields.entrySet()) {
+            if (System.nanoTime() > deadline) {
+                deferred++;
+                continue;
+            }
             List<String> bannedWords = checkForBannedWords(entry.getValue());
             if (!bannedWords.isEmpty()) {
                 violations.put(entry.getKey(), bannedWords);
             }
         }
-        
+
+        if (deferred > 0) {
+            log.warn("Synchronous moderation exceeded its {} ms budget, {} field(s) deferred", syncBudgetMs, deferred);
+            Counter.builder("campuscard.moderation.sync.deferred")
+                    .description("Fields left to asynchronous moderation because the latency budget was exceeded")
+                    .register(meterRegistry)
+                    .increment(deferred);
+        }
+        sample.stop(Timer.builder(CHECK_TIMER)
+                .description("Moderation check duration per tier")
+                .tag("tier", "sync")
+                .tag("outcome", violations.isEmpty() ? "clean" : "flagged")
+                .register(meterRegistry));
         return violations;
     }
 
@@ -117,33 +278,27 @@ public class ContentModerationService {
      * @param bannedWords The banned words found
      */
     public void logViolation(Integer userId, String fieldName, String content, List<String> bannedWords) {
-        log.warn("Content Moderation Violation - User ID: {}, Field: {}, Banned Words: {}, Content Preview: {}",
-                userId, fieldName, bannedWords, 
-                content != null && content.length() > 50 ? content.substring(0, 50) + "..." : content);
-        
-        // Save to flagged_content table for admin review
-        try {
-            User user = userRepository.findById(userId)
-                    .orElse(null);
-            
-            if (user != null && content != null) {
-                String flaggedMessage = String.format(
-                    "[Field: %s] Banned words detected: %s | Content: %s",
-                    fieldName,
-                    String.join(", ", bannedWords),
-                    content.length() > 500 ? content.substring(0, 500) + "..." : content
-                );
-                
-                FlaggedContent flaggedContent = FlaggedContent.builder()
-                        .user(user)
-                        .content(flaggedMessage)
-                        .build();
-                
-                flaggedContentRepository.save(flaggedContent);
-            }
-        } catch (Exception e) {
-            log.error("Failed to save flagged content: {}", e.getMessage());
+        logViolation(userId, fieldName, content, "Banned words detected", bannedWords);
+    }
+
+    /**
+     * Log a moderation finding of any kind for admin review
+     * @param userId The user ID whose content was flagged
+     * @param fieldName The field name where the finding occurred
+     * @param content The content that was flagged
+     * @param reason Short description of the check that failed
+     * @param findings What was found
+     */
+    public void logViolation(Integer userId, String fieldName, String content, String reason, List<String> findings) {
+        if (userId == null || content == null) {
+            return;
+        }
+        // Written in batches by the buffer; repeats are aggregated and only logged once per flush
+        boolean first = flaggedContentBuffer.add(userId, formatFlaggedContent(fieldName, reason, findings, content));
+        if (first) {
+            log.warn("Content Moderation Violation - User ID: {}, Field: {}, {}: {}, Content Preview: {}",
+                    userId, fieldName, reason, findings,
+                    content.length() > 50 ? content.substring(0, 50) + "..." : content);
         }
     }
 }
-
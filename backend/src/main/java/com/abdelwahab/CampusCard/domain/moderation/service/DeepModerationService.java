@@ -0,0 +1,200 @@
+package com.abdelwahab.CampusCard.domain.moderation.service;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.abdelwahab.CampusCard.domain.common.event.DomainEvent;
+import com.abdelwahab.CampusCard.domain.common.event.DomainEventListener;
+import com.abdelwahab.CampusCard.domain.common.event.ProfileUpdatedEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Asynchronous moderation tier: checks committed profile text changes in the background.
+ *
+ * <p>Runs on the domain event executor after {@link ProfileUpdatedEvent}, so none of its cost is
+ * on the profile update request. It reads the committed values of the changed text fields and
+ * flags findings into {@code flagged_content} for admin review:
+ * <ul>
+ *   <li>banned words, including fields the synchronous tier deferred when over its budget</li>
+ *   <li>misspelled banned words (one edit away, {@code app.moderation.deep.fuzzy-min-length})</li>
+ *   <li>suspicious LinkedIn/GitHub links: embedded or redirect URLs and link shortener hosts</li>
+ *   <li>repeated violations: the finding notes when the user already has
+ *       {@code app.moderation.deep.repeat-threshold} violations within the window, counting
+ *       the {@code occurrences} of aggregated rows and ignoring dismissed flags</li>
+ * </ul>
+ * Content is flagged, not reverted; admins decide on the flagged profile as before.
+ * Timings are recorded as {@code campuscard.moderation.check} with {@code tier=deep}.
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class DeepModerationService implements DomainEventListener {
+
+    private static final Set<String> TEXT_FIELDS = Set.of("bio", "interests", "linkedin", "github");
+    private static final Set<String> LINK_FIELDS = Set.of("linkedin", "github");
+
+    private final ContentModerationService contentModerationService;
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.moderation.deep.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.moderation.deep.fuzzy-min-length:6}")
+    private int fuzzyMinLength;
+
+    @Value("${app.moderation.deep.blocked-link-hosts:bit.ly,tinyurl.com,t.co,goo.gl,is.gd,ow.ly}")
+    private List<String> blockedLinkHosts;
+
+    @Value("${app.moderation.deep.repeat-threshold:3}")
+    private int repeatThreshold;
+
+    @Value("${app.moderation.deep.repeat-window-days:7}")
+    private int repeatWindowDays;
+
+    @Override
+    public boolean supports(DomainEvent event) {
+        return enabled && event instanceof ProfileUpdatedEvent updated
+                && updated.changedFields().stream().anyMatch(TEXT_FIELDS::contains);
+    }
+
+    @Override
+    public void onEvent(DomainEvent event) {
+        ProfileUpdatedEvent updated = (ProfileUpdatedEvent) event;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int flagged = 0;
+        try {
+            flagged = check(updated.userId(), updated.changedFields());
+        } finally {
+            sample.stop(Timer.builder(ContentModerationService.CHECK_TIMER)
+                    .description("Moderation check duration per tier")
+                    .tag("tier", "deep")
+                    .tag("outcome", flagged > 0 ? "flagged" : "clean")
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Checks the committed values of the changed text fields of a user's profile.
+     *
+     * @param userId profile owner
+     * @param changedFields fields changed by the update
+     * @return number of fields flagged
+     */
+    int check(Integer userId, Set<String> changedFields) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT bio, interests, linkedin, github FROM profiles WHERE user_id = ?", userId);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        BannedWordMatcher matcher = contentModerationService.currentMatcher();
+        Map<String, List<String>> findings = new LinkedHashMap<>();
+        for (String field : TEXT_FIELDS) {
+            Object value = rows.get(0).get(field);
+            if (!changedFields.contains(field) || value == null || value.toString().isBlank()) {
+                continue;
+            }
+            String content = value.toString();
+            List<String> fieldFindings = new ArrayList<>(matcher.findMatches(content));
+            for (String word : matcher.findNearMatches(content, fuzzyMinLength)) {
+                if (!fieldFindings.contains(word)) {
+                    fieldFindings.add("~" + word);
+                }
+            }
+            if (LINK_FIELDS.contains(field)) {
+                fieldFindings.addAll(checkLink(content));
+            }
+            if (!fieldFindings.isEmpty()) {
+                findings.put(field, fieldFindings);
+            }
+        }
+        if (findings.isEmpty()) {
+            return 0;
+        }
+
+        // Repeats are aggregated into one row, so count occurrences; dismissed flags were not violations
+        Integer recentFlags = jdbcTemplate.queryForObject("""
+            SELECT COALESCE(SUM(occurrences), 0) FROM flagged_content
+            WHERE user_id = ? AND flagged_at > CURRENT_TIMESTAMP - make_interval(days => ?)
+              AND status <> 'dismissed'
+            """, Integer.class, userId, repeatWindowDays);
+        boolean repeatOffender = recentFlags != null && recentFlags >= repeatThreshold;
+
+        findings.forEach((field, fieldFindings) -> {
+            if (repeatOffender) {
+                fieldFindings.add("repeated violations (" + recentFlags + " in " + repeatWindowDays + " days)");
+            }
+            contentModerationService.logViolation(userId, field, rows.get(0).get(field).toString(),
+                    "Deep moderation findings", fieldFindings);
+        });
+        Counter.builder("campuscard.moderation.deep.flagged")
+                .description("Profile fields flagged by asynchronous moderation")
+                .tag("repeat_offender", String.valueOf(repeatOffender))
+                .register(meterRegistry)
+                .increment(findings.size());
+        log.info("Deep moderation flagged field(s) {} of user {}", findings.keySet(), userId);
+        return findings.size();
+    }
+
+    /**
+     * Link reputation: profile links must point at the profile itself, not somewhere else.
+     */
+    private List<String> checkLink(String url) {
+        List<String> findings = new ArrayList<>();
+        String decoded;
+        try {
+            decoded = URLDecoder.decode(url, StandardCharsets.UTF_8).toLowerCase(Locale.ROOT);
+        } catch (IllegalArgumentException e) {
+            decoded = url.toLowerCase(Locale.ROOT);
+            findings.add("malformed link encoding");
+        }
+        int schemeEnd = decoded.indexOf("://");
+        String rest = schemeEnd >= 0 ? decoded.substring(schemeEnd + 3) : decoded;
+        if (rest.contains("http:") || rest.contains("https:") || rest.contains("//")
+                || rest.contains("url=") || rest.contains("redirect")) {
+            findings.add("embedded or redirect link");
+        }
+        for (String host : blockedLinkHosts) {
+            String blocked = host.trim().toLowerCase(Locale.ROOT);
+            if (!blocked.isEmpty() && containsHost(rest, blocked)) {
+                findings.add("link shortener " + blocked);
+            }
+        }
+        return findings;
+    }
+
+    /**
+     * True if {@code host} occurs in the URL as a whole host name, not as part of a path segment.
+     */
+    private static boolean containsHost(String url, String host) {
+        for (int i = url.indexOf(host); i >= 0; i = url.indexOf(host, i + 1)) {
+            int end = i + host.length();
+            boolean startOk = i == 0 || "/=@.".indexOf(url.charAt(i - 1)) >= 0;
+            boolean endOk = end == url.length() || "/?#:".indexOf(url.charAt(end)) >= 0;
+            if (startOk && endOk) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,218 @@
+package com.abdelwahab.CampusCard.domain.moderation.service;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.abdelwahab.CampusCard.domain.common.persistence.PooledIdAllocator;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Write-behind buffer for {@code flagged_content}.
+ *
+ * <p>Violations are recorded in memory on the request thread and written by a scheduled flush
+ * ({@code app.moderation.flags.flush-interval-ms}) in one JDBC batch, by user ID, without loading
+ * the user. Identical violations (same user and message) are aggregated twice:
+ * <ul>
+ *   <li>in the buffer: repeats between two flushes become one pending entry with a count</li>
+ *   <li>in the table: a flush adds to {@code occurrences} of the latest identical open row
+ *       first flagged within {@code app.moderation.flags.aggregation-window-seconds}, or inserts a
+ *       new row (a repeat after an admin closed the flag opens a new one). Bounding the lookup by
+ *       {@code flagged_at} lets PostgreSQL prune it to the newest monthly partitions.</li>
+ * </ul>
+ * A client hammering the same violating update therefore costs one map update per request and
+ * one row per window, not one row per request.
+ *
+ * <p>The buffer holds at most {@code app.moderation.flags.buffer-capacity} distinct entries;
+ * beyond that new violations are dropped and counted ({@code campuscard.moderation.flags.dropped}),
+ * repeats of buffered ones are still counted. Pending entries are flushed on shutdown; a crash
+ * loses at most one flush interval of flags.
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Service
+@Slf4j
+public class FlaggedContentBuffer {
+
+    private static final String UPSERT_SQL = """
+        WITH updated AS (
+            UPDATE flagged_content
+            SET occurrences = occurrences + ?, last_flagged_at = ?
+            WHERE flagged_at > ? AND id = (
+                SELECT id FROM flagged_content
+                WHERE user_id = ? AND content_hash = md5(?) AND flagged_at > ? AND status = 'open'
+                ORDER BY flagged_at DESC
+                LIMIT 1)
+            RETURNING id
+        )
+        INSERT INTO flagged_content (id, user_id, content, occurrences, flagged_at, last_flagged_at)
+        SELECT ?, ?, ?, ?, ?, ?
+        WHERE NOT EXISTS (SELECT 1 FROM updated)
+        """;
+
+    private static final String SEQUENCE = "flagged_content_id_seq";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PooledIdAllocator idAllocator;
+    private final Map<FlagKey, PendingFlag> pending = new ConcurrentHashMap<>();
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+
+    @Value("${app.moderation.flags.buffer-capacity:10000}")
+    private int capacity;
+
+    @Value("${app.moderation.flags.aggregation-window-seconds:3600}")
+    private long aggregationWindowSeconds;
+
+    public FlaggedContentBuffer(JdbcTemplate jdbcTemplate, PooledIdAllocator idAllocator, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idAllocator = idAllocator;
+        this.droppedCounter = Counter.builder("campuscard.moderation.flags.dropped")
+                .description("Violations dropped because the flag buffer was full")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("campuscard.moderation.flags.written")
+                .description("Aggregated flag entries written to flagged_content")
+                .register(meterRegistry);
+        Gauge.builder("campuscard.moderation.flags.buffered", pending, Map::size)
+                .description("Distinct violations waiting to be written")
+                .register(meterRegistry);
+    }
+
+    private record FlagKey(int userId, String content) {
+    }
+
+    /**
+     * Flag being written, with the id used if it becomes a new row.
+     */
+    private record FlagWrite(int id, FlagKey key, PendingFlag flag) {
+    }
+
+    private record PendingFlag(int count, Instant firstAt, Instant lastAt) {
+        PendingFlag merge(PendingFlag other) {
+            return new PendingFlag(count + other.count,
+                    firstAt.isBefore(other.firstAt) ? firstAt : other.firstAt,
+                    lastAt.isAfter(other.lastAt) ? lastAt : other.lastAt);
+        }
+    }
+
+    /**
+     * Records a violation for the next flush.
+     *
+     * @param userId user whose content was flagged
+     * @param content flagged content message
+     * @return true if this is the first occurrence since the last flush (callers log only those)
+     */
+    public boolean add(int userId, String content) {
+        FlagKey key = new FlagKey(userId, content);
+        if (pending.size() >= capacity && !pending.containsKey(key)) {
+            droppedCounter.increment();
+            return false;
+        }
+        Instant now = Instant.now();
+        return pending.merge(key, new PendingFlag(1, now, now), PendingFlag::merge).count() == 1;
+    }
+
+    /**
+     * @return number of distinct violations waiting to be written
+     */
+    public int size() {
+        return pending.size();
+    }
+
+    /**
+     * Writes all pending violations. Each entry is removed atomically before it is written, so
+     * violations recorded during a flush go to the next one.
+     */
+    @Scheduled(fixedDelayString = "${app.moderation.flags.flush-interval-ms:1000}")
+    @PreDestroy
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<FlagKey, PendingFlag>> entries = new ArrayList<>(pending.size());
+        for (FlagKey key : pending.keySet()) {
+            PendingFlag flag = pending.remove(key);
+            if (flag != null) {
+                entries.add(Map.entry(key, flag));
+            }
+        }
+
+        // Ids for the entries that become new rows; entries that update an existing row leave gaps
+        int[] ids;
+        try {
+            ids = idAllocator.allocate(SEQUENCE, entries.size());
+        } catch (DataAccessException e) {
+            // Database unavailable: keep the entries for the next flush
+            entries.forEach(entry -> pending.merge(entry.getKey(), entry.getValue(), PendingFlag::merge));
+            return;
+        }
+        List<FlagWrite> batch = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            batch.add(new FlagWrite(ids[i], entries.get(i).getKey(), entries.get(i).getValue()));
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, batch, batch.size(), this::bind);
+            writtenCounter.increment(batch.size());
+        } catch (DataAccessException e) {
+            // One bad entry (e.g. user deleted meanwhile) fails the whole batch: retry one by one
+            log.warn("Batched flag write failed, retrying {} entries individually: {}", batch.size(), e.getMessage());
+            for (FlagWrite write : batch) {
+                writeOne(write);
+            }
+        }
+    }
+
+    private void writeOne(FlagWrite write) {
+        try {
+            jdbcTemplate.update(UPSERT_SQL, ps -> bind(ps, write));
+            writtenCounter.increment();
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Dropping flag for user {}: {}", write.key().userId(), e.getMessage());
+            droppedCounter.increment(write.flag().count());
+        } catch (DataAccessException e) {
+            // Database unavailable: keep the entry for the next flush
+            pending.merge(write.key(), write.flag(), PendingFlag::merge);
+        }
+    }
+
+    private void bind(PreparedStatement ps, FlagWrite write) throws SQLException {
+        FlagKey key = write.key();
+        PendingFlag flag = write.flag();
+        Timestamp first = Timestamp.from(flag.firstAt());
+        Timestamp last = Timestamp.from(flag.lastAt());
+        Timestamp windowStart = Timestamp.from(flag.firstAt().minus(Duration.ofSeconds(aggregationWindowSeconds)));
+        ps.setInt(1, flag.count());
+        ps.setTimestamp(2, last);
+        ps.setTimestamp(3, windowStart);
+        ps.setInt(4, key.userId());
+        ps.setString(5, key.content());
+        ps.setTimestamp(6, windowStart);
+        ps.setInt(7, write.id());
+        ps.setInt(8, key.userId());
+        ps.setString(9, key.content());
+        ps.setInt(10, flag.count());
+        ps.setTimestamp(11, first);
+        ps.setTimestamp(12, last);
+    }
+}
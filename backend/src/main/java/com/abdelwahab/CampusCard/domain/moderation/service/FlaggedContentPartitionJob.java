@@ -0,0 +1,134 @@
+package com.abdelwahab.CampusCard.domain.moderation.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.abdelwahab.CampusCard.domain.common.scheduling.ClusterJob;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Maintains the monthly partitions of {@code flagged_content}.
+ *
+ * <p>Each run creates the partitions for the current month and the next
+ * {@code app.moderation.flags.partitions-ahead} months, so inserts never fall into the default
+ * partition, and removes partitions whose whole month is older than
+ * {@code app.moderation.flags.retention-months} (0 keeps everything). Expired partitions are
+ * detached and then dropped, or only detached when {@code app.moderation.flags.retention-action}
+ * is {@code detach} (left as standalone tables for archiving). Retention therefore costs one
+ * catalog change per month instead of a bulk {@code DELETE}.
+ *
+ * <p>Partitions are recognized by name ({@code flagged_content_pYYYY_MM}); the default partition is
+ * never touched. Months are taken from the database clock, matching {@code flagged_at}. Runs on one
+ * node at a time via {@link com.abdelwahab.CampusCard.domain.common.scheduling.ClusterJobRunner}.
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class FlaggedContentPartitionJob implements ClusterJob {
+
+    static final String PARTITION_PREFIX = "flagged_content_p";
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private static final String PARTITIONS_SQL = """
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'flagged_content'::regclass
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.jobs.flagged-content-partitions.cron:0 0 3 * * *}")
+    private String cron;
+
+    @Value("${app.moderation.flags.partitions-ahead:3}")
+    private int partitionsAhead;
+
+    @Value("${app.moderation.flags.retention-months:12}")
+    private int retentionMonths;
+
+    @Value("${app.moderation.flags.retention-action:drop}")
+    private String retentionAction;
+
+    @Override
+    public String getName() {
+        return "flagged-content-partitions";
+    }
+
+    @Override
+    public String getCron() {
+        return cron;
+    }
+
+    @Override
+    public String run() {
+        YearMonth currentMonth = YearMonth.from(jdbcTemplate.queryForObject(
+                "SELECT CAST(LOCALTIMESTAMP AS DATE)", LocalDate.class));
+        List<String> existing = jdbcTemplate.queryForList(PARTITIONS_SQL, String.class);
+
+        int created = 0;
+        for (int i = 0; i <= partitionsAhead; i++) {
+            YearMonth month = currentMonth.plusMonths(i);
+            if (!existing.contains(partitionName(month))) {
+                jdbcTemplate.execute(String.format(
+                        "CREATE TABLE IF NOT EXISTS %s PARTITION OF flagged_content FOR VALUES FROM ('%s') TO ('%s')",
+                        partitionName(month), month.atDay(1), month.plusMonths(1).atDay(1)));
+                created++;
+            }
+        }
+
+        List<String> expired = new ArrayList<>();
+        if (retentionMonths > 0) {
+            YearMonth oldestKept = currentMonth.minusMonths(retentionMonths);
+            for (String partition : existing) {
+                YearMonth month = parseMonth(partition);
+                if (month != null && month.isBefore(oldestKept)) {
+                    expired.add(partition);
+                }
+            }
+        }
+        boolean drop = !"detach".equalsIgnoreCase(retentionAction);
+        for (String partition : expired) {
+            jdbcTemplate.execute("ALTER TABLE flagged_content DETACH PARTITION " + partition);
+            if (drop) {
+                jdbcTemplate.execute("DROP TABLE " + partition);
+            }
+            log.info("Flagged content partition {} {} (retention {} months)", partition,
+                    drop ? "dropped" : "detached", retentionMonths);
+        }
+
+        return String.format("Created %d partitions, %s %d expired", created, drop ? "dropped" : "detached", expired.size());
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(SUFFIX);
+    }
+
+    /**
+     * @return the month of a monthly partition, or null for other partitions (e.g. the default one)
+     */
+    static YearMonth parseMonth(String partition) {
+        if (!partition.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(partition.substring(PARTITION_PREFIX.length()), SUFFIX);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
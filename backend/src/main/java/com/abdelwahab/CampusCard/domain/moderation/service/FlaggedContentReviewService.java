@@ -0,0 +1,213 @@
+package com.abdelwahab.CampusCard.domain.moderation.service;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.abdelwahab.CampusCard.domain.common.exception.InvalidStateException;
+import com.abdelwahab.CampusCard.domain.moderation.dto.FlaggedContentResponse;
+import com.abdelwahab.CampusCard.domain.moderation.model.FlaggedContent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Admin review queue for {@code flagged_content}.
+ *
+ * <p>Flags are listed newest first with keyset pagination on {@code (flagged_at, id)}: each page
+ * continues strictly after the last row of the previous one, so every page is an index range scan
+ * of {@code limit + 1} rows regardless of depth. Open flags use the partial index
+ * {@code idx_flagged_content_open}, whose size follows the open backlog rather than all history.
+ * User fields are joined in the same query. Listings are bounded by {@code since} (default
+ * {@code app.moderation.review.default-lookback-days}), so PostgreSQL only scans the monthly
+ * {@code flagged_content} partitions in that range.
+ *
+ * <p>Resolving or dismissing is one conditional {@code UPDATE ... WHERE status = 'open'}, so a flag
+ * closed concurrently by another admin is not closed twice and is reported as not updated.
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class FlaggedContentReviewService {
+
+    private static final String SELECT_SQL = """
+        SELECT fc.id, fc.user_id, u.email, u.first_name, u.last_name, fc.content, fc.flagged_at,
+               fc.occurrences, fc.last_flagged_at, fc.status, fc.resolved_at, fc.resolved_by
+        FROM flagged_content fc
+        JOIN users u ON u.id = fc.user_id
+        WHERE fc.status = :status AND fc.flagged_at >= :since
+        """;
+
+    private static final String PAGE_SQL = SELECT_SQL + """
+        ORDER BY fc.flagged_at DESC, fc.id DESC
+        LIMIT :limit
+        """;
+
+    private static final String NEXT_PAGE_SQL = SELECT_SQL + """
+          AND (fc.flagged_at, fc.id) < (:flaggedAt, :id)
+        ORDER BY fc.flagged_at DESC, fc.id DESC
+        LIMIT :limit
+        """;
+
+    private static final String RESOLVE_SQL = """
+        UPDATE flagged_content
+        SET status = :status, resolved_at = CURRENT_TIMESTAMP, resolved_by = :adminId
+        WHERE id IN (:ids) AND status = 'open'
+        RETURNING id
+        """;
+
+    private static final RowMapper<FlaggedContentResponse> ROW_MAPPER = (rs, rowNum) -> FlaggedContentResponse.builder()
+            .id(rs.getInt("id"))
+            .userId(rs.getInt("user_id"))
+            .userEmail(rs.getString("email"))
+            .userName(rs.getString("first_name") + " " + rs.getString("last_name"))
+            .content(rs.getString("content"))
+            .flaggedAt(rs.getTimestamp("flagged_at").toLocalDateTime())
+            .occurrences(rs.getInt("occurrences"))
+            .lastFlaggedAt(rs.getTimestamp("last_flagged_at").toLocalDateTime())
+            .status(rs.getString("status"))
+            .resolvedAt(rs.getTimestamp("resolved_at") != null ? rs.getTimestamp("resolved_at").toLocalDateTime() : null)
+            .resolvedBy((Integer) rs.getObject("resolved_by"))
+            .build();
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Value("${app.moderation.review.max-page-size:200}")
+    private int maxPageSize;
+
+    @Value("${app.moderation.review.max-batch-size:500}")
+    private int maxBatchSize;
+
+    @Value("${app.moderation.review.default-lookback-days:90}")
+    private int defaultLookbackDays;
+
+    /**
+     * One page of the review queue.
+     *
+     * @param items flags on this page, newest first
+     * @param nextCursor cursor for the following page, or null if this is the last one
+     */
+    public record Page(List<FlaggedContentResponse> items, String nextCursor) {
+    }
+
+    /**
+     * Lists flags with the given status, newest first.
+     *
+     * @param status status to list (open, resolved or dismissed)
+     * @param since earliest flag date to list (ISO date), or null for the default lookback
+     * @param cursor cursor returned with the previous page, or null for the first page
+     * @param limit page size (1 to {@code app.moderation.review.max-page-size})
+     * @return the page and the cursor of the next one
+     * @throws InvalidStateException if the status, date, cursor or limit is invalid
+     */
+    public Page getFlaggedContent(String status, String since, String cursor, int limit) {
+        if (limit < 1 || limit > maxPageSize) {
+            throw new InvalidStateException(
+                String.format("Limit must be between 1 and %d", maxPageSize));
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("status", parseStatus(status).getValue())
+                .addValue("since", Timestamp.valueOf(parseSince(since)))
+                .addValue("limit", limit + 1);
+        if (cursor != null && !cursor.isBlank()) {
+            decodeCursor(cursor, params);
+        }
+
+        List<FlaggedContentResponse> rows = jdbcTemplate.query(
+                params.hasValue("id") ? NEXT_PAGE_SQL : PAGE_SQL, params, ROW_MAPPER);
+        if (rows.size() <= limit) {
+            return new Page(rows, null);
+        }
+        List<FlaggedContentResponse> items = rows.subList(0, limit);
+        FlaggedContentResponse last = items.get(limit - 1);
+        return new Page(items, encodeCursor(last.getFlaggedAt(), last.getId()));
+    }
+
+    /**
+     * Resolves or dismisses open flags.
+     *
+     * @param ids flag IDs (duplicates and nulls are ignored)
+     * @param status resolved or dismissed
+     * @param adminId the admin closing the flags
+     * @return IDs that were open and are now closed
+     * @throws InvalidStateException if the status is not a closing status or too many IDs are given
+     */
+    @Transactional
+    public List<Integer> resolve(List<Integer> ids, String status, Integer adminId) {
+        FlaggedContent.Status target = parseStatus(status);
+        if (target == FlaggedContent.Status.OPEN) {
+            throw new InvalidStateException("Status must be resolved or dismissed");
+        }
+        Set<Integer> distinctIds = new LinkedHashSet<>(ids);
+        distinctIds.remove(null);
+        if (distinctIds.isEmpty()) {
+            throw new InvalidStateException("At least one flagged content ID is required");
+        }
+        if (distinctIds.size() > maxBatchSize) {
+            throw new InvalidStateException(
+                String.format("Too many flagged content IDs: maximum is %d per request", maxBatchSize));
+        }
+
+        List<Integer> updated = jdbcTemplate.queryForList(RESOLVE_SQL, new MapSqlParameterSource()
+                .addValue("status", target.getValue())
+                .addValue("adminId", adminId)
+                .addValue("ids", distinctIds), Integer.class);
+        log.info("Admin {} marked {} of {} flagged content items as {}", adminId, updated.size(), distinctIds.size(), target);
+        return updated;
+    }
+
+    private LocalDateTime parseSince(String since) {
+        if (since == null || since.isBlank()) {
+            return LocalDate.now().minusDays(defaultLookbackDays).atStartOfDay();
+        }
+        try {
+            return LocalDate.parse(since).atStartOfDay();
+        } catch (DateTimeParseException e) {
+            throw new InvalidStateException("Invalid since date: " + since + " (expected YYYY-MM-DD)");
+        }
+    }
+
+    private static FlaggedContent.Status parseStatus(String status) {
+        try {
+            return FlaggedContent.Status.from(status);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidStateException("Invalid status: " + status + " (expected open, resolved or dismissed)");
+        }
+    }
+
+    /**
+     * Cursors are opaque to clients: base64url of {@code flaggedAt|id} of the last row returned.
+     */
+    private static String encodeCursor(LocalDateTime flaggedAt, Integer id) {
+        String raw = flaggedAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void decodeCursor(String cursor, MapSqlParameterSource params) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            params.addValue("flaggedAt", Timestamp.valueOf(LocalDateTime.parse(raw.substring(0, separator))));
+            params.addValue("id", Integer.parseInt(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidStateException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.abdelwahab.CampusCard.domain.moderation.service;
+
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Memoizes banned word results per field text, so resubmitted unchanged fields are not scanned
+ * again (profile forms post every field on each save).
+ *
+ * <p>Entries are keyed by the banned word list version ({@link ContentModerationService}'s matcher
+ * generation), a 64-bit hash of the text and its length; the text itself is not stored. The hash
+ * is seeded randomly per process, so colliding texts cannot be prepared in advance. Text is hashed
+ * before normalization: identical input always normalizes identically, and hashing is cheaper
+ * than normalizing.
+ *
+ * <p>The cache is cleared wholesale when the word list changes, and also when it reaches
+ * {@code app.moderation.result-cache.max-entries} (simple bound, no per-entry bookkeeping).
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Service
+public class ModerationResultCache {
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final long seed = new SecureRandom().nextLong();
+    private final Map<Key, List<String>> results = new ConcurrentHashMap<>();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    @Value("${app.moderation.result-cache.max-entries:10000}")
+    private int maxEntries;
+
+    public ModerationResultCache(MeterRegistry meterRegistry) {
+        this.hitCounter = Counter.builder("campuscard.moderation.cache")
+                .description("Moderation result cache lookups")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("campuscard.moderation.cache")
+                .description("Moderation result cache lookups")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("campuscard.moderation.cache.size", results, Map::size)
+                .description("Cached moderation results")
+                .register(meterRegistry);
+    }
+
+    private record Key(long version, long hash, int length) {
+    }
+
+    /**
+     * @param version banned word list version
+     * @param text field text
+     * @return cached banned words found in the text, or null if not cached
+     */
+    public List<String> get(long version, String text) {
+        List<String> result = results.get(new Key(version, hash(text), text.length()));
+        (result != null ? hitCounter : missCounter).increment();
+        return result;
+    }
+
+    /**
+     * @param version banned word list version the result was computed with
+     * @param text field text
+     * @param bannedWords banned words found (immutable)
+     */
+    public void put(long version, String text, List<String> bannedWords) {
+        if (results.size() >= maxEntries) {
+            results.clear();
+        }
+        results.put(new Key(version, hash(text), text.length()), bannedWords);
+    }
+
+    /**
+     * Drops all results (banned words changed).
+     */
+    public void clear() {
+        results.clear();
+    }
+
+    /**
+     * Seeded FNV-1a over the UTF-16 chars with a final avalanche step.
+     */
+    private long hash(String text) {
+        long h = seed;
+        for (int i = 0; i < text.length(); i++) {
+            h = (h ^ text.charAt(i)) * FNV_PRIME;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        return h ^ (h >>> 33);
+    }
+}
@@ -0,0 +1,248 @@
+package com.abdelwahab.CampusCard.domain.moderation.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Per-user sliding-window counter of moderation violations, used to throttle repeat offenders
+ * before their profile updates reach the database.
+ *
+ * <p>{@link ContentModerationService} records a violation for every rejected profile update. When a
+ * user exceeds {@code app.moderation.throttle.max-violations} within
+ * {@code app.moderation.throttle.window-seconds} they are blocked for a cool-down; every further
+ * block while still tracked doubles the cool-down, up to {@code max-cooldown-seconds}.
+ * {@link #retryAfterSeconds(int)} is checked on each profile update before any DB work.
+ *
+ * <p>The window is a two-bucket sliding window (the previous fixed window weighted by its remaining
+ * overlap plus the current one), so each user costs a handful of primitives. Users are kept in an
+ * open-addressing table keyed by {@code int} user ID (no boxing) with at most
+ * {@code max-tracked-users} entries; when full, inactive entries are swept and, if it is still
+ * full, new offenders are not tracked (counted in {@code campuscard.moderation.throttle.overflow}).
+ * Counters are per node.
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Service
+@Slf4j
+public class ModerationThrottle {
+
+    private static final int EMPTY = 0;
+
+    private final Counter violationsCounter;
+    private final Counter throttledCounter;
+    private final Counter overflowCounter;
+
+    private final int maxViolations;
+    private final long windowMs;
+    private final long cooldownMs;
+    private final long maxCooldownMs;
+    private final int maxTrackedUsers;
+
+    // Parallel arrays indexed by slot; keys[slot] == EMPTY marks a free slot (user IDs start at 1)
+    private int[] keys;
+    private long[] windowStart;
+    private int[] current;
+    private int[] previous;
+    private long[] blockedUntil;
+    private int[] strikes;
+    private int size;
+
+    public ModerationThrottle(MeterRegistry meterRegistry,
+                              @Value("${app.moderation.throttle.max-violations:5}") int maxViolations,
+                              @Value("${app.moderation.throttle.window-seconds:600}") long windowSeconds,
+                              @Value("${app.moderation.throttle.cooldown-seconds:300}") long cooldownSeconds,
+                              @Value("${app.moderation.throttle.max-cooldown-seconds:86400}") long maxCooldownSeconds,
+                              @Value("${app.moderation.throttle.max-tracked-users:10000}") int maxTrackedUsers) {
+        this.maxViolations = maxViolations;
+        this.windowMs = windowSeconds * 1000;
+        this.cooldownMs = cooldownSeconds * 1000;
+        this.maxCooldownMs = maxCooldownSeconds * 1000;
+        this.maxTrackedUsers = maxTrackedUsers;
+        allocate(Integer.highestOneBit(Math.max(maxTrackedUsers, 8) * 2 - 1) << 1);
+
+        this.violationsCounter = Counter.builder("campuscard.moderation.throttle.violations")
+                .description("Rejected profile updates recorded for throttling")
+                .register(meterRegistry);
+        this.throttledCounter = Counter.builder("campuscard.moderation.throttle.rejected")
+                .description("Profile updates rejected with 429 because the user is in cool-down")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder("campuscard.moderation.throttle.overflow")
+                .description("Offenders not tracked because the table was full")
+                .register(meterRegistry);
+        Gauge.builder("campuscard.moderation.throttle.tracked", this, ModerationThrottle::trackedUsers)
+                .description("Users with recent moderation violations")
+                .register(meterRegistry);
+        Gauge.builder("campuscard.moderation.throttle.blocked", this, ModerationThrottle::blockedUsers)
+                .description("Users currently in moderation cool-down")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records a moderation violation (a rejected update) for a user.
+     *
+     * @param userId offending user
+     */
+    public synchronized void recordViolation(int userId) {
+        violationsCounter.increment();
+        long now = System.currentTimeMillis();
+        int slot = findOrInsert(userId, now);
+        if (slot < 0) {
+            overflowCounter.increment();
+            return;
+        }
+        advance(slot, now);
+        current[slot]++;
+        if (blockedUntil[slot] <= now && estimate(slot, now) > maxViolations) {
+            long cooldown = Math.min(maxCooldownMs, cooldownMs << Math.min(strikes[slot], 20));
+            blockedUntil[slot] = now + cooldown;
+            strikes[slot]++;
+            log.warn("User {} throttled for {} s after repeated moderation violations", userId, cooldown / 1000);
+        }
+    }
+
+    /**
+     * Checks whether a user may submit profile content now.
+     *
+     * @param userId user about to update their profile
+     * @return 0 if allowed, otherwise seconds until the cool-down ends (at least 1)
+     */
+    public synchronized long retryAfterSeconds(int userId) {
+        int slot = find(userId);
+        if (slot < 0) {
+            return 0;
+        }
+        long remaining = blockedUntil[slot] - System.currentTimeMillis();
+        if (remaining <= 0) {
+            return 0;
+        }
+        throttledCounter.increment();
+        return Math.max(1, (remaining + 999) / 1000);
+    }
+
+    synchronized int trackedUsers() {
+        return size;
+    }
+
+    synchronized int blockedUsers() {
+        long now = System.currentTimeMillis();
+        int blocked = 0;
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != EMPTY && blockedUntil[slot] > now) {
+                blocked++;
+            }
+        }
+        return blocked;
+    }
+
+    /**
+     * Rolls the fixed windows of a slot forward to {@code now}.
+     */
+    private void advance(int slot, long now) {
+        long elapsed = now - windowStart[slot];
+        if (elapsed < windowMs) {
+            return;
+        }
+        previous[slot] = elapsed < 2 * windowMs ? current[slot] : 0;
+        current[slot] = 0;
+        windowStart[slot] += (elapsed / windowMs) * windowMs;
+    }
+
+    /**
+     * Sliding-window estimate: the previous window weighted by how much of it still overlaps.
+     */
+    private double estimate(int slot, long now) {
+        double overlap = 1.0 - (double) (now - windowStart[slot]) / windowMs;
+        return previous[slot] * overlap + current[slot];
+    }
+
+    private boolean isActive(int slot, long now) {
+        return blockedUntil[slot] > now || now - windowStart[slot] < 2 * windowMs;
+    }
+
+    private int find(int userId) {
+        int mask = keys.length - 1;
+        for (int slot = mix(userId) & mask; keys[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (keys[slot] == userId) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private int findOrInsert(int userId, long now) {
+        int existing = find(userId);
+        if (existing >= 0) {
+            return existing;
+        }
+        if (size >= maxTrackedUsers) {
+            sweep(now);
+            if (size >= maxTrackedUsers) {
+                return -1;
+            }
+        }
+        int slot = insert(userId);
+        windowStart[slot] = now;
+        return slot;
+    }
+
+    private int insert(int userId) {
+        int mask = keys.length - 1;
+        int slot = mix(userId) & mask;
+        while (keys[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = userId;
+        size++;
+        return slot;
+    }
+
+    /**
+     * Rebuilds the table without entries whose windows and cool-downs have expired.
+     */
+    private void sweep(long now) {
+        int[] oldKeys = keys;
+        long[] oldWindowStart = windowStart;
+        int[] oldCurrent = current;
+        int[] oldPrevious = previous;
+        long[] oldBlockedUntil = blockedUntil;
+        int[] oldStrikes = strikes;
+        boolean[] keep = new boolean[oldKeys.length];
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            keep[slot] = oldKeys[slot] != EMPTY && isActive(slot, now);
+        }
+
+        allocate(oldKeys.length);
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (keep[slot]) {
+                int target = insert(oldKeys[slot]);
+                windowStart[target] = oldWindowStart[slot];
+                current[target] = oldCurrent[slot];
+                previous[target] = oldPrevious[slot];
+                blockedUntil[target] = oldBlockedUntil[slot];
+                strikes[target] = oldStrikes[slot];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        windowStart = new long[capacity];
+        current = new int[capacity];
+        previous = new int[capacity];
+        blockedUntil = new long[capacity];
+        strikes = new int[capacity];
+        size = 0;
+    }
+
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
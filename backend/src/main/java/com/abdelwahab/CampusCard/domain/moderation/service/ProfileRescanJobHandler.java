@@ -0,0 +1,214 @@
+package com.abdelwahab.CampusCard.domain.moderation.service;
+
+import java.sql.Array;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.abdelwahab.CampusCard.domain.common.persistence.PooledIdAllocator;
+import com.abdelwahab.CampusCard.domain.common.queue.JobHandler;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Work queue handler that rescans existing profiles for newly banned words.
+ *
+ * <p>Profiles are read in keyset-paginated chunks ({@code WHERE id > :cursor ORDER BY id LIMIT n}),
+ * so memory stays bounded and every query is short. Each chunk is matched in parallel on the
+ * {@code moderationRescanPool} fork-join pool with a {@link BannedWordMatcher} compiled from the
+ * rescan's words only (same normalization and word boundaries as live checks), then its flags
+ * are batch-inserted into {@code flagged_content} in one small transaction together with the
+ * progress counters and the cursor. A retried job therefore resumes after the last committed
+ * chunk and never flags a profile twice. The cursor update is a compare-and-set on the cursor the
+ * chunk started from: if the job is delivered twice (the queue is at-least-once) and another
+ * runner already committed the chunk, the transaction rolls back its flags and this runner stops.
+ *
+ * <p>Profile fields checked are the same as on profile update: bio, interests, LinkedIn and
+ * GitHub. Flag messages use {@link ContentModerationService#formatFlaggedContent}.
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+@Slf4j
+public class ProfileRescanJobHandler implements JobHandler<ProfileRescanJobHandler.RescanJob> {
+
+    public static final String JOB_TYPE = "moderation-rescan";
+
+    private static final String PROFILES_SQL = """
+        SELECT id, user_id, bio, interests, linkedin, github
+        FROM profiles
+        WHERE id > ?
+        ORDER BY id
+        LIMIT ?
+        """;
+
+    private static final String FLAG_SEQUENCE = "flagged_content_id_seq";
+
+    private static final String INSERT_FLAG_SQL = "INSERT INTO flagged_content (id, user_id, content) VALUES (?, ?, ?)";
+
+    private static final String PROGRESS_SQL = """
+        UPDATE moderation_rescans
+        SET scanned_profiles = scanned_profiles + ?, flagged_profiles = flagged_profiles + ?, last_profile_id = ?
+        WHERE id = ? AND last_profile_id = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ForkJoinPool moderationRescanPool;
+    private final PooledIdAllocator idAllocator;
+
+    @Value("${app.moderation.rescan.chunk-size:500}")
+    private int chunkSize;
+
+    public ProfileRescanJobHandler(JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   @Qualifier("moderationRescanPool") ForkJoinPool moderationRescanPool,
+                                   PooledIdAllocator idAllocator) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.moderationRescanPool = moderationRescanPool;
+        this.idAllocator = idAllocator;
+    }
+
+    /**
+     * Work queue payload.
+     *
+     * @param rescanId ID of the {@code moderation_rescans} row
+     */
+    public record RescanJob(long rescanId) {
+    }
+
+    private record ProfileText(int id, int userId, Map<String, String> fields) {
+    }
+
+    private record Flag(int userId, String content) {
+    }
+
+    /**
+     * Another runner of the same rescan committed the chunk first.
+     */
+    private static final class CursorMovedException extends RuntimeException {
+        CursorMovedException(long rescanId, int cursor) {
+            super("Rescan " + rescanId + " already advanced past profile " + cursor);
+        }
+    }
+
+    @Override
+    public String getType() {
+        return JOB_TYPE;
+    }
+
+    @Override
+    public Class<RescanJob> getPayloadType() {
+        return RescanJob.class;
+    }
+
+    @Override
+    public void handle(RescanJob job) {
+        long rescanId = job.rescanId();
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT words, status, last_profile_id FROM moderation_rescans WHERE id = ?", rescanId);
+        if (rows.isEmpty() || "completed".equals(rows.get(0).get("status"))) {
+            return;
+        }
+
+        try {
+            List<String> words = Arrays.asList((String[]) ((Array) rows.get(0).get("words")).getArray());
+            BannedWordMatcher matcher = BannedWordMatcher.compile(words);
+            int cursor = (Integer) rows.get(0).get("last_profile_id");
+            jdbcTemplate.update("""
+                UPDATE moderation_rescans
+                SET status = 'running', started_at = COALESCE(started_at, CURRENT_TIMESTAMP),
+                    total_profiles = (SELECT COUNT(*) FROM profiles)
+                WHERE id = ?
+                """, rescanId);
+
+            while (true) {
+                List<ProfileText> chunk = jdbcTemplate.query(PROFILES_SQL, (rs, rowNum) -> {
+                    Map<String, String> fields = new LinkedHashMap<>();
+                    fields.put("bio", rs.getString("bio"));
+                    fields.put("interests", rs.getString("interests"));
+                    fields.put("linkedin", rs.getString("linkedin"));
+                    fields.put("github", rs.getString("github"));
+                    return new ProfileText(rs.getInt("id"), rs.getInt("user_id"), fields);
+                }, cursor, chunkSize);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+
+                List<Flag> flags = match(chunk, matcher);
+                int flaggedProfiles = (int) flags.stream().mapToInt(Flag::userId).distinct().count();
+                int lastId = chunk.get(chunk.size() - 1).id();
+                int chunkStart = cursor;
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (!flags.isEmpty()) {
+                        int[] ids = idAllocator.allocate(FLAG_SEQUENCE, flags.size());
+                        List<Object[]> batch = new ArrayList<>(flags.size());
+                        for (int i = 0; i < flags.size(); i++) {
+                            batch.add(new Object[] {ids[i], flags.get(i).userId(), flags.get(i).content()});
+                        }
+                        jdbcTemplate.batchUpdate(INSERT_FLAG_SQL, batch);
+                    }
+                    if (jdbcTemplate.update(PROGRESS_SQL, chunk.size(), flaggedProfiles, lastId, rescanId, chunkStart) == 0) {
+                        throw new CursorMovedException(rescanId, chunkStart);
+                    }
+                });
+                cursor = lastId;
+            }
+
+            jdbcTemplate.update(
+                    "UPDATE moderation_rescans SET status = 'completed', finished_at = CURRENT_TIMESTAMP, last_error = NULL WHERE id = ?",
+                    rescanId);
+            log.info("Profile rescan {} completed for words {}", rescanId, words);
+        } catch (CursorMovedException e) {
+            // The other runner owns the rescan from here on; this chunk's flags were rolled back
+            log.info("{}; stopping duplicate runner", e.getMessage());
+        } catch (SQLException | RuntimeException e) {
+            // Progress so far is committed; the work queue retries and the rescan resumes from the cursor
+            jdbcTemplate.update("UPDATE moderation_rescans SET last_error = ? WHERE id = ?", e.toString(), rescanId);
+            throw e instanceof RuntimeException runtime ? runtime : new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Matches a chunk of profiles in parallel on the rescan pool.
+     */
+    private List<Flag> match(List<ProfileText> chunk, BannedWordMatcher matcher) {
+        try {
+            return moderationRescanPool.submit(() -> chunk.parallelStream()
+                    .flatMap(profile -> matchProfile(profile, matcher).stream())
+                    .toList()).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Rescan interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Rescan matching failed", e.getCause());
+        }
+    }
+
+    private static List<Flag> matchProfile(ProfileText profile, BannedWordMatcher matcher) {
+        List<Flag> flags = new ArrayList<>();
+        profile.fields().forEach((fieldName, content) -> {
+            List<String> found = matcher.findMatches(content);
+            if (!found.isEmpty()) {
+                flags.add(new Flag(profile.userId(),
+                        ContentModerationService.formatFlaggedContent(fieldName, found, content)));
+            }
+        });
+        return flags;
+    }
+}
@@ -0,0 +1,118 @@
+package com.abdelwahab.CampusCard.domain.moderation.service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.abdelwahab.CampusCard.domain.common.event.BannedWordsChangedEvent;
+import com.abdelwahab.CampusCard.domain.common.event.DomainEvent;
+import com.abdelwahab.CampusCard.domain.common.event.DomainEventListener;
+import com.abdelwahab.CampusCard.domain.common.exception.ResourceNotFoundException;
+import com.abdelwahab.CampusCard.domain.common.queue.WorkQueue;
+import com.abdelwahab.CampusCard.domain.moderation.dto.ModerationRescanResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Starts retroactive rescans of existing profiles when banned words are added and reports
+ * their progress.
+ *
+ * <p>New words only affect future profile updates, so content that already contains them would
+ * stay live. On {@link BannedWordsChangedEvent} with added words, a {@code moderation_rescans}
+ * row and a work queue job are created in one transaction; {@link ProfileRescanJobHandler}
+ * then scans all profiles for those words in the background.
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ProfileRescanService implements DomainEventListener {
+
+    private static final String SELECT_SQL = """
+        SELECT id, words, status, total_profiles, scanned_profiles, flagged_profiles, last_error,
+               created_at, started_at, finished_at
+        FROM moderation_rescans
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final WorkQueue workQueue;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public boolean supports(DomainEvent event) {
+        return event instanceof BannedWordsChangedEvent changed && changed.added() > 0;
+    }
+
+    @Override
+    public void onEvent(DomainEvent event) {
+        scheduleRescan(((BannedWordsChangedEvent) event).addedWords());
+    }
+
+    /**
+     * Records a rescan for the given words and queues it.
+     *
+     * @param words newly banned words (lowercase)
+     * @return rescan ID
+     */
+    public long scheduleRescan(List<String> words) {
+        Long rescanId = new TransactionTemplate(transactionManager).execute(status -> {
+            Long id = jdbcTemplate.queryForObject(
+                    "INSERT INTO moderation_rescans (words) VALUES (?) RETURNING id",
+                    Long.class, (Object) words.toArray(String[]::new));
+            workQueue.enqueue(ProfileRescanJobHandler.JOB_TYPE, new ProfileRescanJobHandler.RescanJob(id));
+            return id;
+        });
+        log.info("Scheduled profile rescan {} for {} new banned words", rescanId, words.size());
+        return rescanId;
+    }
+
+    /**
+     * @param limit maximum number of rescans
+     * @return most recent rescans, newest first
+     */
+    public List<ModerationRescanResponse> getRecentRescans(int limit) {
+        return jdbcTemplate.query(SELECT_SQL + " ORDER BY id DESC LIMIT ?", this::mapRescan, limit);
+    }
+
+    /**
+     * @param rescanId rescan ID
+     * @return progress of the rescan
+     * @throws ResourceNotFoundException if the rescan does not exist
+     */
+    public ModerationRescanResponse getRescan(Long rescanId) {
+        return jdbcTemplate.query(SELECT_SQL + " WHERE id = ?", this::mapRescan, rescanId).stream()
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("ModerationRescan", "id", rescanId));
+    }
+
+    private ModerationRescanResponse mapRescan(ResultSet rs, int rowNum) throws SQLException {
+        return ModerationRescanResponse.builder()
+                .id(rs.getLong("id"))
+                .words(Arrays.asList((String[]) rs.getArray("words").getArray()))
+                .status(rs.getString("status"))
+                .totalProfiles(rs.getObject("total_profiles", Integer.class))
+                .scannedProfiles(rs.getInt("scanned_profiles"))
+                .flaggedProfiles(rs.getInt("flagged_profiles"))
+                .lastError(rs.getString("last_error"))
+                .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+                .startedAt(toLocalDateTime(rs.getTimestamp("started_at")))
+                .finishedAt(toLocalDateTime(rs.getTimestamp("finished_at")))
+                .build();
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
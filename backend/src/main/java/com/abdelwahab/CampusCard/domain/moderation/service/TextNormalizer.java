@@ -0,0 +1,245 @@
+package com.abdelwahab.CampusCard.domain.moderation.service;
+
+import java.text.Normalizer;
+
+/**
+ * Normalizes user text for banned word matching so common obfuscations map to the plain word.
+ *
+ * <p>One pass over the input, writing into a caller-supplied {@code char[]} (no allocation):
+ * <ul>
+ *   <li>case and width folding (fullwidth {@code ｓｐａｍ} becomes {@code spam}), Latin accents and
+ *       common Cyrillic look-alikes mapped to the base Latin letter</li>
+ *   <li>Arabic: tashkeel and tatweel removed, alef/ta marbuta/alef maqsura variants unified</li>
+ *   <li>zero-width characters and soft hyphens removed</li>
+ *   <li>leet substitutions ({@code 0 1 3 4 5 7 8 9 @ $ ! + |}) read as letters when they touch a
+ *       letter; {@code !}, {@code +} and {@code |} only before a letter, so "spam!" stays "spam"</li>
+ *   <li>runs of separators collapsed to one space, and separators between single letters dropped
+ *       ({@code s p a m}, {@code s.p.a.m})</li>
+ *   <li>runs of three or more equal letters collapsed to one ({@code spaaam} becomes {@code spam});
+ *       doubled letters are kept, since they are part of ordinary spelling ({@code hell},
+ *       {@code held} and {@code hello} stay distinct)</li>
+ * </ul>
+ * The output only contains letters, digits and single spaces. Banned words must be normalized
+ * with the same rules (see {@link BannedWordMatcher}, which also matches the single-letter form
+ * of words with doubled letters, so {@code heeell} and {@code hel} are both found).
+ *
+ * <p>Character folding uses a table precomputed for the whole BMP at class load.
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+public final class TextNormalizer {
+
+    private static final char DROP = 0;
+
+    private static final byte SEPARATOR = 0;
+    private static final byte LETTER = 1;
+    private static final byte DIGIT = 2;
+    /** Leet character read as a letter if a letter is on either side. */
+    private static final byte LEET = 3;
+    /** Leet character read as a letter only if a letter follows (also common punctuation). */
+    private static final byte LEET_BEFORE_LETTER = 4;
+
+    private static final char[] FOLD = new char[Character.MAX_VALUE + 1];
+    private static final byte[] CLASS = new byte[Character.MAX_VALUE + 1];
+    private static final char[] LEET_MAP = new char[128];
+
+    static {
+        for (int i = 0; i <= Character.MAX_VALUE; i++) {
+            FOLD[i] = Character.toLowerCase((char) i);
+        }
+        // Fullwidth ASCII and ideographic space
+        for (int c = 0xFF01; c <= 0xFF5E; c++) {
+            FOLD[c] = Character.toLowerCase((char) (c - 0xFEE0));
+        }
+        FOLD[0x3000] = ' ';
+        // Latin letters with diacritics: first character of the canonical decomposition
+        foldDecomposed(0x00C0, 0x024F);
+        foldDecomposed(0x1E00, 0x1EFF);
+        FOLD[0x00DF] = 's';
+        FOLD[0x0131] = 'i';
+        // Cyrillic look-alikes of Latin letters
+        mapAll("аеорсхуікјѕмт", "aeopcxyikjsmt");
+        mapAll("АЕОРСХУІКЈЅМТВН", "aeopcxyikjsmtbh");
+        // Arabic: remove tashkeel, tatweel and Quranic marks, unify letter variants
+        dropRange(0x064B, 0x065F);
+        dropRange(0x06D6, 0x06ED);
+        FOLD[0x0670] = DROP;
+        FOLD[0x0640] = DROP;
+        mapAll("آأإٱ", "اااا");
+        FOLD[0x0629] = 'ه';
+        FOLD[0x0649] = 'ي';
+        FOLD[0x0624] = 'و';
+        FOLD[0x0626] = 'ي';
+        // Invisible characters
+        dropRange(0x200B, 0x200F);
+        dropRange(0x2060, 0x2064);
+        FOLD[0xFEFF] = DROP;
+        FOLD[0x00AD] = DROP;
+
+        for (int i = 0; i <= Character.MAX_VALUE; i++) {
+            char c = (char) i;
+            CLASS[i] = Character.isLetter(c) ? LETTER : Character.isDigit(c) ? DIGIT : SEPARATOR;
+        }
+        leet("0134578", "oieastb", LEET);
+        leet("9@$", "gas", LEET);
+        leet("!+|", "itl", LEET_BEFORE_LETTER);
+    }
+
+    private TextNormalizer() {
+    }
+
+    /**
+     * Normalizes text into {@code out}.
+     *
+     * @param text text to normalize
+     * @param out output buffer, at least {@code text.length()} long (output is never longer than input)
+     * @return number of characters written
+     */
+    public static int normalize(CharSequence text, char[] out) {
+        int length = text.length();
+        int n = 0;
+        int rawTokenLength = 0;
+        int previousRawTokenLength = 0;
+        int letterRun = 0;
+        boolean pendingSeparator = false;
+
+        for (int i = 0; i < length; i++) {
+            char c = FOLD[text.charAt(i)];
+            if (c == DROP) {
+                continue;
+            }
+            byte cls = CLASS[c];
+
+            if (cls == LEET || cls == LEET_BEFORE_LETTER) {
+                boolean letterAfter = nextClass(text, i + 1) == LETTER;
+                boolean letterBefore = n > 0 && CLASS[out[n - 1]] == LETTER
+                        && (!pendingSeparator || (previousRawTokenLength == 1 && isTokenEnd(text, i + 1)));
+                if (letterAfter || (cls == LEET && letterBefore)) {
+                    c = LEET_MAP[c];
+                    cls = LETTER;
+                } else {
+                    cls = Character.isDigit(c) ? DIGIT : SEPARATOR;
+                }
+            }
+
+            if (cls == SEPARATOR) {
+                if (rawTokenLength > 0) {
+                    previousRawTokenLength = rawTokenLength;
+                    rawTokenLength = 0;
+                }
+                pendingSeparator = n > 0;
+                continue;
+            }
+
+            if (pendingSeparator) {
+                pendingSeparator = false;
+                // Drop separators in spaced-out words: single letters on both sides
+                boolean spacedOut = previousRawTokenLength == 1 && cls == LETTER
+                        && CLASS[out[n - 1]] == LETTER && isTokenEnd(text, i + 1);
+                if (!spacedOut) {
+                    out[n++] = ' ';
+                }
+            }
+            rawTokenLength++;
+            if (cls == LETTER && n > 0 && out[n - 1] == c) {
+                letterRun++;
+                if (letterRun == 2) {
+                    out[n++] = c;
+                } else if (letterRun == 3) {
+                    // Emphasis ("spaaam"), not spelling: keep a single letter
+                    n--;
+                }
+                continue;
+            }
+            letterRun = cls == LETTER ? 1 : 0;
+            out[n++] = c;
+        }
+        return n;
+    }
+
+    /**
+     * Normalizes text into a new string (for banned words and tests).
+     *
+     * @param text text to normalize, may be null
+     * @return normalized text, empty for null
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        char[] out = new char[text.length()];
+        return new String(out, 0, normalize(text, out));
+    }
+
+    /**
+     * @param c normalized character
+     * @return true for letters and digits (characters that belong to a word)
+     */
+    static boolean isWordChar(char c) {
+        byte cls = CLASS[c];
+        return cls == LETTER || cls == DIGIT;
+    }
+
+    /**
+     * Class of the next non-dropped character. Leet characters count as what they literally are,
+     * so plain numbers such as "101" are not read as letters.
+     */
+    private static byte nextClass(CharSequence text, int from) {
+        for (int i = from; i < text.length(); i++) {
+            char c = FOLD[text.charAt(i)];
+            if (c != DROP) {
+                byte cls = CLASS[c];
+                if (cls == LEET || cls == LEET_BEFORE_LETTER) {
+                    return Character.isDigit(c) ? DIGIT : SEPARATOR;
+                }
+                return cls;
+            }
+        }
+        return SEPARATOR;
+    }
+
+    /**
+     * True if the raw token ends before {@code from} (end of text or a separator follows).
+     */
+    private static boolean isTokenEnd(CharSequence text, int from) {
+        for (int i = from; i < text.length(); i++) {
+            char c = FOLD[text.charAt(i)];
+            if (c != DROP) {
+                byte cls = CLASS[c];
+                return cls == SEPARATOR || (cls == LEET_BEFORE_LETTER && nextClass(text, i + 1) != LETTER);
+            }
+        }
+        return true;
+    }
+
+    private static void foldDecomposed(int from, int to) {
+        for (int c = from; c <= to; c++) {
+            String decomposed = Normalizer.normalize(String.valueOf((char) c), Normalizer.Form.NFD);
+            char base = decomposed.charAt(0);
+            if (base < 0x80 && Character.isLetter(base)) {
+                FOLD[c] = Character.toLowerCase(base);
+            }
+        }
+    }
+
+    private static void mapAll(String from, String to) {
+        for (int i = 0; i < from.length(); i++) {
+            FOLD[from.charAt(i)] = to.charAt(i);
+        }
+    }
+
+    private static void dropRange(int from, int to) {
+        for (int c = from; c <= to; c++) {
+            FOLD[c] = DROP;
+        }
+    }
+
+    private static void leet(String from, String to, byte cls) {
+        for (int i = 0; i < from.length(); i++) {
+            LEET_MAP[from.charAt(i)] = to.charAt(i);
+            CLASS[from.charAt(i)] = cls;
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.abdelwahab.CampusCard.domain.profile.controller;
 
 import java.util.List;
+import java.util.Set;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -16,16 +19,22 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.abdelwahab.CampusCard.domain.storage.dto.NationalIdScanResponse;
 import com.abdelwahab.CampusCard.domain.storage.dto.ProfilePhotoResponse;
+import com.abdelwahab.CampusCard.domain.profile.dto.ProfileBatchResponse;
 import com.abdelwahab.CampusCard.domain.profile.dto.ProfileResponse;
 import com.abdelwahab.CampusCard.domain.profile.dto.UpdateProfileRequest;
 import com.abdelwahab.CampusCard.domain.profile.dto.UpdateVisibilityRequest;
+import com.abdelwahab.CampusCard.domain.profile.repository.ProfileField;
 import com.abdelwahab.CampusCard.domain.user.model.User;
 import com.abdelwahab.CampusCard.domain.profile.service.ProfileService;
+import com.abdelwahab.CampusCard.domain.common.exception.InvalidStateException;
 import com.abdelwahab.CampusCard.domain.common.exception.UnauthorizedException;
+import com.abdelwahab.CampusCard.domain.common.web.CacheValidator;
+import com.abdelwahab.CampusCard.domain.common.web.CacheableResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -45,6 +54,11 @@ import lombok.RequiredArgsConstructor;
 @Tag(name = "Profile Management", description = "User profile operations including viewing, updating, and file uploads")
 public class ProfileController {
     
+    /**
+     * Clients may store responses but must revalidate them (conditional GET) on every use.
+     */
+    private static final CacheControl PRIVATE_REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final ProfileService profileService;
 
     /**
@@ -61,6 +75,33 @@ public class ProfileController {
         }
     }
 
+    /**
+     * GET /api/profile/batch?ids=1,2,3 - Get several users' profiles in one request
+     * Intended for card grids. Visibility is enforced per profile; the response contains
+     * one result per requested ID with either the profile or the reason it was withheld.
+     * The number of IDs per request is capped (app.profile.batch.max-size).
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<?> getUserProfiles(@RequestParam List<Integer> ids) {
+        try {
+            Integer currentUserId = null;
+            String currentUserRole = null;
+
+            try {
+                currentUserId = getCurrentUserId();
+                currentUserRole = getCurrentUserRole();
+            } catch (RuntimeException e) {
+                // User is not authenticated - only public profiles will be returned
+            }
+
+            ProfileBatchResponse response = profileService.getUserProfiles(ids, currentUserId, currentUserRole);
+            return ResponseEntity.ok(response); // 200
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST) // 400
+                    .body(new ErrorResponse(e.getMessage()));
+        }
+    }
+
     /**
      * GET /api/profile/{userId} - Get another user's profile (respects visibility)
      * This endpoint is accessible to both authenticated and unauthenticated users.
@@ -68,9 +109,14 @@ public class ProfileController {
      * - PUBLIC: visible to everyone
      * - STUDENTS_ONLY: visible to authenticated users only
      * - PRIVATE: visible only to profile owner and admins
+     * 
+     * Supports conditional requests (If-None-Match / If-Modified-Since): validators are
+     * computed from user/profile version counters, so a 304 is returned before the profile is loaded.
+     * Unconditional requests load everything with a single query and derive the validators from it.
+     * Responses are marked private since visibility depends on the caller.
      */
     @GetMapping("/{userId}")
-    public ResponseEntity<?> getUserProfile(@PathVariable Integer userId) {
+    public ResponseEntity<?> getUserProfile(@PathVariable Integer userId, WebRequest webRequest) {
         try {
             // Get current user info (may be null if not authenticated)
             Integer currentUserId = null;
@@ -84,8 +130,27 @@ public class ProfileController {
                 // currentUserId and currentUserRole remain null
             }
             
-            ProfileResponse profile = profileService.getUserProfile(userId, currentUserId, currentUserRole);
-            return ResponseEntity.ok(profile); // 200
+            // Conditional request: answer from the metadata lookup without loading the profile
+            if (isConditionalRequest(webRequest)) {
+                CacheValidator validator = profileService.getProfileValidator(userId, currentUserId, currentUserRole);
+                if (webRequest.checkNotModified(validator.eTag(), validator.lastModified())) {
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED) // 304
+                            .cacheControl(PRIVATE_REVALIDATE)
+                            .build();
+                }
+            }
+            
+            // Full view: one query, validators derived from the loaded entities
+            CacheableResponse<ProfileResponse> view =
+                    profileService.getUserProfileView(userId, currentUserId, currentUserRole);
+            if (webRequest.checkNotModified(view.validator().eTag(), view.validator().lastModified())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED) // 304
+                        .cacheControl(PRIVATE_REVALIDATE)
+                        .build();
+            }
+            return ResponseEntity.ok() // 200
+                    .cacheControl(PRIVATE_REVALIDATE)
+                    .body(view.body());
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN) // 403
                     .body(new ErrorResponse(e.getMessage()));
@@ -93,14 +158,40 @@ public class ProfileController {
     }
 
     /**
-     * GET /api/profile/public-students
-     * Get all users in the system for bulk management.
+     * GET /api/profile/public-students?fields={fields}
+     * Get all public, approved student profiles.
+     * Supports conditional requests; the validator is a single aggregate query over the directory.
+     * 
+     * Optional sparse fieldset: {@code fields} is a comma-separated list of ProfileResponse
+     * property names and/or the {@code card} preset (e.g., {@code fields=card,email}).
+     * Only the selected columns are queried and serialized; id and userId are always included.
+     * Without {@code fields} the full ProfileResponse is returned.
      */
     @GetMapping("/public-students")
-    public ResponseEntity<List<ProfileResponse>> getPublicStudents() {
+    public ResponseEntity<?> getPublicStudents(
+            @RequestParam(required = false) String fields, WebRequest webRequest) {
         try {
-            List<ProfileResponse> users = profileService.getPublicApprovedStudents();
-            return ResponseEntity.ok(users);
+            Set<ProfileField> selectedFields = fields != null ? ProfileField.parse(fields) : null;
+
+            CacheValidator validator = profileService.getPublicApprovedStudentsValidator();
+            if (selectedFields != null) {
+                validator = validator.withVariant(ProfileField.signature(selectedFields));
+            }
+            if (webRequest.checkNotModified(validator.eTag(), validator.lastModified())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .cacheControl(PRIVATE_REVALIDATE)
+                        .build();
+            }
+
+            Object users = selectedFields != null
+                    ? profileService.getPublicApprovedStudents(selectedFields)
+                    : profileService.getPublicApprovedStudents();
+            return ResponseEntity.ok()
+                    .cacheControl(PRIVATE_REVALIDATE)
+                    .body(users);
+        } catch (InvalidStateException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST) // 400 - unknown field
+                    .body(new ErrorResponse(e.getMessage()));
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
@@ -166,6 +257,14 @@ public class ProfileController {
         }
     }
 
+    /**
+     * Check whether the request carries cache validators (If-None-Match / If-Modified-Since)
+     */
+    private boolean isConditionalRequest(WebRequest webRequest) {
+        return webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || webRequest.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
     /**
      * Get current authenticated user's ID from SecurityContext
      */
@@ -1,34 +1,46 @@
 package com.abdelwahab.CampusCard.domain.profile.controller;
 
-import java.util.List;
+import java.time.Duration;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
-import com.abdelwahab.CampusCard.domain.academic.dto.DepartmentResponse;
-import com.abdelwahab.CampusCard.domain.academic.dto.FacultyResponse;
+import com.abdelwahab.CampusCard.domain.academic.service.ReferenceDataSnapshot;
 import com.abdelwahab.CampusCard.domain.profile.service.PublicService;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * Public faculty and department lookups.
+ * Bodies are pre-serialized in the reference data snapshot and served with long-lived
+ * cache headers plus an ETag, so revalidation after expiry costs a 304.
+ */
 @RestController
 @RequestMapping("/api/public")
 @RequiredArgsConstructor
 public class PublicController {
-    
+
     private final PublicService publicService;
 
+    @Value("${app.reference-data.cache-max-age-seconds:3600}")
+    private long cacheMaxAgeSeconds;
+
     /**
      * GET /api/public/faculties - Get all faculties
      * Public endpoint - no authentication required
      */
     @GetMapping("/faculties")
-    public ResponseEntity<List<FacultyResponse>> getAllFaculties() {
-        List<FacultyResponse> faculties = publicService.getAllFaculties();
-        return ResponseEntity.ok(faculties);
+    public ResponseEntity<byte[]> getAllFaculties(WebRequest webRequest) {
+        ReferenceDataSnapshot snapshot = publicService.getReferenceData();
+        return referenceDataResponse(webRequest, snapshot, snapshot.getFacultiesJson());
     }
 
     /**
@@ -36,15 +48,30 @@ public class PublicController {
      * Public endpoint - no authentication required
      */
     @GetMapping("/departments")
-    public ResponseEntity<List<DepartmentResponse>> getDepartmentsByFaculty(
-            @RequestParam(required = false) Integer facultyId) {
-        List<DepartmentResponse> departments;
-        if (facultyId != null) {
-            departments = publicService.getDepartmentsByFaculty(facultyId);
-        } else {
-            departments = publicService.getAllDepartments();
+    public ResponseEntity<byte[]> getDepartmentsByFaculty(
+            @RequestParam(required = false) Integer facultyId, WebRequest webRequest) {
+        ReferenceDataSnapshot snapshot = publicService.getReferenceData();
+        byte[] body = facultyId != null
+                ? snapshot.getDepartmentsJson(facultyId)
+                : snapshot.getDepartmentsJson();
+        return referenceDataResponse(webRequest, snapshot, body);
+    }
+
+    /**
+     * Build a cacheable response, or 304 if the client's If-None-Match matches the snapshot ETag
+     */
+    private ResponseEntity<byte[]> referenceDataResponse(WebRequest webRequest, ReferenceDataSnapshot snapshot, byte[] body) {
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofSeconds(cacheMaxAgeSeconds)).cachePublic();
+
+        if (webRequest.checkNotModified(snapshot.getETag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(cacheControl)
+                    .build();
         }
-        return ResponseEntity.ok(departments);
+
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 }
-
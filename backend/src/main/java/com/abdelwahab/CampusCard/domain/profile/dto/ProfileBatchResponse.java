@@ -0,0 +1,43 @@
+package com.abdelwahab.CampusCard.domain.profile.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for batch profile fetches (card grids).
+ * Contains one result per requested user ID, in request order.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfileBatchResponse {
+    private List<Item> results;
+
+    /**
+     * Outcome of a single requested profile.
+     */
+    public enum Outcome {
+        OK,
+        FORBIDDEN,
+        NOT_FOUND
+    }
+
+    /**
+     * Per-ID result: the profile when visible, otherwise the reason it was not returned.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private Integer userId;
+        private Outcome outcome;
+        private ProfileResponse profile; // null unless outcome is OK
+        private String message; // null when outcome is OK
+    }
+}
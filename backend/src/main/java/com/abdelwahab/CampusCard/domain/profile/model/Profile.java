@@ -2,6 +2,7 @@ package com.abdelwahab.CampusCard.domain.profile.model;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import com.abdelwahab.CampusCard.domain.user.model.User;
@@ -15,7 +16,9 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -51,12 +54,15 @@ import lombok.Setter;
  *   <li>Deleted when user account is deleted (cascade)</li>
  * </ol>
  *
+ * <p>Updates are dynamic: only changed columns are written.
+ *
  * @author CampusCard Team
  * @version 1.0
  * @since 1.0
  */
 @Entity
 @Table(name = "profiles")
+@DynamicUpdate
 @Builder
 @Getter
 @Setter
@@ -65,7 +71,8 @@ import lombok.Setter;
 public class Profile {
     
     @Id
-    @GeneratedValue(strategy=GenerationType.IDENTITY)
+    @GeneratedValue(strategy=GenerationType.SEQUENCE, generator="profiles_id_seq")
+    @SequenceGenerator(name="profiles_id_seq", sequenceName="profiles_id_seq", allocationSize=50)
     private Integer id;
 
     @OneToOne(optional = false) // optinal = false is equivalent to NOT NULL
@@ -104,6 +111,10 @@ public class Profile {
     @Column(name="updated_at")
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     
     public enum Visibility {
         PUBLIC("public"),
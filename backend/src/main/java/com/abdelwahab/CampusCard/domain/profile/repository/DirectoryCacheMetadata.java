@@ -0,0 +1,16 @@
+package com.abdelwahab.CampusCard.domain.profile.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Aggregate projection summarizing the rows of the public student directory.
+ * The member digest is an MD5 of the (id, user version, profile version) triples ordered by id,
+ * so any membership change or update to a member changes it; unlike sums, opposite changes on
+ * different members cannot cancel out.
+ */
+public interface DirectoryCacheMetadata {
+    Long getMemberCount();
+    String getMemberDigest();
+    LocalDateTime getLastUserUpdate();
+    LocalDateTime getLastProfileUpdate();
+}
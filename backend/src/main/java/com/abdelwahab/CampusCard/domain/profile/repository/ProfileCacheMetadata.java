@@ -0,0 +1,20 @@
+package com.abdelwahab.CampusCard.domain.profile.repository;
+
+import java.time.LocalDateTime;
+
+import com.abdelwahab.CampusCard.domain.profile.model.Profile;
+import com.abdelwahab.CampusCard.domain.user.model.User;
+
+/**
+ * Lightweight projection of the columns needed to authorize a profile view
+ * and compute its HTTP cache validators without loading the full entities.
+ */
+public interface ProfileCacheMetadata {
+    Integer getUserId();
+    User.Status getStatus();
+    Profile.Visibility getVisibility();
+    Long getUserVersion();
+    Long getProfileVersion();
+    LocalDateTime getUserUpdatedAt();
+    LocalDateTime getProfileUpdatedAt();
+}
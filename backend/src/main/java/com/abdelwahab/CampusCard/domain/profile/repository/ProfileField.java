@@ -0,0 +1,133 @@
+package com.abdelwahab.CampusCard.domain.profile.repository;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.abdelwahab.CampusCard.domain.common.exception.InvalidStateException;
+
+/**
+ * Selectable fields of a profile representation, for sparse fieldsets ({@code fields=} parameter).
+ * Each field maps the JSON property name used by {@code ProfileResponse} to the JPQL path it is
+ * read from, so list queries select only the requested columns.
+ *
+ * <p>JPQL aliases: {@code p} = Profile, {@code u} = User, {@code f} = Faculty (left join),
+ * {@code d} = Department (left join). The faculty/department joins are only added when a
+ * field that needs them is requested.
+ *
+ * <p>Presets:
+ * <ul>
+ *   <li>{@code card} - fields needed by directory cards (name, photo, academic info)</li>
+ * </ul>
+ *
+ * @author CampusCard Team
+ * @version 1.0
+ * @since 1.0
+ */
+public enum ProfileField {
+    ID("id", "p.id"),
+    USER_ID("userId", "u.id"),
+    EMAIL("email", "u.email"),
+    FIRST_NAME("firstName", "u.firstName"),
+    LAST_NAME("lastName", "u.lastName"),
+    BIRTH_DATE("birthDate", "u.birthDate"),
+    PROFILE_PHOTO("profilePhoto", "p.profilePhoto"),
+    BIO("bio", "p.bio"),
+    PHONE("phone", "p.phone"),
+    LINKEDIN("linkedin", "p.linkedin"),
+    GITHUB("github", "p.github"),
+    INTERESTS("interests", "p.interests"),
+    VISIBILITY("visibility", "p.visibility"),
+    YEAR("year", "u.year"),
+    FACULTY("faculty", "f.name"),
+    DEPARTMENT("department", "d.name"),
+    ROLE("role", "u.role"),
+    STATUS("status", "u.status"),
+    REJECTION_REASON("rejectionReason", "u.rejectionReason"),
+    NATIONAL_ID_SCAN("nationalIdScan", "u.nationalIdScan");
+
+    /**
+     * Compact card projection for directory grids.
+     */
+    public static final Set<ProfileField> CARD = EnumSet.of(
+            ID, USER_ID, FIRST_NAME, LAST_NAME, PROFILE_PHOTO, FACULTY, DEPARTMENT, YEAR);
+
+    private static final Map<String, ProfileField> BY_API_NAME = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(ProfileField::getApiName, Function.identity()));
+
+    private final String apiName;
+    private final String path;
+
+    ProfileField(String apiName, String path) {
+        this.apiName = apiName;
+        this.path = path;
+    }
+
+    public String getApiName() {
+        return apiName;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Parses a comma-separated field list (e.g., {@code "userId,firstName,profilePhoto"} or {@code "card"}).
+     * The profile ID and user ID are always included so clients can key the results.
+     *
+     * @param fields comma-separated API field names and/or preset names
+     * @return selected fields in canonical order
+     * @throws InvalidStateException if a field name is unknown
+     */
+    public static Set<ProfileField> parse(String fields) {
+        Set<ProfileField> selected = EnumSet.of(ID, USER_ID);
+        for (String token : fields.split(",")) {
+            String name = token.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if ("card".equals(name)) {
+                selected.addAll(CARD);
+                continue;
+            }
+            ProfileField field = BY_API_NAME.get(name);
+            if (field == null) {
+                throw new InvalidStateException("Unknown profile field: " + name);
+            }
+            selected.add(field);
+        }
+        return selected;
+    }
+
+    /**
+     * Short, stable identifier of a field selection (used to vary ETags per representation).
+     *
+     * @param fields selected fields
+     * @return hexadecimal bitmask of the selection
+     */
+    public static String signature(Set<ProfileField> fields) {
+        long mask = 0;
+        for (ProfileField field : fields) {
+            mask |= 1L << field.ordinal();
+        }
+        return Long.toHexString(mask);
+    }
+
+    /**
+     * Converts a selected column value to its JSON representation (enums use their API string form).
+     */
+    Object toJsonValue(Object value) {
+        return value instanceof Enum<?> ? value.toString() : value;
+    }
+
+    boolean requiresFacultyJoin() {
+        return path.startsWith("f.");
+    }
+
+    boolean requiresDepartmentJoin() {
+        return path.startsWith("d.");
+    }
+}
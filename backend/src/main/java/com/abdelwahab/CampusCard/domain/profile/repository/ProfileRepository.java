@@ -1,5 +1,6 @@
 package com.abdelwahab.CampusCard.domain.profile.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,7 +11,7 @@ import com.abdelwahab.CampusCard.domain.profile.model.Profile;
 import com.abdelwahab.CampusCard.domain.profile.model.Profile.Visibility;
 import com.abdelwahab.CampusCard.domain.user.model.User;
 
-public interface ProfileRepository extends JpaRepository<Profile, Integer> {
+public interface ProfileRepository extends JpaRepository<Profile, Integer>, ProfileRepositoryCustom {
     Optional<Profile> findByUserId(Integer userId);
 
     @Query("""
@@ -25,4 +26,63 @@ public interface ProfileRepository extends JpaRepository<Profile, Integer> {
             User.Role role,
             Visibility visibility
     );
+
+    /**
+     * Loads a profile together with its user, faculty and department in a single statement.
+     */
+    @Query("""
+        SELECT p
+        FROM Profile p
+        JOIN FETCH p.user u
+        LEFT JOIN FETCH u.faculty
+        LEFT JOIN FETCH u.department d
+        LEFT JOIN FETCH d.faculty
+        WHERE u.id = :userId
+    """)
+    Optional<Profile> findWithUserByUserId(Integer userId);
+
+    @Query("""
+        SELECT p
+        FROM Profile p
+        JOIN FETCH p.user u
+        LEFT JOIN FETCH u.faculty
+        LEFT JOIN FETCH u.department d
+        LEFT JOIN FETCH d.faculty
+        WHERE u.id IN :userIds
+    """)
+    List<Profile> findAllWithUserByUserIdIn(Collection<Integer> userIds);
+
+    @Query("""
+        SELECT u.id AS userId,
+               u.status AS status,
+               p.visibility AS visibility,
+               u.version AS userVersion,
+               p.version AS profileVersion,
+               u.updatedAt AS userUpdatedAt,
+               p.updatedAt AS profileUpdatedAt
+        FROM Profile p
+        JOIN p.user u
+        WHERE u.id = :userId
+    """)
+    Optional<ProfileCacheMetadata> findCacheMetadataByUserId(Integer userId);
+
+    @Query("""
+        SELECT COUNT(p) AS memberCount,
+               function('md5', COALESCE(
+                   listagg(cast(u.id as String) || ':' || cast(u.version as String) || '.' || cast(p.version as String), ',')
+                       within group (order by u.id),
+                   '')) AS memberDigest,
+               MAX(u.updatedAt) AS lastUserUpdate,
+               MAX(p.updatedAt) AS lastProfileUpdate
+        FROM Profile p
+        JOIN p.user u
+        WHERE u.status = :status
+          AND u.role = :role
+          AND p.visibility = :visibility
+    """)
+    DirectoryCacheMetadata summarizePublicApprovedStudents(
+            User.Status status,
+            User.Role role,
+            Visibility visibility
+    );
 }
@@ -0,0 +1,30 @@
+package com.abdelwahab.CampusCard.domain.profile.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.abdelwahab.CampusCard.domain.profile.model.Profile.Visibility;
+import com.abdelwahab.CampusCard.domain.user.model.User;
+
+/**
+ * Custom profile queries built dynamically from a field selection.
+ */
+public interface ProfileRepositoryCustom {
+
+    /**
+     * Selects only the requested columns of the public student directory.
+     *
+     * @param fields columns to select (JSON property names are used as map keys)
+     * @param status required user status
+     * @param role required user role
+     * @param visibility required profile visibility
+     * @return one ordered map per profile containing exactly the requested fields
+     */
+    List<Map<String, Object>> findPublicApprovedStudentFields(
+            Set<ProfileField> fields,
+            User.Status status,
+            User.Role role,
+            Visibility visibility
+    );
+}
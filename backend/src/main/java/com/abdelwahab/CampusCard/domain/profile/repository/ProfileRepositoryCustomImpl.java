@@ -0,0 +1,62 @@
+package com.abdelwahab.CampusCard.domain.profile.repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.abdelwahab.CampusCard.domain.profile.model.Profile.Visibility;
+import com.abdelwahab.CampusCard.domain.user.model.User;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+
+/**
+ * JPQL tuple queries selecting only the columns of the requested {@link ProfileField}s.
+ * Faculty and department are left-joined only when one of their fields is selected.
+ */
+public class ProfileRepositoryCustomImpl implements ProfileRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findPublicApprovedStudentFields(
+            Set<ProfileField> fields,
+            User.Status status,
+            User.Role role,
+            Visibility visibility) {
+        List<ProfileField> columns = new ArrayList<>(fields);
+
+        StringBuilder jpql = new StringBuilder("SELECT ")
+                .append(columns.stream().map(ProfileField::getPath).collect(Collectors.joining(", ")))
+                .append(" FROM Profile p JOIN p.user u");
+        if (columns.stream().anyMatch(ProfileField::requiresFacultyJoin)) {
+            jpql.append(" LEFT JOIN u.faculty f");
+        }
+        if (columns.stream().anyMatch(ProfileField::requiresDepartmentJoin)) {
+            jpql.append(" LEFT JOIN u.department d");
+        }
+        jpql.append(" WHERE u.status = :status AND u.role = :role AND p.visibility = :visibility");
+
+        List<Tuple> rows = entityManager.createQuery(jpql.toString(), Tuple.class)
+                .setParameter("status", status)
+                .setParameter("role", role)
+                .setParameter("visibility", visibility)
+                .getResultList();
+
+        List<Map<String, Object>> results = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            Map<String, Object> values = new LinkedHashMap<>();
+            for (int i = 0; i < columns.size(); i++) {
+                ProfileField field = columns.get(i);
+                values.put(field.getApiName(), field.toJsonValue(row.get(i)));
+            }
+            results.add(values);
+        }
+        return results;
+    }
+}
@@ -1,8 +1,17 @@
 package com.abdelwahab.CampusCard.domain.profile.service;
 
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -11,17 +20,26 @@ import com.abdelwahab.CampusCard.domain.storage.service.MinioService;
 import com.abdelwahab.CampusCard.domain.moderation.service.ContentModerationService;
 import com.abdelwahab.CampusCard.domain.storage.dto.NationalIdScanResponse;
 import com.abdelwahab.CampusCard.domain.storage.dto.ProfilePhotoResponse;
+import com.abdelwahab.CampusCard.domain.profile.dto.ProfileBatchResponse;
 import com.abdelwahab.CampusCard.domain.profile.dto.ProfileResponse;
 import com.abdelwahab.CampusCard.domain.profile.dto.UpdateProfileRequest;
 import com.abdelwahab.CampusCard.domain.profile.model.Profile;
 import com.abdelwahab.CampusCard.domain.user.model.User;
 import com.abdelwahab.CampusCard.domain.academic.repository.DepartmentRepository;
 import com.abdelwahab.CampusCard.domain.academic.repository.FacultyRepository;
+import com.abdelwahab.CampusCard.domain.academic.service.ReferenceDataService;
+import com.abdelwahab.CampusCard.domain.academic.service.ReferenceDataSnapshot;
+import com.abdelwahab.CampusCard.domain.profile.repository.DirectoryCacheMetadata;
+import com.abdelwahab.CampusCard.domain.profile.repository.ProfileCacheMetadata;
+import com.abdelwahab.CampusCard.domain.profile.repository.ProfileField;
 import com.abdelwahab.CampusCard.domain.profile.repository.ProfileRepository;
 import com.abdelwahab.CampusCard.domain.user.repository.UserRepository;
+import com.abdelwahab.CampusCard.domain.common.event.ProfileUpdatedEvent;
 import com.abdelwahab.CampusCard.domain.common.exception.ResourceNotFoundException;
 import com.abdelwahab.CampusCard.domain.common.exception.UnauthorizedException;
 import com.abdelwahab.CampusCard.domain.common.exception.InvalidStateException;
+import com.abdelwahab.CampusCard.domain.common.web.CacheValidator;
+import com.abdelwahab.CampusCard.domain.common.web.CacheableResponse;
 
 import lombok.RequiredArgsConstructor;
 
@@ -53,12 +71,21 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ProfileService {
 
+    /** Fields checked by admins on approval; changing them sends the user back to review. */
+    private static final Set<String> IDENTITY_FIELDS = Set.of(
+            "firstName", "lastName", "nationalId", "nationalIdScan", "facultyId", "departmentId", "year");
+
     private final ProfileRepository profileRepository;
     private final UserRepository userRepository;
     private final FacultyRepository facultyRepository;
     private final DepartmentRepository departmentRepository;
+    private final ReferenceDataService referenceDataService;
     private final MinioService minioService;
     private final ContentModerationService contentModerationService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.profile.batch.max-size:50}")
+    private int batchMaxSize;
 
     /**
      * Retrieves all public profiles of approved students for the student directory.
@@ -86,18 +113,33 @@ public class ProfileService {
             .toList();
 }
 
+    /**
+     * Retrieves the public student directory with only the selected fields (sparse fieldset).
+     * Only the corresponding columns are selected from the database, and the result maps
+     * contain exactly those keys so that nothing else is serialized.
+     *
+     * @param fields fields to include (see {@link ProfileField})
+     * @return list of public student profiles restricted to the selected fields
+     */
+    public List<Map<String, Object>> getPublicApprovedStudents(Set<ProfileField> fields) {
+        return profileRepository.findPublicApprovedStudentFields(
+                fields,
+                User.Status.APPROVED,
+                User.Role.STUDENT,
+                Profile.Visibility.PUBLIC
+        );
+    }
+
 
     /**
      * Get current user's profile
+     * Loads profile, user, faculty and department with a single query.
      */
     public ProfileResponse getCurrentUserProfile(Integer userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        Profile profile = profileRepository.findByUserId(userId)
+        Profile profile = profileRepository.findWithUserByUserId(userId)
                 .orElseThrow(() -> new RuntimeException("Profile not found"));
         
-        return buildProfileResponse(user, profile);
+        return buildProfileResponse(profile.getUser(), profile);
     }
 
     /**
@@ -107,18 +149,156 @@ public class ProfileService {
      * @param currentUserRole The role of the current user (null if not authenticated)
      */
     public ProfileResponse getUserProfile(Integer targetUserId, Integer currentUserId, String currentUserRole) {
-        User targetUser = userRepository.findById(targetUserId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        Profile profile = profileRepository.findByUserId(targetUserId)
+        return getUserProfileView(targetUserId, currentUserId, currentUserRole).body();
+    }
+
+    /**
+     * Get another user's profile (respects visibility) together with its HTTP cache validators.
+     * Profile, user, faculty and department are loaded with a single query, and the visibility
+     * decision and validators are computed from that already-loaded data.
+     *
+     * @param targetUserId The ID of the user whose profile is being requested
+     * @param currentUserId The ID of the current user (null if not authenticated)
+     * @param currentUserRole The role of the current user (null if not authenticated)
+     * @return the profile and its cache validators
+     * @throws ResourceNotFoundException if the profile does not exist
+     * @throws UnauthorizedException if the current user may not view the profile
+     */
+    public CacheableResponse<ProfileResponse> getUserProfileView(Integer targetUserId, Integer currentUserId,
+                                                                 String currentUserRole) {
+        Profile profile = profileRepository.findWithUserByUserId(targetUserId)
                 .orElseThrow(() -> new ResourceNotFoundException("Profile", "userId", targetUserId));
+        User targetUser = profile.getUser();
         
         // Check visibility permissions
-        if (!canViewProfile(profile, targetUserId, currentUserId, currentUserRole)) {
+        if (!canViewProfile(targetUserId, targetUser.getStatus(), profile.getVisibility(), currentUserId, currentUserRole)) {
             throw new UnauthorizedException("Access denied: You don't have permission to view this profile");
         }
         
-        return buildProfileResponse(targetUser, profile);
+        CacheValidator validator = profileValidator(targetUserId,
+                targetUser.getVersion(), profile.getVersion(),
+                targetUser.getUpdatedAt(), profile.getUpdatedAt());
+        return new CacheableResponse<>(buildProfileResponse(targetUser, profile), validator);
+    }
+
+    /**
+     * Get several users' profiles at once (card grids), respecting visibility for each.
+     * All profiles, users, faculties and departments are loaded with a single IN query and
+     * visibility is evaluated in memory; inaccessible or missing profiles are reported per ID
+     * instead of failing the whole request.
+     *
+     * @param userIds requested user IDs (duplicates are ignored, order is preserved)
+     * @param currentUserId the ID of the current user (null if not authenticated)
+     * @param currentUserRole the role of the current user (null if not authenticated)
+     * @return one result per distinct requested ID
+     * @throws InvalidStateException if no IDs or more than the configured maximum are requested
+     */
+    public ProfileBatchResponse getUserProfiles(List<Integer> userIds, Integer currentUserId, String currentUserRole) {
+        Set<Integer> distinctIds = new LinkedHashSet<>(userIds);
+        distinctIds.remove(null);
+        if (distinctIds.isEmpty()) {
+            throw new InvalidStateException("At least one user ID is required");
+        }
+        if (distinctIds.size() > batchMaxSize) {
+            throw new InvalidStateException(
+                String.format("Too many user IDs: maximum is %d per request", batchMaxSize));
+        }
+
+        Map<Integer, Profile> profilesByUserId = new HashMap<>();
+        for (Profile profile : profileRepository.findAllWithUserByUserIdIn(distinctIds)) {
+            profilesByUserId.put(profile.getUser().getId(), profile);
+        }
+
+        List<ProfileBatchResponse.Item> results = new ArrayList<>(distinctIds.size());
+        for (Integer userId : distinctIds) {
+            Profile profile = profilesByUserId.get(userId);
+            if (profile == null) {
+                results.add(ProfileBatchResponse.Item.builder()
+                        .userId(userId)
+                        .outcome(ProfileBatchResponse.Outcome.NOT_FOUND)
+                        .message("Profile not found")
+                        .build());
+            } else if (!canViewProfile(userId, profile.getUser().getStatus(), profile.getVisibility(),
+                    currentUserId, currentUserRole)) {
+                results.add(ProfileBatchResponse.Item.builder()
+                        .userId(userId)
+                        .outcome(ProfileBatchResponse.Outcome.FORBIDDEN)
+                        .message("Access denied: You don't have permission to view this profile")
+                        .build());
+            } else {
+                results.add(ProfileBatchResponse.Item.builder()
+                        .userId(userId)
+                        .outcome(ProfileBatchResponse.Outcome.OK)
+                        .profile(buildProfileResponse(profile.getUser(), profile))
+                        .build());
+            }
+        }
+
+        return ProfileBatchResponse.builder()
+                .results(results)
+                .build();
+    }
+
+    /**
+     * Computes HTTP cache validators for another user's profile without building the response.
+     * Applies the same visibility rules as {@link #getUserProfile}, so a 304 is never served
+     * to a viewer who would not be allowed to see the full representation.
+     *
+     * <p>The ETag changes whenever the user or profile row is updated (version counters),
+     * including approval status changes made by admins, and whenever the faculty/department
+     * reference data changes, since their names are part of the response. Last-Modified only
+     * covers the user and profile rows: the reference data has no modification time shared by all
+     * nodes, so its changes are detected through the content-hash ETag alone.
+     *
+     * @param targetUserId the ID of the user whose profile is being requested
+     * @param currentUserId the ID of the current user (null if not authenticated)
+     * @param currentUserRole the role of the current user (null if not authenticated)
+     * @return cache validators for the profile representation
+     * @throws ResourceNotFoundException if the profile does not exist
+     * @throws UnauthorizedException if the current user may not view the profile
+     */
+    public CacheValidator getProfileValidator(Integer targetUserId, Integer currentUserId, String currentUserRole) {
+        ProfileCacheMetadata metadata = profileRepository.findCacheMetadataByUserId(targetUserId)
+                .orElseThrow(() -> new ResourceNotFoundException("Profile", "userId", targetUserId));
+
+        if (!canViewProfile(targetUserId, metadata.getStatus(), metadata.getVisibility(), currentUserId, currentUserRole)) {
+            throw new UnauthorizedException("Access denied: You don't have permission to view this profile");
+        }
+
+        return profileValidator(targetUserId,
+                metadata.getUserVersion(), metadata.getProfileVersion(),
+                metadata.getUserUpdatedAt(), metadata.getProfileUpdatedAt());
+    }
+
+    private CacheValidator profileValidator(Integer userId, Long userVersion, Long profileVersion,
+                                            LocalDateTime userUpdatedAt, LocalDateTime profileUpdatedAt) {
+        ReferenceDataSnapshot referenceData = referenceDataService.getSnapshot();
+        return CacheValidator.of(
+                String.format("p%d-%d.%d-%s", userId, userVersion, profileVersion, referenceData.getETag()),
+                userUpdatedAt,
+                profileUpdatedAt);
+    }
+
+    /**
+     * Computes HTTP cache validators for the public student directory with a single aggregate query.
+     * The ETag combines an ordered digest of the members' (id, version) pairs with the reference
+     * data ETag, so faculty or department renames invalidate cached listings too (Last-Modified
+     * only reflects member updates).
+     *
+     * @return cache validators for the directory listing
+     */
+    public CacheValidator getPublicApprovedStudentsValidator() {
+        DirectoryCacheMetadata metadata = profileRepository.summarizePublicApprovedStudents(
+                User.Status.APPROVED,
+                User.Role.STUDENT,
+                Profile.Visibility.PUBLIC
+        );
+        ReferenceDataSnapshot referenceData = referenceDataService.getSnapshot();
+
+        return CacheValidator.of(
+                String.format("d%d-%s-%s", metadata.getMemberCount(), metadata.getMemberDigest(), referenceData.getETag()),
+                metadata.getLastUserUpdate(),
+                metadata.getLastProfileUpdate());
     }
 
     /**
@@ -132,18 +312,18 @@ public class ProfileService {
         Profile profile = profileRepository.findByUserId(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Profile", "userId", userId));
 
-        // Content moderation: Check for banned words (profile fields only)
-        java.util.Map<String, String> fieldsToCheck = new java.util.HashMap<>();
-        if (request.getBio() != null) fieldsToCheck.put("bio", request.getBio());
-        if (request.getInterests() != null) fieldsToCheck.put("interests", request.getInterests());
-        if (request.getLinkedin() != null) fieldsToCheck.put("linkedin", request.getLinkedin());
-        if (request.getGithub() != null) fieldsToCheck.put("github", request.getGithub());
+        // --- Diff text fields against the stored profile; only changed text is moderated ---
+        Map<String, String> fieldsToCheck = new LinkedHashMap<>();
+        if (differs(request.getBio(), profile.getBio())) fieldsToCheck.put("bio", request.getBio());
+        if (differs(request.getInterests(), profile.getInterests())) fieldsToCheck.put("interests", request.getInterests());
+        if (differs(request.getLinkedin(), profile.getLinkedin())) fieldsToCheck.put("linkedin", request.getLinkedin());
+        if (differs(request.getGithub(), profile.getGithub())) fieldsToCheck.put("github", request.getGithub());
 
-        java.util.Map<String, List<String>> violations = contentModerationService.validateFields(fieldsToCheck);
+        Map<String, List<String>> violations = contentModerationService.validateFields(userId, fieldsToCheck);
 
         if (!violations.isEmpty()) {
             // Log violations for admin review
-            for (java.util.Map.Entry<String, List<String>> violation : violations.entrySet()) {
+            for (Map.Entry<String, List<String>> violation : violations.entrySet()) {
                 contentModerationService.logViolation(
                     userId,
                     violation.getKey(),
@@ -163,63 +343,101 @@ public class ProfileService {
             );
         }
 
-        // --- Update user fields if provided ---
-        if (request.getFirstName() != null) {
+        // --- Update user fields that actually change ---
+        Set<String> changedFields = new LinkedHashSet<>();
+        if (differs(request.getFirstName(), user.getFirstName())) {
             user.setFirstName(request.getFirstName());
+            changedFields.add("firstName");
         }
-        if (request.getLastName() != null) {
+        if (differs(request.getLastName(), user.getLastName())) {
             user.setLastName(request.getLastName());
+            changedFields.add("lastName");
         }
-        if (request.getNationalId() != null && !request.getNationalId().isBlank()) {
+        if (request.getNationalId() != null && !request.getNationalId().isBlank()
+                && differs(request.getNationalId(), user.getNationalId())) {
             user.setNationalId(request.getNationalId());
+            changedFields.add("nationalId");
         }
-        if (request.getNationalIdScan() != null) {
+        if (differs(request.getNationalIdScan(), user.getNationalIdScan())) {
             user.setNationalIdScan(request.getNationalIdScan());
+            changedFields.add("nationalIdScan");
         }
-        if (request.getFacultyId() != null) {
-            // Only update if faculty exists
-            var faculty = facultyRepository.findById(request.getFacultyId())
-                .orElseThrow(() -> new RuntimeException("Faculty not found"));
-            user.setFaculty(faculty);
+        if (request.getFacultyId() != null
+                && (user.getFaculty() == null || !request.getFacultyId().equals(user.getFaculty().getId()))) {
+            // Only update if faculty exists (checked against in-memory reference data)
+            referenceDataService.getSnapshot().findFaculty(request.getFacultyId())
+                .orElseThrow(() -> new ResourceNotFoundException("Faculty", "id", request.getFacultyId()));
+            user.setFaculty(facultyRepository.getReferenceById(request.getFacultyId()));
+            changedFields.add("facultyId");
         }
-        if (request.getDepartmentId() != null) {
-            var department = departmentRepository.findById(request.getDepartmentId())
-                .orElseThrow(() -> new RuntimeException("Department not found"));
-            user.setDepartment(department);
+        if (request.getDepartmentId() != null
+                && (user.getDepartment() == null || !request.getDepartmentId().equals(user.getDepartment().getId()))) {
+            referenceDataService.getSnapshot().findDepartment(request.getDepartmentId())
+                .orElseThrow(() -> new ResourceNotFoundException("Department", "id", request.getDepartmentId()));
+            user.setDepartment(departmentRepository.getReferenceById(request.getDepartmentId()));
+            changedFields.add("departmentId");
         }
-        if (request.getYear() != null) {
+        if (differs(request.getYear(), user.getYear())) {
             user.setYear(request.getYear());
+            changedFields.add("year");
         }
 
-        // --- Update profile fields if provided ---
-        if (request.getBio() != null) {
+        // --- Update profile fields that actually change ---
+        if (fieldsToCheck.containsKey("bio")) {
             profile.setBio(request.getBio());
+            changedFields.add("bio");
         }
-        if (request.getPhone() != null && !request.getPhone().isBlank()) {
+        if (request.getPhone() != null && !request.getPhone().isBlank()
+                && differs(request.getPhone(), profile.getPhone())) {
             profile.setPhone(request.getPhone());
+            changedFields.add("phone");
         }
-        if (request.getLinkedin() != null) {
+        if (fieldsToCheck.containsKey("linkedin")) {
             profile.setLinkedin(request.getLinkedin());
+            changedFields.add("linkedin");
         }
-        if (request.getGithub() != null) {
+        if (fieldsToCheck.containsKey("github")) {
             profile.setGithub(request.getGithub());
+            changedFields.add("github");
         }
-        if (request.getInterests() != null) {
+        if (fieldsToCheck.containsKey("interests")) {
             profile.setInterests(request.getInterests());
+            changedFields.add("interests");
         }
         if (request.getVisibility() != null && !request.getVisibility().isBlank()) {
-            profile.setVisibility(Profile.Visibility.valueOf(request.getVisibility()));
+            Profile.Visibility visibility = Profile.Visibility.valueOf(request.getVisibility());
+            if (visibility != profile.getVisibility()) {
+                profile.setVisibility(visibility);
+                changedFields.add("visibility");
+            }
+        }
+
+        // A form submitted unchanged writes nothing and keeps the approval status
+        if (changedFields.isEmpty()) {
+            return buildProfileResponse(user, profile);
         }
 
-        // --- Resubmit for review: set status to PENDING and clear rejectionReason ---
-        user.setStatus(User.Status.PENDING);
-        user.setRejectionReason(null);
+        // --- Resubmit for review when identity data changed, or when a rejected user edits anything ---
+        if (user.getStatus() == User.Status.REJECTED
+                || changedFields.stream().anyMatch(IDENTITY_FIELDS::contains)) {
+            user.setStatus(User.Status.PENDING);
+            user.setRejectionReason(null);
+        }
 
+        // Entities are managed: dirty checking writes only rows (and, with @DynamicUpdate, columns) that changed
         userRepository.save(user);
         Profile updatedProfile = profileRepository.save(profile);
+        eventPublisher.publishEvent(new ProfileUpdatedEvent(userId, changedFields));
         return buildProfileResponse(user, updatedProfile);
     }
 
+    /**
+     * True if a field is present in the request and differs from the stored value.
+     */
+    private static boolean differs(Object requested, Object current) {
+        return requested != null && !requested.equals(current);
+    }
+
     /**
      * Upload profile photo to MinIO
      */
@@ -245,6 +463,7 @@ public class ProfileService {
         
         profile.setProfilePhoto(photoUrl);
         profileRepository.save(profile);
+        eventPublisher.publishEvent(new ProfileUpdatedEvent(userId, Set.of("profilePhoto")));
         
         return ProfilePhotoResponse.builder()
                 .photoUrl(photoUrl)
@@ -268,6 +487,7 @@ public class ProfileService {
         profile.setVisibility(newVisibility);
         
         Profile updatedProfile = profileRepository.save(profile);
+        eventPublisher.publishEvent(new ProfileUpdatedEvent(userId, Set.of("visibility")));
         
         return buildProfileResponse(user, updatedProfile);
     }
@@ -297,6 +517,7 @@ public class ProfileService {
         
         user.setNationalIdScan(scanUrl);
         userRepository.save(user);
+        eventPublisher.publishEvent(new ProfileUpdatedEvent(userId, Set.of("nationalIdScan")));
         
         return com.abdelwahab.CampusCard.domain.storage.dto.NationalIdScanResponse.builder()
                 .scanUrl(scanUrl)
@@ -315,13 +536,18 @@ public class ProfileService {
      * - APPROVED users with STUDENTS_ONLY: visible to authenticated users (students) and admins
      * - APPROVED users with PRIVATE: visible only to profile owner and admins
      * 
-     * @param profile The profile being accessed
+     * <p>The decision is computed purely from already-loaded data so it can be shared
+     * by the full profile view and the conditional-GET metadata lookup.
+     * 
      * @param targetUserId The ID of the user whose profile is being requested
+     * @param targetStatus The approval status of the target user
+     * @param visibility The visibility setting of the target profile
      * @param currentUserId The ID of the current user (null if not authenticated)
      * @param currentUserRole The role of the current user (null if not authenticated)
      * @return true if the current user can view the profile, false otherwise
      */
-    private boolean canViewProfile(Profile profile, Integer targetUserId, Integer currentUserId, String currentUserRole) {
+    private boolean canViewProfile(Integer targetUserId, User.Status targetStatus, Profile.Visibility visibility,
+                                   Integer currentUserId, String currentUserRole) {
         // User can always view their own profile
         if (currentUserId != null && targetUserId.equals(currentUserId)) {
             return true;
@@ -332,18 +558,13 @@ public class ProfileService {
             return true;
         }
         
-        // Get target user to check their approval status
-        User targetUser = userRepository.findById(targetUserId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
         // PENDING and REJECTED users: visible only to admins and the profile owner
         // (Already checked above for owner and admin, so if we reach here, access is denied)
-        if (targetUser.getStatus() != User.Status.APPROVED) {
+        if (targetStatus != User.Status.APPROVED) {
             return false;
         }
         
         // Check visibility settings for APPROVED users
-        Profile.Visibility visibility = profile.getVisibility();
         
         // PUBLIC: visible to everyone (including non-authenticated users)
         if (visibility == Profile.Visibility.PUBLIC) {
@@ -5,6 +5,7 @@ import java.util.Collection;
 import java.util.List;
 
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -22,7 +23,9 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -60,12 +63,15 @@ import lombok.Setter;
  *   <li>Email must be unique and from PSU domain (@eng.psu.edu.eg)</li>
  * </ul>
  *
+ * <p>Updates are dynamic: only changed columns are written.
+ *
  * @author CampusCard Team
  * @version 1.0
  * @since 1.0
  */
 @Entity
 @Table(name="users")
+@DynamicUpdate
 @Builder
 @Getter
 @Setter
@@ -74,7 +80,8 @@ import lombok.Setter;
 public class User {
     
     @Id
-    @GeneratedValue(strategy=GenerationType.IDENTITY)
+    @GeneratedValue(strategy=GenerationType.SEQUENCE, generator="users_id_seq")
+    @SequenceGenerator(name="users_id_seq", sequenceName="users_id_seq", allocationSize=50)
     private Integer id;
 
     @Column(unique=true, nullable=false)
@@ -140,6 +147,10 @@ public class User {
     @Column(name="updated_at")
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(nullable=false)
+    private Long version;
+
     public enum Role {
         STUDENT("student"),
         ADMIN("admin");
@@ -0,0 +1,17 @@
+-- Migration V10: Aggregate repeated identical violations
+-- Flags are written in batches by FlaggedContentBuffer. The same violation (same user, same
+-- message) within the aggregation window increments occurrences on the existing row instead of
+-- inserting a new one. content_hash keeps the lookup on an index rather than comparing TEXT.
+
+ALTER TABLE flagged_content
+    ADD COLUMN occurrences INTEGER NOT NULL DEFAULT 1,
+    ADD COLUMN last_flagged_at TIMESTAMP,
+    ADD COLUMN content_hash TEXT GENERATED ALWAYS AS (md5(content)) STORED;
+
+UPDATE flagged_content SET last_flagged_at = COALESCE(flagged_at, CURRENT_TIMESTAMP);
+
+ALTER TABLE flagged_content
+    ALTER COLUMN last_flagged_at SET DEFAULT CURRENT_TIMESTAMP,
+    ALTER COLUMN last_flagged_at SET NOT NULL;
+
+CREATE INDEX idx_flagged_content_user_hash ON flagged_content(user_id, content_hash, last_flagged_at DESC);
@@ -0,0 +1,15 @@
+-- Migration V11: Review workflow for flagged content
+-- Flags are open until an admin resolves (acted on) or dismisses (false positive) them.
+-- The admin queue lists open flags newest first with keyset pagination on (flagged_at, id);
+-- the partial index covers only open rows, so its size follows the open backlog, not history.
+
+UPDATE flagged_content SET flagged_at = last_flagged_at WHERE flagged_at IS NULL;
+
+ALTER TABLE flagged_content
+    ALTER COLUMN flagged_at SET NOT NULL,
+    ADD COLUMN status VARCHAR(20) NOT NULL DEFAULT 'open'
+        CHECK (status IN ('open', 'resolved', 'dismissed')),
+    ADD COLUMN resolved_at TIMESTAMP,
+    ADD COLUMN resolved_by INT REFERENCES users(id) ON DELETE SET NULL;
+
+CREATE INDEX idx_flagged_content_open ON flagged_content(flagged_at DESC, id DESC) WHERE status = 'open';
@@ -0,0 +1,56 @@
+-- Migration V12: Partition flagged_content by month
+-- flagged_content becomes a range-partitioned table on flagged_at with one partition per month
+-- (flagged_content_pYYYY_MM). FlaggedContentPartitionJob creates partitions ahead of time and
+-- detaches or drops partitions older than the retention period, so retention never needs a bulk
+-- DELETE and every index is per partition. Rows outside all monthly ranges go to the default partition.
+-- The primary key must include the partition key; id stays unique because it comes from the sequence.
+
+ALTER SEQUENCE flagged_content_id_seq OWNED BY NONE;
+ALTER TABLE flagged_content RENAME TO flagged_content_unpartitioned;
+ALTER TABLE flagged_content_unpartitioned RENAME CONSTRAINT flagged_content_pkey TO flagged_content_unpartitioned_pkey;
+DROP INDEX idx_user_id_flagged, idx_flagged_at, idx_flagged_content_user_hash, idx_flagged_content_open;
+
+CREATE TABLE flagged_content (
+    id INT NOT NULL DEFAULT nextval('flagged_content_id_seq'),
+    user_id INT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    content TEXT NOT NULL,
+    flagged_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    occurrences INTEGER NOT NULL DEFAULT 1,
+    last_flagged_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    content_hash TEXT GENERATED ALWAYS AS (md5(content)) STORED,
+    status VARCHAR(20) NOT NULL DEFAULT 'open' CHECK (status IN ('open', 'resolved', 'dismissed')),
+    resolved_at TIMESTAMP,
+    resolved_by INT REFERENCES users(id) ON DELETE SET NULL,
+    PRIMARY KEY (id, flagged_at)
+) PARTITION BY RANGE (flagged_at);
+
+ALTER SEQUENCE flagged_content_id_seq OWNED BY flagged_content.id;
+
+-- Monthly partitions from the oldest existing flag up to three months ahead
+DO $$
+DECLARE
+    month DATE;
+BEGIN
+    FOR month IN
+        SELECT generate_series(
+            date_trunc('month', LEAST(COALESCE((SELECT MIN(flagged_at) FROM flagged_content_unpartitioned), LOCALTIMESTAMP), LOCALTIMESTAMP)),
+            date_trunc('month', LOCALTIMESTAMP) + INTERVAL '3 months',
+            INTERVAL '1 month')::DATE
+    LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF flagged_content FOR VALUES FROM (%L) TO (%L)',
+            'flagged_content_p' || to_char(month, 'YYYY_MM'), month, (month + INTERVAL '1 month')::DATE);
+    END LOOP;
+END $$;
+
+CREATE TABLE flagged_content_default PARTITION OF flagged_content DEFAULT;
+
+INSERT INTO flagged_content (id, user_id, content, flagged_at, occurrences, last_flagged_at, status, resolved_at, resolved_by)
+SELECT id, user_id, content, flagged_at, occurrences, last_flagged_at, status, resolved_at, resolved_by
+FROM flagged_content_unpartitioned;
+
+DROP TABLE flagged_content_unpartitioned;
+
+-- Partitioned indexes (created on every partition, dropped with it)
+CREATE INDEX idx_flagged_content_user ON flagged_content(user_id, flagged_at);
+CREATE INDEX idx_flagged_content_user_hash ON flagged_content(user_id, content_hash, flagged_at DESC);
+CREATE INDEX idx_flagged_content_open ON flagged_content(flagged_at DESC, id DESC) WHERE status = 'open';
@@ -0,0 +1,11 @@
+-- Migration V13: Record which cron occurrence each scheduled job run belongs to
+-- scheduled_at is the nominal fire time computed from the job's cron expression (NULL for runs
+-- started manually). The advisory lock only keeps two nodes from running a job at the same moment;
+-- a short run can release it before another node's trigger for the same occurrence fires (clock
+-- skew, scheduler jitter). The run row is inserted under the lock before the job runs, and the
+-- unique constraint makes the late node see that the occurrence already ran. The column is TIMESTAMPTZ
+-- so nodes with different JVM time zones store the same instant identically.
+
+ALTER TABLE job_runs ADD COLUMN scheduled_at TIMESTAMPTZ;
+
+ALTER TABLE job_runs ADD CONSTRAINT uk_job_runs_occurrence UNIQUE (job_name, scheduled_at);
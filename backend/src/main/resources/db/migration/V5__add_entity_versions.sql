@@ -0,0 +1,6 @@
+-- Migration V5: Add optimistic-lock version counters to users and profiles
+-- The version columns are bumped on every update and back the strong ETags
+-- served by the profile and student directory endpoints.
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE profiles ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
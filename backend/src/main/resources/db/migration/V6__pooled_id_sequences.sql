@@ -0,0 +1,20 @@
+-- Migration V6: Switch primary keys to pooled sequence allocation
+-- Entities now use SEQUENCE generation with the pooled-lo optimizer (allocationSize = 50):
+-- one nextval() reserves a block of 50 ids, so Hibernate knows ids before INSERT and can
+-- batch inserts. The SERIAL sequences are reused; only their increment changes.
+-- Plain SQL inserts relying on the column default keep working (each takes a whole block).
+-- setval() also repairs faculties_id_seq, which was never advanced by the explicit-id seed rows.
+
+ALTER SEQUENCE faculties_id_seq INCREMENT BY 50;
+ALTER SEQUENCE departments_id_seq INCREMENT BY 50;
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE profiles_id_seq INCREMENT BY 50;
+ALTER SEQUENCE banned_words_id_seq INCREMENT BY 50;
+ALTER SEQUENCE flagged_content_id_seq INCREMENT BY 50;
+
+SELECT setval('faculties_id_seq', COALESCE((SELECT MAX(id) FROM faculties), 0) + 1, false);
+SELECT setval('departments_id_seq', COALESCE((SELECT MAX(id) FROM departments), 0) + 1, false);
+SELECT setval('users_id_seq', COALESCE((SELECT MAX(id) FROM users), 0) + 1, false);
+SELECT setval('profiles_id_seq', COALESCE((SELECT MAX(id) FROM profiles), 0) + 1, false);
+SELECT setval('banned_words_id_seq', COALESCE((SELECT MAX(id) FROM banned_words), 0) + 1, false);
+SELECT setval('flagged_content_id_seq', COALESCE((SELECT MAX(id) FROM flagged_content), 0) + 1, false);
@@ -0,0 +1,16 @@
+-- Migration V7: History of cluster-wide scheduled job runs
+-- One row per run that acquired the job's advisory lock; runs skipped on other nodes are not recorded.
+-- status: running, succeeded, failed, abandoned (node died while running; set by the next run)
+
+CREATE TABLE job_runs (
+    id BIGSERIAL PRIMARY KEY,
+    job_name VARCHAR(100) NOT NULL,
+    node VARCHAR(255) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    started_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    finished_at TIMESTAMP,
+    duration_ms BIGINT,
+    message TEXT
+);
+
+CREATE INDEX idx_job_runs_job_started ON job_runs(job_name, started_at DESC);
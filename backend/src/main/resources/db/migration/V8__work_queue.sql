@@ -0,0 +1,25 @@
+-- Migration V8: Durable work queue
+-- Producers insert rows (optionally inside their own transaction); workers on every node claim
+-- ready rows with FOR UPDATE SKIP LOCKED. Finished jobs are deleted; jobs that exhausted their
+-- attempts stay as status 'dead' (dead letters) for inspection.
+-- status: queued, running, dead
+
+CREATE TABLE jobs (
+    id BIGSERIAL PRIMARY KEY,
+    type VARCHAR(100) NOT NULL,
+    payload JSONB NOT NULL,
+    priority SMALLINT NOT NULL DEFAULT 0,
+    status VARCHAR(20) NOT NULL DEFAULT 'queued',
+    run_after TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    max_attempts INTEGER NOT NULL DEFAULT 5,
+    locked_by VARCHAR(255),
+    locked_at TIMESTAMP,
+    last_error TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Claim order; only queued rows are indexed so the index stays small
+CREATE INDEX idx_jobs_claim ON jobs(priority DESC, run_after, id) WHERE status = 'queued';
+-- Lease expiry scan
+CREATE INDEX idx_jobs_running ON jobs(locked_at) WHERE status = 'running';
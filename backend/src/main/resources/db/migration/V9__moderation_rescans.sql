@@ -0,0 +1,19 @@
+-- Migration V9: Progress of retroactive profile rescans
+-- One row per rescan triggered by newly banned words. The rescan walks profiles in id order;
+-- last_profile_id is the keyset cursor, committed together with each chunk's flags so an
+-- interrupted rescan resumes where it stopped without flagging profiles twice.
+-- status: queued, running, completed
+
+CREATE TABLE moderation_rescans (
+    id BIGSERIAL PRIMARY KEY,
+    words TEXT[] NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'queued',
+    total_profiles INTEGER,
+    scanned_profiles INTEGER NOT NULL DEFAULT 0,
+    flagged_profiles INTEGER NOT NULL DEFAULT 0,
+    last_profile_id INTEGER NOT NULL DEFAULT 0,
+    last_error TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    started_at TIMESTAMP,
+    finished_at TIMESTAMP
+);
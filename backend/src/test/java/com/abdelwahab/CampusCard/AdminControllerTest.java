@@ -6,14 +6,20 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -28,6 +34,9 @@ public class AdminControllerTest {
     @LocalServerPort
     private int port;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private HttpClient httpClient;
     private String baseUrl;
     private ObjectMapper objectMapper;
@@ -89,6 +98,229 @@ public class AdminControllerTest {
         assertEquals(403, response.statusCode(), "Non-admin should not access admin endpoints");
     }
 
+    @Test
+    void testExportUsers_AsNdjson_StreamsOneObjectPerLine() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/api/admin/users/export?format=ndjson"))
+                .header("Authorization", "Bearer " + adminToken)
+                .GET()
+                .build();
+
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode(), "Admin should be able to export users");
+        assertTrue(response.headers().firstValue("Content-Type").orElse("").startsWith("application/x-ndjson"));
+
+        String[] lines = response.body().split("\n");
+        assertTrue(lines.length >= 1, "Export should contain at least the admin user");
+        for (String line : lines) {
+            JsonNode row = objectMapper.readTree(line);
+            assertTrue(row.has("id"), "Each row should have id");
+            assertTrue(row.has("email"), "Each row should have email");
+            assertTrue(row.has("faculty"), "Each row should have faculty");
+        }
+    }
+
+    @Test
+    void testExportUsers_AsCsv_HasHeaderRow() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/api/admin/users/export?format=csv&status=approved"))
+                .header("Authorization", "Bearer " + adminToken)
+                .GET()
+                .build();
+
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Disposition").orElse("").contains("attachment"));
+        String[] lines = response.body().split("\r\n");
+        assertTrue(lines[0].startsWith("id,email,emailVerified"), "First line should be the CSV header");
+        assertTrue(lines.length >= 2, "Approved admin should be exported");
+    }
+
+    @Test
+    void testExportUsers_WithoutAdminRole_ReturnsForbidden() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/api/admin/users/export"))
+                .header("Authorization", "Bearer " + studentToken)
+                .GET()
+                .build();
+
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(403, response.statusCode(), "Non-admin should not export users");
+    }
+
+    @Test
+    void testImportUsers_WithValidAndDuplicateRows_ReportsPerRowOutcome() throws Exception {
+        long suffix = System.currentTimeMillis() % 10000000000L;
+        String email = "import" + suffix + "@eng.psu.edu.eg";
+        String nationalId = String.format("3%013d", suffix);
+        String csv = "email,password,firstName,lastName,birthDate,nationalId,year,facultyId,departmentId\n"
+                + email + ",importPass123,Imported,Student,2003-05-01," + nationalId + ",1,1,1\n"
+                + email + ",importPass123,Duplicate,Row,2003-05-01,4" + nationalId.substring(1) + ",1,1,1\n"
+                + "bad@gmail.com,importPass123,Bad,Domain,2003-05-01,12345678901234,1,1,1\n";
+
+        HttpResponse<String> response = importUsers(csv);
+
+        assertEquals(200, response.statusCode(), "Admin should be able to import users: " + response.body());
+        String[] lines = response.body().split("\n");
+        assertEquals(4, lines.length, "One line per row plus a summary");
+        assertEquals("CREATED", objectMapper.readTree(lines[0]).get("status").asText());
+        assertEquals("SKIPPED", objectMapper.readTree(lines[1]).get("status").asText());
+        assertEquals("FAILED", objectMapper.readTree(lines[2]).get("status").asText());
+        JsonNode summary = objectMapper.readTree(lines[3]).get("summary");
+        assertEquals(1, summary.get("CREATED").asInt());
+
+        // Imported student can log in right away but still awaits approval
+        ObjectNode loginRequest = objectMapper.createObjectNode();
+        loginRequest.put("identifier", email);
+        loginRequest.put("password", "importPass123");
+        HttpResponse<String> loginResponse = httpClient.send(HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/api/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(loginRequest.toString()))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, loginResponse.statusCode(), "Imported student should be able to log in");
+        assertEquals("PENDING", objectMapper.readTree(loginResponse.body()).get("status").asText(),
+                "Imported students must go through approval");
+    }
+
+    @Test
+    void testImportUsers_WithMissingColumns_ReturnsBadRequest() throws Exception {
+        String boundary = "----ImportBoundary" + System.currentTimeMillis();
+        String body = "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"students.csv\"\r\n"
+                + "Content-Type: text/csv\r\n\r\n"
+                + "email,password\nx@eng.psu.edu.eg,password123\n"
+                + "\r\n--" + boundary + "--\r\n";
+
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/api/admin/users/import"))
+                .header("Authorization", "Bearer " + adminToken)
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(400, response.statusCode(), "Header without required columns should be rejected");
+    }
+
+    @Test
+    void testPendingStream_PushesStatsAndNewRegistrations() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/api/admin/users/pending/stream"))
+                .header("Authorization", "Bearer " + adminToken)
+                .header("Accept", "text/event-stream")
+                .GET()
+                .build();
+
+        HttpResponse<Stream<String>> response = httpClient.send(request, HttpResponse.BodyHandlers.ofLines());
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Type").orElse("").startsWith("text/event-stream"));
+
+        try (Stream<String> lines = response.body()) {
+            Iterator<String> events = lines.iterator();
+            CompletableFuture.supplyAsync(() -> awaitEvent(events, "stats")).get(10, TimeUnit.SECONDS);
+
+            long suffix = System.currentTimeMillis() % 10000000000L;
+            int newUserId = registerNewUser("stream" + suffix + "@eng.psu.edu.eg", "password123",
+                    String.format("6%013d", suffix));
+
+            String data = CompletableFuture.supplyAsync(() -> awaitEvent(events, "user-registered"))
+                    .get(10, TimeUnit.SECONDS);
+            JsonNode pendingUser = objectMapper.readTree(data);
+            assertEquals(newUserId, pendingUser.get("id").asInt());
+            assertEquals("pending", pendingUser.get("status").asText());
+        }
+    }
+
+    @Test
+    void testPendingStream_WithoutAdminRole_ReturnsForbidden() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/api/admin/users/pending/stream"))
+                .header("Authorization", "Bearer " + studentToken)
+                .GET()
+                .build();
+
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(403, response.statusCode(), "Non-admin should not open the approval stream");
+    }
+
+    @Test
+    void testReloadReferenceData_WithAdminRole_ReturnsCounts() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/api/admin/reference-data/reload"))
+                .header("Authorization", "Bearer " + adminToken)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode(), "Admin should be able to reload reference data");
+        JsonNode body = objectMapper.readTree(response.body());
+        assertTrue(body.get("faculties").asInt() > 0, "Snapshot should contain faculties");
+        assertTrue(body.get("departments").asInt() > 0, "Snapshot should contain departments");
+        assertTrue(body.hasNonNull("etag"), "Response should include the snapshot ETag");
+    }
+
+    @Test
+    void testReloadReferenceData_WithoutAdminRole_ReturnsForbidden() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/api/admin/reference-data/reload"))
+                .header("Authorization", "Bearer " + studentToken)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(403, response.statusCode(), "Non-admin should not reload reference data");
+    }
+
+    @Test
+    void testRunJob_ThenGetJobs_ReportsLastRun() throws Exception {
+        HttpRequest runRequest = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/api/admin/jobs/verification-token-purge/run"))
+                .header("Authorization", "Bearer " + adminToken)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        HttpResponse<String> runResponse = httpClient.send(runRequest, HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, runResponse.statusCode(), "Admin should be able to run a job");
+
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/api/admin/jobs"))
+                .header("Authorization", "Bearer " + adminToken)
+                .GET()
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        JsonNode purgeJob = null;
+        for (JsonNode job : objectMapper.readTree(response.body())) {
+            if ("verification-token-purge".equals(job.get("name").asText())) {
+                purgeJob = job;
+            }
+        }
+        assertTrue(purgeJob != null, "Token purge job should be listed");
+        assertEquals("succeeded", purgeJob.get("lastStatus").asText());
+        assertTrue(purgeJob.hasNonNull("lastSuccessAt"));
+    }
+
+    @Test
+    void testRunJob_WithUnknownName_ReturnsBadRequest() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/api/admin/jobs/no-such-job/run"))
+                .header("Authorization", "Bearer " + adminToken)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(400, response.statusCode());
+    }
+
     @Test
     void testGetPendingApprovals_WithAdminRole_ReturnsPendingUsers() throws Exception {
         HttpRequest request = HttpRequest.newBuilder()
@@ -245,6 +477,79 @@ public class AdminControllerTest {
                 "Admin should be able to access approval endpoint");
     }
 
+    @Test
+    void testBulkReject_ReportsPerUserOutcomeAndSkipsAlreadyProcessed() throws Exception {
+        long suffix = System.currentTimeMillis() % 10000000000L;
+        int newUserId = registerNewUser("bulk" + suffix + "@eng.psu.edu.eg", "password123",
+                String.format("2%013d", suffix));
+
+        ObjectNode bulkRequest = objectMapper.createObjectNode();
+        bulkRequest.putArray("userIds").add(newUserId).add(Integer.MAX_VALUE);
+        bulkRequest.put("approved", false);
+        bulkRequest.put("rejectionReason", "Documents unreadable");
+
+        HttpResponse<String> response = postBulkDecision(bulkRequest);
+
+        assertEquals(200, response.statusCode(), "Admin should be able to bulk reject: " + response.body());
+        JsonNode body = objectMapper.readTree(response.body());
+        assertEquals(2, body.get("requested").asInt());
+        assertEquals(1, body.get("updated").asInt());
+        assertEquals("REJECTED", body.get("results").get(0).get("outcome").asText());
+        assertEquals("SKIPPED", body.get("results").get(1).get("outcome").asText());
+        assertEquals("User not found", body.get("results").get(1).get("message").asText());
+
+        // Processing the same user again is a no-op
+        HttpResponse<String> repeated = postBulkDecision(bulkRequest);
+        JsonNode repeatedBody = objectMapper.readTree(repeated.body());
+        assertEquals(0, repeatedBody.get("updated").asInt());
+        assertEquals("SKIPPED", repeatedBody.get("results").get(0).get("outcome").asText());
+    }
+
+    @Test
+    void testBulkApprove_WithUnverifiedEmail_SkipsUser() throws Exception {
+        long suffix = System.currentTimeMillis() % 10000000000L;
+        int newUserId = registerNewUser("bulkapp" + suffix + "@eng.psu.edu.eg", "password123",
+                String.format("5%013d", suffix));
+
+        ObjectNode bulkRequest = objectMapper.createObjectNode();
+        bulkRequest.putArray("userIds").add(newUserId);
+        bulkRequest.put("approved", true);
+
+        HttpResponse<String> response = postBulkDecision(bulkRequest);
+
+        assertEquals(200, response.statusCode());
+        JsonNode result = objectMapper.readTree(response.body()).get("results").get(0);
+        assertEquals("SKIPPED", result.get("outcome").asText());
+        assertTrue(result.get("message").asText().contains("unverified email"));
+    }
+
+    @Test
+    void testBulkApprove_ImportedUserWithoutScan_SkipsUser() throws Exception {
+        long suffix = System.currentTimeMillis() % 10000000000L;
+        String email = "bulkimp" + suffix + "@eng.psu.edu.eg";
+        String csv = "email,password,firstName,lastName,birthDate,nationalId,year,facultyId,departmentId\n"
+                + email + ",importPass123,Imported,Student,2003-05-01," + String.format("6%013d", suffix) + ",1,1,1\n";
+        assertEquals(200, importUsers(csv).statusCode());
+        // Verified email, so only the missing national ID scan stands in the way
+        jdbcTemplate.update("UPDATE users SET email_verified = true WHERE email = ?", email);
+        int importedUserId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Integer.class, email);
+
+        ObjectNode bulkRequest = objectMapper.createObjectNode();
+        bulkRequest.putArray("userIds").add(importedUserId);
+        bulkRequest.put("approved", true);
+
+        HttpResponse<String> response = postBulkDecision(bulkRequest);
+
+        assertEquals(200, response.statusCode());
+        JsonNode body = objectMapper.readTree(response.body());
+        assertEquals(0, body.get("updated").asInt());
+        JsonNode result = body.get("results").get(0);
+        assertEquals("SKIPPED", result.get("outcome").asText());
+        assertEquals("National ID scan not uploaded", result.get("message").asText());
+        assertEquals("pending", jdbcTemplate.queryForObject(
+                "SELECT status FROM users WHERE id = ?", String.class, importedUserId));
+    }
+
     @Test
     void testRejectUser_WithValidReason_RejectsUserWithReason() throws Exception {
         // Register a new user
@@ -312,6 +617,46 @@ public class AdminControllerTest {
 
     // Helper methods
 
+    private HttpResponse<String> importUsers(String csv) throws Exception {
+        String boundary = "----ImportBoundary" + System.currentTimeMillis();
+        String body = "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"students.csv\"\r\n"
+                + "Content-Type: text/csv\r\n\r\n"
+                + csv + "\r\n--" + boundary + "--\r\n";
+
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/api/admin/users/import"))
+                .header("Authorization", "Bearer " + adminToken)
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> postBulkDecision(ObjectNode bulkRequest) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/api/admin/users/approve-reject/bulk"))
+                .header("Authorization", "Bearer " + adminToken)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(bulkRequest.toString()))
+                .build();
+
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Reads SSE lines until the named event arrives and returns its data line.
+     */
+    private static String awaitEvent(Iterator<String> lines, String eventName) {
+        while (lines.hasNext()) {
+            if (lines.next().equals("event:" + eventName) && lines.hasNext()) {
+                return lines.next().substring("data:".length());
+            }
+        }
+        throw new IllegalStateException("Stream ended before event " + eventName);
+    }
+
     private String login(String email, String password) throws Exception {
         ObjectNode loginRequest = objectMapper.createObjectNode();
         loginRequest.put("identifier", email);
@@ -0,0 +1,120 @@
+package com.abdelwahab.CampusCard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.abdelwahab.CampusCard.domain.common.exception.InvalidStateException;
+import com.abdelwahab.CampusCard.domain.moderation.dto.BannedWordImportResponse;
+import com.abdelwahab.CampusCard.domain.moderation.service.BannedWordBulkService;
+import com.abdelwahab.CampusCard.domain.moderation.service.ContentModerationService;
+
+/**
+ * Verifies bulk banned word import (parsing, deduplication, skipping existing words, one change
+ * event per import) and the streamed export.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+@ActiveProfiles("test")
+public class BannedWordImportTest {
+
+    private static final List<String> NEW_WORDS = List.of("zorblax", "quuxword", "fleemish");
+
+    private static final String LATEST_RESCAN_WORDS_SQL = """
+        SELECT unnest(words) AS word FROM moderation_rescans
+        WHERE id = (SELECT MAX(id) FROM moderation_rescans WHERE 'zorblax' = ANY(words))
+        ORDER BY word
+        """;
+
+    @Autowired
+    private BannedWordBulkService bulkService;
+
+    @Autowired
+    private ContentModerationService contentModerationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanup() {
+        for (String word : NEW_WORDS) {
+            jdbcTemplate.update("DELETE FROM banned_words WHERE word = ?", word);
+        }
+        contentModerationService.invalidateAll();
+    }
+
+    @Test
+    void shouldImportNewlineAndCsvListOnce() throws Exception {
+        String list = """
+            word
+            Zorblax, Quuxword
+            zorblax
+            "fleemish"
+            # comment
+            spam
+            ***
+            """;
+        int rescansBefore = rescansOfZorblax();
+
+        BannedWordImportResponse result = importList(list);
+
+        assertEquals(6, result.getReceived());
+        assertEquals(4, result.getDistinct(), "Duplicates within the list should be removed");
+        assertEquals(3, result.getAdded());
+        assertEquals(1, result.getAlreadyBanned(), "Existing words should be skipped");
+        assertEquals(List.of("***"), result.getInvalid());
+
+        // One change event per import: a single rescan covering all added words
+        int rescans = rescansBefore;
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (rescans == rescansBefore && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            rescans = rescansOfZorblax();
+        }
+        Thread.sleep(200);
+        assertEquals(rescansBefore + 1, rescansOfZorblax());
+        assertEquals(List.of("fleemish", "quuxword", "zorblax"),
+                jdbcTemplate.queryForList(LATEST_RESCAN_WORDS_SQL, String.class),
+                "All added words should be rescanned together");
+        assertTrue(contentModerationService.currentMatcher().findMatches("what a Zorblax").contains("zorblax"));
+    }
+
+    @Test
+    void shouldRejectEmptyList() {
+        assertThrows(InvalidStateException.class, () -> importList("word\n\n# nothing here\n"));
+    }
+
+    @Test
+    void shouldExportAllWords() {
+        importList("zorblax\n");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long exported = bulkService.exportWords(out);
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(exported, lines.size());
+        assertEquals(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM banned_words", Long.class), exported);
+        assertTrue(lines.contains("zorblax"));
+    }
+
+    private int rescansOfZorblax() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM moderation_rescans WHERE 'zorblax' = ANY(words)", Integer.class);
+    }
+
+    private BannedWordImportResponse importList(String list) {
+        return bulkService.importWords(new ByteArrayInputStream(list.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,106 @@
+package com.abdelwahab.CampusCard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import com.abdelwahab.CampusCard.domain.moderation.service.BannedWordMatcher;
+import com.abdelwahab.CampusCard.domain.moderation.service.TextNormalizer;
+
+/**
+ * Measures banned word detection on a labeled corpus of obfuscated and innocent texts
+ * ({@code moderation/labeled-corpus.tsv}) and compares it with plain substring matching.
+ *
+ * <p>Throughput is measured by the JMH suite {@code ContentModerationBenchmark}
+ * ({@code findMatches} against the {@code substringMatches} baseline), see docs/DEVELOPMENT.md.
+ */
+public class BannedWordMatcherTest {
+
+    static final List<String> BANNED_WORDS = List.of(
+            "spam", "scam", "hell", "die", "kill", "idiot", "hate", "غبي", "حمار");
+
+    record Sample(boolean offensive, String text) {
+    }
+
+    @Test
+    void shouldDetectObfuscatedWordsWithHighPrecisionAndRecall() throws IOException {
+        BannedWordMatcher matcher = BannedWordMatcher.compile(BANNED_WORDS);
+        List<Sample> corpus = loadCorpus();
+
+        double[] normalized = score(corpus, text -> !matcher.findMatches(text).isEmpty());
+        double[] substring = score(corpus, text -> BANNED_WORDS.stream().anyMatch(text.toLowerCase()::contains));
+        assertTrue(normalized[0] >= 0.95, String.format(
+                "Precision too low: %.3f (substring matching: %.3f)", normalized[0], substring[0]));
+        assertTrue(normalized[1] >= 0.9, String.format(
+                "Recall too low: %.3f (substring matching: %.3f)", normalized[1], substring[1]));
+    }
+
+    @Test
+    void shouldRespectWordBoundaries() {
+        BannedWordMatcher matcher = BannedWordMatcher.compile(BANNED_WORDS);
+
+        assertEquals(List.of(), matcher.findMatches("hello, my studies are going well"));
+        assertEquals(List.of("hell"), matcher.findMatches("hello from hell"));
+        assertEquals(List.of("kill", "spam"), matcher.findMatches("k!ll the s p a m"));
+        assertEquals(List.of("حمار"), matcher.findMatches("والحِمَار"));
+    }
+
+    @Test
+    void shouldMatchStretchedAndSingleLetterFormsWithoutInflectionCollisions() {
+        BannedWordMatcher matcher = BannedWordMatcher.compile(BANNED_WORDS);
+
+        assertEquals(List.of(), matcher.findMatches("I held a workshop last week"));
+        assertEquals(List.of("hell"), matcher.findMatches("heeell no"));
+        assertEquals(List.of("hell"), matcher.findMatches("what the hel"));
+        assertEquals(List.of("kill"), matcher.findMatches("kiiiilll them"));
+        assertEquals(BANNED_WORDS.size(), matcher.size());
+    }
+
+    @Test
+    void shouldNormalizeCommonObfuscations() {
+        assertEquals("spam", TextNormalizer.normalize("ＳＰＡＭ"));
+        assertEquals("spam", TextNormalizer.normalize("s.p.a.m"));
+        assertEquals("spam", TextNormalizer.normalize("5p@@@m"));
+        assertEquals("hell", TextNormalizer.normalize("h3ll"));
+        assertEquals("room 101", TextNormalizer.normalize("Room 101!"));
+        assertEquals("غبي", TextNormalizer.normalize("غَبِيّ"));
+    }
+
+    static List<Sample> loadCorpus() throws IOException {
+        try (InputStream in = BannedWordMatcherTest.class.getResourceAsStream("/moderation/labeled-corpus.tsv")) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8).lines()
+                    .filter(line -> !line.isBlank() && !line.startsWith("#"))
+                    .map(line -> line.split("\t", 2))
+                    .map(parts -> new Sample("1".equals(parts[0]), parts[1]))
+                    .toList();
+        }
+    }
+
+    /**
+     * @return precision and recall of a detector over the corpus
+     */
+    private static double[] score(List<Sample> corpus, Predicate<String> detector) {
+        int truePositives = 0;
+        int falsePositives = 0;
+        int falseNegatives = 0;
+        for (Sample sample : corpus) {
+            boolean flagged = detector.test(sample.text());
+            if (flagged && sample.offensive()) {
+                truePositives++;
+            } else if (flagged) {
+                falsePositives++;
+            } else if (sample.offensive()) {
+                falseNegatives++;
+            }
+        }
+        double precision = truePositives + falsePositives == 0 ? 1.0 : (double) truePositives / (truePositives + falsePositives);
+        double recall = truePositives + falseNegatives == 0 ? 1.0 : (double) truePositives / (truePositives + falseNegatives);
+        return new double[] {precision, recall};
+    }
+}
@@ -0,0 +1,133 @@
+package com.abdelwahab.CampusCard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.abdelwahab.CampusCard.domain.common.cluster.CacheInvalidationHandler;
+import com.abdelwahab.CampusCard.domain.common.cluster.ClusterInvalidationService;
+
+/**
+ * Verifies that invalidation messages from other nodes reach the matching handler after commit,
+ * and that a node ignores its own messages.
+ */
+@Import({TestcontainersConfiguration.class, ClusterInvalidationTest.RecordingHandlerConfig.class})
+@SpringBootTest
+@ActiveProfiles("test")
+public class ClusterInvalidationTest {
+
+    private static final String CHANNEL = "campuscard_invalidation";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ClusterInvalidationService clusterInvalidationService;
+
+    @Autowired
+    private RecordingHandler recordingHandler;
+
+    @BeforeEach
+    void setup() throws Exception {
+        recordingHandler.invalidated.clear();
+        // The listener thread starts with the context; wait until it receives messages
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            notifyFromOtherNode("ready");
+            if ("ready".equals(recordingHandler.invalidated.poll(500, TimeUnit.MILLISECONDS))) {
+                break;
+            }
+        }
+        recordingHandler.invalidated.clear();
+    }
+
+    @Test
+    void shouldApplyInvalidationFromOtherNode() throws Exception {
+        notifyFromOtherNode("42");
+
+        assertEquals("42", recordingHandler.invalidated.poll(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void shouldFlushWholeCacheWhenKeyIsMissing() throws Exception {
+        jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", String.class, CHANNEL,
+                "{\"n\":\"other-node\",\"c\":\"test-cache\",\"k\":null}");
+
+        assertEquals(RecordingHandler.ALL, recordingHandler.invalidated.poll(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void shouldIgnoreOwnMessages() throws Exception {
+        clusterInvalidationService.publish("test-cache", "own");
+
+        assertNull(recordingHandler.invalidated.poll(1, TimeUnit.SECONDS),
+                "A node must not apply its own invalidations");
+    }
+
+    @Test
+    void shouldNotDeliverNotificationsFromRolledBackTransactions() throws Exception {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(status -> {
+            notifyFromOtherNode("rolled-back");
+            status.setRollbackOnly();
+        });
+        assertNull(recordingHandler.invalidated.poll(1, TimeUnit.SECONDS));
+
+        tx.executeWithoutResult(status -> notifyFromOtherNode("committed"));
+        String key = recordingHandler.invalidated.poll(5, TimeUnit.SECONDS);
+        assertNotNull(key, "Committed notification should be delivered");
+        assertEquals("committed", key);
+    }
+
+    private void notifyFromOtherNode(String key) {
+        jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", String.class, CHANNEL,
+                "{\"n\":\"other-node\",\"c\":\"test-cache\",\"k\":\"" + key + "\"}");
+    }
+
+    static class RecordingHandler implements CacheInvalidationHandler {
+        static final String ALL = "<all>";
+
+        final BlockingQueue<String> invalidated = new LinkedBlockingQueue<>();
+
+        @Override
+        public String getCacheName() {
+            return "test-cache";
+        }
+
+        @Override
+        public void invalidate(String key) {
+            invalidated.add(key);
+        }
+
+        @Override
+        public void invalidateAll() {
+            invalidated.add(ALL);
+        }
+    }
+
+    @TestConfiguration
+    static class RecordingHandlerConfig {
+        @Bean
+        RecordingHandler recordingHandler() {
+            return new RecordingHandler();
+        }
+    }
+}
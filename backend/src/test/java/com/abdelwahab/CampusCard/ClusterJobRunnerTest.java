@@ -0,0 +1,123 @@
+package com.abdelwahab.CampusCard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.abdelwahab.CampusCard.domain.common.scheduling.ClusterJob;
+import com.abdelwahab.CampusCard.domain.common.scheduling.ClusterJobRunner;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Verifies that cluster jobs only run while holding their advisory lock, that each scheduled
+ * occurrence runs once across nodes, and that runs are recorded.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+@ActiveProfiles("test")
+public class ClusterJobRunnerTest {
+
+    private static final String JOB = "verification-token-purge";
+
+    @Autowired
+    private ClusterJobRunner clusterJobRunner;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void shouldPurgeExpiredTokensAndRecordRun() {
+        jdbcTemplate.update("""
+            UPDATE users SET email_verification_token = 'expired-token',
+                             email_verification_sent_at = CURRENT_TIMESTAMP - INTERVAL '2 days'
+            WHERE email = 'test@eng.psu.edu.eg'
+            """);
+
+        assertTrue(clusterJobRunner.runNow(JOB));
+
+        assertNull(jdbcTemplate.queryForObject(
+                "SELECT email_verification_token FROM users WHERE email = 'test@eng.psu.edu.eg'", String.class));
+        String status = jdbcTemplate.queryForObject(
+                "SELECT status FROM job_runs WHERE job_name = ? ORDER BY started_at DESC, id DESC LIMIT 1",
+                String.class, JOB);
+        assertEquals("succeeded", status);
+    }
+
+    @Test
+    void shouldSkipRunWhileAnotherSessionHoldsTheLock() throws Exception {
+        Integer runsBefore = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM job_runs WHERE job_name = ?", Integer.class, JOB);
+
+        // Simulates another node: the lock belongs to a different database session
+        try (Connection otherNode = dataSource.getConnection(); Statement statement = otherNode.createStatement()) {
+            statement.execute("SELECT pg_advisory_lock(1128943426, hashtext('" + JOB + "'))");
+            try {
+                assertFalse(clusterJobRunner.runNow(JOB), "Job must not run while another node holds the lock");
+            } finally {
+                statement.execute("SELECT pg_advisory_unlock(1128943426, hashtext('" + JOB + "'))");
+            }
+        }
+
+        Integer runsAfter = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM job_runs WHERE job_name = ?", Integer.class, JOB);
+        assertEquals(runsBefore, runsAfter, "Skipped runs are not recorded");
+        assertTrue(clusterJobRunner.runNow(JOB), "Job should run once the lock is released");
+    }
+
+    @Test
+    void shouldRunEachOccurrenceOnceAcrossRunners() {
+        String name = "occurrence-test-" + UUID.randomUUID();
+        AtomicInteger runs = new AtomicInteger();
+        ClusterJob job = new ClusterJob() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public String getCron() {
+                return "0 0 * * * *";
+            }
+
+            @Override
+            public String run() {
+                return "Run " + runs.incrementAndGet();
+            }
+        };
+        // Two nodes; the first finishes and releases the lock before the second node's trigger fires
+        ClusterJobRunner nodeA = new ClusterJobRunner(List.of(job), dataSource, jdbcTemplate, new SimpleMeterRegistry());
+        ClusterJobRunner nodeB = new ClusterJobRunner(List.of(job), dataSource, jdbcTemplate, new SimpleMeterRegistry());
+        Instant occurrence = Instant.now().truncatedTo(ChronoUnit.HOURS);
+
+        assertTrue(nodeA.runOccurrence(name, occurrence));
+        assertFalse(nodeB.runOccurrence(name, occurrence), "Occurrence already ran on the other node");
+        assertEquals(1, runs.get());
+
+        assertTrue(nodeB.runOccurrence(name, occurrence.plus(1, ChronoUnit.HOURS)), "Next occurrence runs normally");
+        assertEquals(2, runs.get());
+        Integer recorded = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM job_runs WHERE job_name = ? AND status = 'succeeded'", Integer.class, name);
+        assertEquals(2, recorded);
+    }
+}
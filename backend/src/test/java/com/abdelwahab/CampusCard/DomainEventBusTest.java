@@ -0,0 +1,116 @@
+package com.abdelwahab.CampusCard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.abdelwahab.CampusCard.domain.common.event.BannedWordsChangedEvent;
+import com.abdelwahab.CampusCard.domain.common.event.DomainEvent;
+import com.abdelwahab.CampusCard.domain.common.event.DomainEventListener;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Verifies that domain events reach listeners after commit, off the publishing thread, with metrics.
+ */
+@Import({TestcontainersConfiguration.class, DomainEventBusTest.RecordingListenerConfig.class})
+@SpringBootTest
+@ActiveProfiles("test")
+public class DomainEventBusTest {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private RecordingListener recordingListener;
+
+    @BeforeEach
+    void setup() {
+        recordingListener.received.clear();
+    }
+
+    @Test
+    void shouldDeliverEventOnBusThreadAndRecordTimer() throws Exception {
+        eventPublisher.publishEvent(new BannedWordsChangedEvent(List.of(), 1));
+
+        Received received = recordingListener.received.poll(5, TimeUnit.SECONDS);
+        assertNotNull(received, "Listener should receive the event");
+        assertNotEquals(Thread.currentThread().getName(), received.threadName(),
+                "Listener should not run on the publishing thread");
+        assertTrue(received.threadName().startsWith("domain-event-"));
+
+        Timer timer = meterRegistry.find("campuscard.events.listener")
+                .tag("listener", "RecordingListener")
+                .tag("outcome", "success")
+                .timer();
+        assertNotNull(timer);
+        assertTrue(timer.count() >= 1);
+    }
+
+    @Test
+    void shouldNotDeliverEventsFromRolledBackTransactions() throws Exception {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new BannedWordsChangedEvent(List.of(), 1));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(null, recordingListener.received.poll(1, TimeUnit.SECONDS),
+                "Events from rolled back transactions must not be delivered");
+
+        tx.executeWithoutResult(status -> eventPublisher.publishEvent(new BannedWordsChangedEvent(List.of(), 2)));
+
+        Received received = recordingListener.received.poll(5, TimeUnit.SECONDS);
+        assertNotNull(received, "Committed event should be delivered");
+        assertEquals(2, ((BannedWordsChangedEvent) received.event()).removed());
+    }
+
+    record Received(DomainEvent event, String threadName) {
+    }
+
+    static class RecordingListener implements DomainEventListener {
+        final BlockingQueue<Received> received = new LinkedBlockingQueue<>();
+
+        @Override
+        public boolean supports(DomainEvent event) {
+            return event instanceof BannedWordsChangedEvent;
+        }
+
+        @Override
+        public void onEvent(DomainEvent event) {
+            received.add(new Received(event, Thread.currentThread().getName()));
+        }
+    }
+
+    @TestConfiguration
+    static class RecordingListenerConfig {
+        @Bean
+        RecordingListener recordingListener() {
+            return new RecordingListener();
+        }
+    }
+}
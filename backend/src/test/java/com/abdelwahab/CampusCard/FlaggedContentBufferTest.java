@@ -0,0 +1,89 @@
+package com.abdelwahab.CampusCard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.abdelwahab.CampusCard.domain.moderation.service.ContentModerationService;
+import com.abdelwahab.CampusCard.domain.moderation.service.FlaggedContentBuffer;
+
+/**
+ * Verifies that violations are written in batches and that repeated identical violations of a
+ * user collapse into one {@code flagged_content} row with an occurrence count.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = "app.moderation.flags.flush-interval-ms=3600000")
+@ActiveProfiles("test")
+public class FlaggedContentBufferTest {
+
+    private static final String MARKER = "buffer-test-marker";
+
+    @Autowired
+    private ContentModerationService contentModerationService;
+
+    @Autowired
+    private FlaggedContentBuffer flaggedContentBuffer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Integer userId;
+
+    @BeforeEach
+    void setup() {
+        userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = 'test@eng.psu.edu.eg'", Integer.class);
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("DELETE FROM flagged_content WHERE content LIKE ?", "%" + MARKER + "%");
+    }
+
+    @Test
+    void shouldAggregateRepeatedViolationsIntoOneRow() {
+        for (int i = 0; i < 5; i++) {
+            contentModerationService.logViolation(userId, "bio", "spam " + MARKER, List.of("spam"));
+        }
+        contentModerationService.logViolation(userId, "interests", "spam " + MARKER, List.of("spam"));
+        assertEquals(0, rows().size(), "Nothing is written before the flush");
+
+        flaggedContentBuffer.flush();
+        assertEquals(Map.of("bio", 5, "interests", 1), occurrencesByField());
+
+        // Later repeats within the window update the existing row
+        contentModerationService.logViolation(userId, "bio", "spam " + MARKER, List.of("spam"));
+        contentModerationService.logViolation(userId, "bio", "spam " + MARKER, List.of("spam"));
+        flaggedContentBuffer.flush();
+        assertEquals(Map.of("bio", 7, "interests", 1), occurrencesByField());
+    }
+
+    private List<Map<String, Object>> rows() {
+        return jdbcTemplate.queryForList(
+                "SELECT content, occurrences FROM flagged_content WHERE user_id = ? AND content LIKE ?",
+                userId, "%" + MARKER + "%");
+    }
+
+    private Map<String, Integer> occurrencesByField() {
+        List<Map<String, Object>> rows = rows();
+        return Map.of(
+                "bio", occurrences(rows, "[Field: bio]"),
+                "interests", occurrences(rows, "[Field: interests]"));
+    }
+
+    private static int occurrences(List<Map<String, Object>> rows, String prefix) {
+        List<Map<String, Object>> matching = rows.stream()
+                .filter(row -> row.get("content").toString().startsWith(prefix))
+                .toList();
+        assertEquals(1, matching.size(), "One row per distinct violation: " + prefix);
+        return (Integer) matching.get(0).get("occurrences");
+    }
+}
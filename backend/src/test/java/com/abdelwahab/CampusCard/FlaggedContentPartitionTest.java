@@ -0,0 +1,81 @@
+package com.abdelwahab.CampusCard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.abdelwahab.CampusCard.domain.moderation.service.FlaggedContentPartitionJob;
+
+/**
+ * Verifies monthly partitioning of flagged_content: the maintenance job creates partitions ahead,
+ * date-bounded queries skip old partitions, and expired partitions are dropped with their rows.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+@ActiveProfiles("test")
+public class FlaggedContentPartitionTest {
+
+    private static final String OLD_PARTITION = "flagged_content_p2000_01";
+
+    @Autowired
+    private FlaggedContentPartitionJob partitionJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + OLD_PARTITION);
+    }
+
+    @Test
+    void shouldCreateFuturePartitions() {
+        partitionJob.run();
+
+        YearMonth current = YearMonth.from(jdbcTemplate.queryForObject("SELECT CAST(LOCALTIMESTAMP AS DATE)", LocalDate.class));
+        List<String> partitions = partitions();
+        for (int i = 0; i <= 3; i++) {
+            String expected = String.format("flagged_content_p%d_%02d",
+                    current.plusMonths(i).getYear(), current.plusMonths(i).getMonthValue());
+            assertTrue(partitions.contains(expected), "Missing partition " + expected);
+        }
+        assertTrue(partitions.contains("flagged_content_default"));
+    }
+
+    @Test
+    void shouldPruneOldPartitionsAndDropExpiredOnes() {
+        jdbcTemplate.execute("CREATE TABLE " + OLD_PARTITION
+                + " PARTITION OF flagged_content FOR VALUES FROM ('2000-01-01') TO ('2000-02-01')");
+        Integer userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = 'test@eng.psu.edu.eg'", Integer.class);
+        jdbcTemplate.update("INSERT INTO flagged_content (user_id, content, flagged_at, last_flagged_at) "
+                + "VALUES (?, 'old flag', TIMESTAMP '2000-01-15 12:00:00', TIMESTAMP '2000-01-15 12:00:00')", userId);
+
+        String plan = String.join("\n", jdbcTemplate.queryForList(
+                "EXPLAIN SELECT * FROM flagged_content WHERE flagged_at >= DATE '2020-01-01'", String.class));
+        assertFalse(plan.contains(OLD_PARTITION), "Recent-date queries should not scan old partitions");
+
+        partitionJob.run();
+
+        assertFalse(partitions().contains(OLD_PARTITION), "Expired partition should be removed");
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM flagged_content WHERE content = 'old flag'", Integer.class));
+    }
+
+    private List<String> partitions() {
+        return jdbcTemplate.queryForList("""
+            SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = 'flagged_content'::regclass
+            """, String.class);
+    }
+}
@@ -0,0 +1,115 @@
+package com.abdelwahab.CampusCard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.abdelwahab.CampusCard.domain.common.exception.InvalidStateException;
+import com.abdelwahab.CampusCard.domain.moderation.dto.FlaggedContentResponse;
+import com.abdelwahab.CampusCard.domain.moderation.service.FlaggedContentReviewService;
+
+/**
+ * Verifies the flagged content review queue: keyset pages cover every open flag exactly once in
+ * order (including ties on flagged_at), and batch resolution closes only flags that are still open.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+@ActiveProfiles("test")
+public class FlaggedContentReviewTest {
+
+    private static final String TEST_EMAIL = "test@eng.psu.edu.eg";
+    private static final String ADMIN_EMAIL = "admin@eng.psu.edu.eg";
+    private static final String MARKER = "[review-queue-test]";
+
+    @Autowired
+    private FlaggedContentReviewService reviewService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Integer userId;
+    private Integer adminId;
+    private final List<Integer> flagIds = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Integer.class, TEST_EMAIL);
+        adminId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Integer.class, ADMIN_EMAIL);
+        // Far-future timestamps put these flags at the head of the queue; two share a timestamp
+        String[] flaggedAt = {
+            "2100-01-05 00:00:00", "2100-01-04 00:00:00", "2100-01-03 00:00:00",
+            "2100-01-03 00:00:00", "2100-01-02 00:00:00"
+        };
+        for (int i = 0; i < flaggedAt.length; i++) {
+            flagIds.add(jdbcTemplate.queryForObject("""
+                INSERT INTO flagged_content (user_id, content, flagged_at, last_flagged_at)
+                VALUES (?, ?, CAST(? AS TIMESTAMP), CAST(? AS TIMESTAMP))
+                RETURNING id
+                """, Integer.class, userId, MARKER + " " + i, flaggedAt[i], flaggedAt[i]));
+        }
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("DELETE FROM flagged_content WHERE content LIKE ?", MARKER + "%");
+        flagIds.clear();
+    }
+
+    @Test
+    void shouldPageThroughOpenFlagsExactlyOnce() {
+        List<Integer> seen = new ArrayList<>();
+        String cursor = null;
+        for (int page = 0; page < 3; page++) {
+            FlaggedContentReviewService.Page result = reviewService.getFlaggedContent("open", null, cursor, 2);
+            result.items().stream().map(FlaggedContentResponse::getId).forEach(seen::add);
+            cursor = result.nextCursor();
+        }
+
+        List<Integer> expected = List.of(flagIds.get(0), flagIds.get(1),
+                Math.max(flagIds.get(2), flagIds.get(3)), Math.min(flagIds.get(2), flagIds.get(3)),
+                flagIds.get(4));
+        assertEquals(expected, seen.subList(0, 5), "Pages should follow (flagged_at, id) descending without gaps");
+
+        FlaggedContentResponse first = reviewService.getFlaggedContent("open", null, null, 1).items().get(0);
+        assertEquals(TEST_EMAIL, first.getUserEmail(), "User fields should be joined into the listing");
+        assertEquals("open", first.getStatus());
+    }
+
+    @Test
+    void shouldResolveOnlyOpenFlags() {
+        List<Integer> updated = reviewService.resolve(flagIds.subList(0, 2), "dismissed", adminId);
+        assertEquals(2, updated.size());
+
+        List<Integer> again = reviewService.resolve(flagIds.subList(0, 3), "resolved", adminId);
+        assertEquals(List.of(flagIds.get(2)), again, "Already closed flags must not be updated again");
+
+        List<Integer> openIds = reviewService.getFlaggedContent("open", null, null, 10).items().stream()
+                .map(FlaggedContentResponse::getId).toList();
+        assertTrue(openIds.containsAll(flagIds.subList(3, 5)));
+        assertTrue(openIds.stream().noneMatch(flagIds.subList(0, 3)::contains));
+
+        FlaggedContentResponse dismissed = reviewService.getFlaggedContent("dismissed", null, null, 10).items().stream()
+                .filter(item -> item.getId().equals(flagIds.get(0)))
+                .findFirst().orElseThrow();
+        assertEquals(adminId, dismissed.getResolvedBy());
+    }
+
+    @Test
+    void shouldRejectInvalidRequests() {
+        assertThrows(InvalidStateException.class, () -> reviewService.getFlaggedContent("open", null, "not-a-cursor", 10));
+        assertThrows(InvalidStateException.class, () -> reviewService.getFlaggedContent("archived", null, null, 10));
+        assertThrows(InvalidStateException.class, () -> reviewService.resolve(flagIds, "open", adminId));
+        assertThrows(InvalidStateException.class, () -> reviewService.getFlaggedContent("open", null, null, 0));
+    }
+}
@@ -0,0 +1,58 @@
+package com.abdelwahab.CampusCard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.abdelwahab.CampusCard.domain.admin.service.AdminService;
+import com.abdelwahab.CampusCard.domain.moderation.service.ContentModerationService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Verifies that unchanged field text is not scanned again and that cached results are dropped
+ * when the banned word list changes.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+@ActiveProfiles("test")
+public class ModerationResultCacheTest {
+
+    @Autowired
+    private ContentModerationService contentModerationService;
+
+    @Autowired
+    private AdminService adminService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void shouldReuseResultsUntilBannedWordsChange() {
+        String word = "cachedword" + System.nanoTime() % 100_000;
+        String text = "A bio that mentions " + word + " once";
+
+        assertEquals(List.of(), contentModerationService.checkForBannedWords(text));
+        double hits = hits();
+        assertEquals(List.of(), contentModerationService.checkForBannedWords(text));
+        assertEquals(hits + 1, hits(), "Unchanged text should be served from the cache");
+
+        Integer wordId = adminService.addBannedWord(word).getId();
+        try {
+            assertEquals(List.of(word), contentModerationService.checkForBannedWords(text),
+                    "Adding a banned word must invalidate cached results");
+        } finally {
+            adminService.deleteBannedWord(wordId);
+        }
+        assertEquals(List.of(), contentModerationService.checkForBannedWords(text));
+    }
+
+    private double hits() {
+        return meterRegistry.get("campuscard.moderation.cache").tag("result", "hit").counter().count();
+    }
+}
@@ -0,0 +1,86 @@
+package com.abdelwahab.CampusCard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.abdelwahab.CampusCard.domain.moderation.service.FlaggedContentBuffer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Verifies that a user who keeps submitting banned content is answered with 429 and a
+ * {@code Retry-After} header before the profile update runs.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "app.moderation.throttle.max-violations=2",
+    "app.moderation.throttle.cooldown-seconds=60"
+})
+@ActiveProfiles("test")
+public class ModerationThrottleTest {
+
+    @LocalServerPort
+    Integer port;
+
+    @Autowired
+    private FlaggedContentBuffer flaggedContentBuffer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void shouldThrottleRepeatOffenderWith429() throws Exception {
+        String token = login();
+
+        for (int i = 0; i < 3; i++) {
+            HttpResponse<String> rejected = updateBio(token, "Buy spam now " + i + " throttle-test");
+            assertEquals(400, rejected.statusCode(), "Banned content should be rejected by moderation");
+        }
+
+        HttpResponse<String> throttled = updateBio(token, "A perfectly clean bio");
+        assertEquals(429, throttled.statusCode(), "Offender should be throttled even with clean content");
+        long retryAfter = Long.parseLong(throttled.headers().firstValue("Retry-After").orElseThrow());
+        assertTrue(retryAfter > 0 && retryAfter <= 60);
+
+        flaggedContentBuffer.flush();
+        jdbcTemplate.update("DELETE FROM flagged_content WHERE content LIKE '%throttle-test%'");
+    }
+
+    private HttpResponse<String> updateBio(String token, String bio) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create("http://localhost:" + port + "/api/profile"))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(Map.of("bio", bio))))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private String login() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create("http://localhost:" + port + "/api/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("""
+                    {"identifier": "test@eng.psu.edu.eg", "password": "password123"}
+                    """))
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode());
+        return objectMapper.readTree(response.body()).get("token").asText();
+    }
+}
@@ -0,0 +1,118 @@
+package com.abdelwahab.CampusCard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.abdelwahab.CampusCard.domain.admin.service.AdminService;
+import com.abdelwahab.CampusCard.domain.common.exception.InvalidStateException;
+import com.abdelwahab.CampusCard.domain.moderation.service.ContentModerationService;
+import com.abdelwahab.CampusCard.domain.profile.dto.UpdateProfileRequest;
+import com.abdelwahab.CampusCard.domain.profile.service.ProfileService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Verifies the two moderation tiers: exact banned words block the update synchronously, while
+ * misspelled words pass the fast tier and are flagged by the background tier after commit, noting
+ * repeated violations by their aggregated occurrences.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+@ActiveProfiles("test")
+public class ModerationTiersTest {
+
+    private static final String TEST_EMAIL = "test@eng.psu.edu.eg";
+    private static final String WORD = "scoundrel";
+
+    @Autowired
+    private ProfileService profileService;
+
+    @Autowired
+    private AdminService adminService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Integer userId;
+    private String originalStatus;
+    private Integer bannedWordId;
+
+    @BeforeEach
+    void setup() {
+        userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Integer.class, TEST_EMAIL);
+        originalStatus = jdbcTemplate.queryForObject("SELECT status FROM users WHERE id = ?", String.class, userId);
+        bannedWordId = adminService.addBannedWord(WORD).getId();
+    }
+
+    @AfterEach
+    void cleanup() {
+        adminService.deleteBannedWord(bannedWordId);
+        jdbcTemplate.update("UPDATE profiles SET bio = NULL WHERE user_id = ?", userId);
+        jdbcTemplate.update("UPDATE users SET status = ? WHERE id = ?", originalStatus, userId);
+        jdbcTemplate.update("DELETE FROM flagged_content WHERE user_id = ? AND content LIKE ?", userId, "%" + WORD + "%");
+    }
+
+    @Test
+    void shouldBlockExactBannedWordSynchronously() {
+        UpdateProfileRequest request = UpdateProfileRequest.builder().bio("What a " + WORD).build();
+
+        assertThrows(InvalidStateException.class, () -> profileService.updateProfile(userId, request));
+        assertNotNull(meterRegistry.find(ContentModerationService.CHECK_TIMER).tag("tier", "sync").timer());
+    }
+
+    @Test
+    void shouldFlagMisspelledBannedWordInBackground() throws Exception {
+        UpdateProfileRequest request = UpdateProfileRequest.builder().bio("What a scoundral").build();
+
+        profileService.updateProfile(userId, request);
+
+        List<String> flags = List.of();
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (flags.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            flags = jdbcTemplate.queryForList(
+                    "SELECT content FROM flagged_content WHERE user_id = ? AND content LIKE ?",
+                    String.class, userId, "%~" + WORD + "%");
+        }
+        assertEquals(1, flags.size(), "Deep tier should flag the misspelled word once");
+        assertTrue(flags.get(0).startsWith("[Field: bio] Deep moderation findings"));
+        assertNotNull(meterRegistry.find(ContentModerationService.CHECK_TIMER).tag("tier", "deep").timer());
+    }
+
+    @Test
+    void shouldCountAggregatedOccurrencesForRepeatedViolations() throws Exception {
+        // One open row aggregating three violations; the dismissed row was not a violation
+        jdbcTemplate.update("INSERT INTO flagged_content (user_id, content, occurrences) VALUES (?, ?, 3)",
+                userId, "Earlier " + WORD + " flag");
+        jdbcTemplate.update("INSERT INTO flagged_content (user_id, content, occurrences, status) VALUES (?, ?, 10, 'dismissed')",
+                userId, "Dismissed " + WORD + " flag");
+
+        profileService.updateProfile(userId, UpdateProfileRequest.builder().bio("What a scoundral").build());
+
+        List<String> flags = List.of();
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (flags.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            flags = jdbcTemplate.queryForList(
+                    "SELECT content FROM flagged_content WHERE user_id = ? AND content LIKE ?",
+                    String.class, userId, "%~" + WORD + "%");
+        }
+        assertEquals(1, flags.size());
+        assertTrue(flags.get(0).contains("repeated violations (3 in 7 days)"), flags.get(0));
+    }
+}
@@ -0,0 +1,94 @@
+package com.abdelwahab.CampusCard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.abdelwahab.CampusCard.domain.profile.dto.UpdateProfileRequest;
+import com.abdelwahab.CampusCard.domain.profile.service.ProfileService;
+
+/**
+ * Verifies change detection on profile updates: an unchanged form writes nothing, profile-only
+ * edits keep an approved user approved, and identity edits send the user back to review.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+@ActiveProfiles("test")
+public class ProfileChangeDetectionTest {
+
+    private static final String TEST_EMAIL = "test@eng.psu.edu.eg";
+
+    @Autowired
+    private ProfileService profileService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Integer userId;
+    private Map<String, Object> originalUser;
+    private Object originalBio;
+
+    @BeforeEach
+    void setup() {
+        userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Integer.class, TEST_EMAIL);
+        originalUser = jdbcTemplate.queryForMap(
+                "SELECT status, first_name FROM users WHERE id = ?", userId);
+        originalBio = jdbcTemplate.queryForObject("SELECT bio FROM profiles WHERE user_id = ?", String.class, userId);
+        jdbcTemplate.update("UPDATE users SET status = 'approved' WHERE id = ?", userId);
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("UPDATE users SET status = ?, first_name = ? WHERE id = ?",
+                originalUser.get("status"), originalUser.get("first_name"), userId);
+        jdbcTemplate.update("UPDATE profiles SET bio = ? WHERE user_id = ?", originalBio, userId);
+    }
+
+    @Test
+    void shouldSkipWritesWhenNothingChanged() {
+        profileService.updateProfile(userId, UpdateProfileRequest.builder().bio("Unchanged bio").build());
+        Map<String, Object> before = profileRow();
+        Object userVersion = jdbcTemplate.queryForObject("SELECT version FROM users WHERE id = ?", Object.class, userId);
+
+        UpdateProfileRequest resubmitted = UpdateProfileRequest.builder()
+                .firstName((String) originalUser.get("first_name"))
+                .bio("Unchanged bio")
+                .build();
+        profileService.updateProfile(userId, resubmitted);
+
+        assertEquals(before, profileRow(), "Unchanged profile must not be written");
+        assertEquals(userVersion, jdbcTemplate.queryForObject("SELECT version FROM users WHERE id = ?", Object.class, userId));
+        assertEquals("approved", status());
+    }
+
+    @Test
+    void shouldKeepApprovalWhenOnlyProfileFieldsChange() {
+        profileService.updateProfile(userId, UpdateProfileRequest.builder().bio("A new bio").build());
+
+        assertEquals("A new bio", profileRow().get("bio"));
+        assertEquals("approved", status(), "Bio edits must not require re-approval");
+    }
+
+    @Test
+    void shouldRequireReapprovalWhenIdentityChanges() {
+        profileService.updateProfile(userId, UpdateProfileRequest.builder().firstName("Renamed").build());
+
+        assertEquals("pending", status(), "Name changes must be reviewed again");
+    }
+
+    private Map<String, Object> profileRow() {
+        return jdbcTemplate.queryForMap("SELECT bio, version, updated_at FROM profiles WHERE user_id = ?", userId);
+    }
+
+    private String status() {
+        return jdbcTemplate.queryForObject("SELECT status FROM users WHERE id = ?", String.class, userId);
+    }
+}
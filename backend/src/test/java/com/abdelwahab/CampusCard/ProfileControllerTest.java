@@ -10,11 +10,14 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.abdelwahab.CampusCard.domain.academic.service.ReferenceDataService;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -26,6 +29,12 @@ public class ProfileControllerTest {
     @LocalServerPort
     Integer port;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ReferenceDataService referenceDataService;
+
     private String authToken;
     private HttpClient httpClient;
     private ObjectMapper objectMapper;
@@ -122,6 +131,47 @@ public class ProfileControllerTest {
         assertTrue(response.statusCode() == 404 || response.statusCode() == 403);
     }
 
+    @Test
+    void shouldGetProfilesInBatch() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/api/profile/batch?ids=1,99999,1"))
+                .header("Authorization", "Bearer " + authToken)
+                .GET()
+                .build();
+
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        JsonNode results = objectMapper.readTree(response.body()).get("results");
+        assertEquals(2, results.size(), "Duplicate IDs should be collapsed");
+
+        assertEquals(1, results.get(0).get("userId").asInt());
+        assertEquals("OK", results.get(0).get("outcome").asText());
+        assertEquals(1, results.get(0).get("profile").get("userId").asInt());
+
+        assertEquals(99999, results.get(1).get("userId").asInt());
+        assertEquals("NOT_FOUND", results.get(1).get("outcome").asText());
+        assertTrue(results.get(1).get("profile").isNull(), "Missing profile should not be returned");
+    }
+
+    @Test
+    void shouldFailToGetProfilesInBatchAboveLimit() throws Exception {
+        StringBuilder ids = new StringBuilder("1");
+        for (int i = 2; i <= 51; i++) {
+            ids.append(',').append(i);
+        }
+
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/api/profile/batch?ids=" + ids))
+                .header("Authorization", "Bearer " + authToken)
+                .GET()
+                .build();
+
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(400, response.statusCode(), "Batch size above the limit should be rejected");
+    }
+
     @Test
     void shouldUpdateCurrentUserProfile() throws Exception {
         String updateRequest = """
@@ -350,6 +400,63 @@ public class ProfileControllerTest {
         }
     }
 
+    @Test
+    void shouldGetPublicStudentsWithSparseFields() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/api/profile/public-students?fields=firstName,lastName,profilePhoto"))
+                .header("Authorization", "Bearer " + authToken)
+                .GET()
+                .build();
+
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode(), "Should successfully get sparse public students");
+        JsonNode json = objectMapper.readTree(response.body());
+        assertTrue(json.isArray(), "Response should be an array");
+
+        for (JsonNode profile : json) {
+            assertTrue(profile.has("id"), "id should always be included");
+            assertTrue(profile.has("userId"), "userId should always be included");
+            assertTrue(profile.has("firstName"), "Requested field firstName should be included");
+            assertTrue(profile.has("lastName"), "Requested field lastName should be included");
+            assertTrue(profile.has("profilePhoto"), "Requested field profilePhoto should be included");
+            assertEquals(5, profile.size(), "Only requested fields should be serialized");
+        }
+    }
+
+    @Test
+    void shouldGetPublicStudentsWithCardPreset() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/api/profile/public-students?fields=card"))
+                .header("Authorization", "Bearer " + authToken)
+                .GET()
+                .build();
+
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        JsonNode json = objectMapper.readTree(response.body());
+        for (JsonNode profile : json) {
+            assertTrue(profile.has("faculty"), "Card should include faculty");
+            assertTrue(profile.has("department"), "Card should include department");
+            assertTrue(!profile.has("bio"), "Card should not include bio");
+            assertTrue(!profile.has("nationalIdScan"), "Card should not include nationalIdScan");
+        }
+    }
+
+    @Test
+    void shouldFailToGetPublicStudentsWithUnknownField() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/api/profile/public-students?fields=firstName,password"))
+                .header("Authorization", "Bearer " + authToken)
+                .GET()
+                .build();
+
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(400, response.statusCode(), "Unknown fields should be rejected");
+    }
+
     @Test
     void shouldUpdateVisibilityToPrivate() throws Exception {
         String updateRequest = """
@@ -469,4 +576,129 @@ public class ProfileControllerTest {
 
         httpClient.send(restoreVisibilityRequest, HttpResponse.BodyHandlers.ofString());
     }
+
+    @Test
+    void shouldReturnNotModifiedForUnchangedProfile() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/api/profile/1"))
+                .header("Authorization", "Bearer " + authToken)
+                .GET()
+                .build();
+
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode());
+        String eTag = response.headers().firstValue("ETag").orElse(null);
+        assertNotNull(eTag, "Profile response should carry an ETag");
+
+        HttpRequest conditionalRequest = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/api/profile/1"))
+                .header("Authorization", "Bearer " + authToken)
+                .header("If-None-Match", eTag)
+                .GET()
+                .build();
+
+        HttpResponse<String> conditionalResponse = httpClient.send(conditionalRequest, HttpResponse.BodyHandlers.ofString());
+        assertEquals(304, conditionalResponse.statusCode(), "Unchanged profile should return 304");
+        assertTrue(conditionalResponse.body().isEmpty(), "304 response should have no body");
+    }
+
+    @Test
+    void shouldReturnNotModifiedForUnchangedPublicStudents() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/api/profile/public-students"))
+                .header("Authorization", "Bearer " + authToken)
+                .GET()
+                .build();
+
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode());
+        String eTag = response.headers().firstValue("ETag").orElse(null);
+        assertNotNull(eTag, "Directory response should carry an ETag");
+
+        HttpRequest conditionalRequest = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/api/profile/public-students"))
+                .header("Authorization", "Bearer " + authToken)
+                .header("If-None-Match", eTag)
+                .GET()
+                .build();
+
+        HttpResponse<String> conditionalResponse = httpClient.send(conditionalRequest, HttpResponse.BodyHandlers.ofString());
+        assertEquals(304, conditionalResponse.statusCode(), "Unchanged directory should return 304");
+    }
+
+    @Test
+    void shouldChangePublicStudentsETagAfterDepartmentRename() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/api/profile/public-students"))
+                .header("Authorization", "Bearer " + authToken)
+                .GET()
+                .build();
+        String eTag = httpClient.send(request, HttpResponse.BodyHandlers.ofString())
+                .headers().firstValue("ETag").orElseThrow();
+
+        Integer departmentId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM departments", Integer.class);
+        String name = jdbcTemplate.queryForObject("SELECT name FROM departments WHERE id = ?", String.class, departmentId);
+        try {
+            jdbcTemplate.update("UPDATE departments SET name = ? WHERE id = ?", name + " (renamed)", departmentId);
+            referenceDataService.reload();
+
+            HttpRequest conditionalRequest = HttpRequest.newBuilder()
+                    .uri(URI.create(baseUrl + "/api/profile/public-students"))
+                    .header("Authorization", "Bearer " + authToken)
+                    .header("If-None-Match", eTag)
+                    .GET()
+                    .build();
+            HttpResponse<String> conditionalResponse = httpClient.send(conditionalRequest, HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, conditionalResponse.statusCode(), "Renamed department should invalidate the directory ETag");
+        } finally {
+            jdbcTemplate.update("UPDATE departments SET name = ? WHERE id = ?", name, departmentId);
+            referenceDataService.reload();
+        }
+    }
+
+    @Test
+    void shouldChangeProfileETagAfterUpdate() throws Exception {
+        HttpRequest getRequest = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/api/profile"))
+                .header("Authorization", "Bearer " + authToken)
+                .GET()
+                .build();
+        JsonNode currentProfile = objectMapper.readTree(
+                httpClient.send(getRequest, HttpResponse.BodyHandlers.ofString()).body());
+        int currentUserId = currentProfile.get("userId").asInt();
+
+        HttpRequest viewRequest = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/api/profile/" + currentUserId))
+                .header("Authorization", "Bearer " + authToken)
+                .GET()
+                .build();
+        HttpResponse<String> viewResponse = httpClient.send(viewRequest, HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, viewResponse.statusCode());
+        String eTag = viewResponse.headers().firstValue("ETag").orElseThrow();
+
+        String updateRequest = """
+            {
+                "bio": "ETag test bio %d"
+            }
+            """.formatted(System.nanoTime());
+
+        HttpRequest putRequest = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/api/profile"))
+                .header("Authorization", "Bearer " + authToken)
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(updateRequest))
+                .build();
+        assertEquals(200, httpClient.send(putRequest, HttpResponse.BodyHandlers.ofString()).statusCode());
+
+        HttpRequest conditionalRequest = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/api/profile/" + currentUserId))
+                .header("Authorization", "Bearer " + authToken)
+                .header("If-None-Match", eTag)
+                .GET()
+                .build();
+        HttpResponse<String> conditionalResponse = httpClient.send(conditionalRequest, HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, conditionalResponse.statusCode(), "Updated profile should not match the old ETag");
+        assertTrue(!eTag.equals(conditionalResponse.headers().firstValue("ETag").orElse(null)),
+                "ETag should change after the profile is updated");
+    }
 }
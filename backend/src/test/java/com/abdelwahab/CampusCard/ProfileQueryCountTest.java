@@ -0,0 +1,80 @@
+package com.abdelwahab.CampusCard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.abdelwahab.CampusCard.domain.profile.dto.ProfileResponse;
+import com.abdelwahab.CampusCard.domain.profile.service.ProfileService;
+import com.abdelwahab.CampusCard.domain.user.model.User;
+import com.abdelwahab.CampusCard.domain.user.repository.UserRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Asserts the number of SQL statements executed per profile view.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+@ActiveProfiles("test")
+public class ProfileQueryCountTest {
+
+    @Autowired
+    private ProfileService profileService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Integer testUserId;
+
+    @BeforeEach
+    void setup() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        User testUser = userRepository.findByEmail("test@eng.psu.edu.eg");
+        testUserId = testUser.getId();
+    }
+
+    @Test
+    void shouldViewAnotherUsersProfileWithSingleStatement() {
+        statistics.clear();
+
+        ProfileResponse profile = profileService.getUserProfile(testUserId, null, "ADMIN");
+
+        assertEquals(testUserId, profile.getUserId());
+        assertEquals(1, statistics.getPrepareStatementCount(),
+                "Profile view should load profile, user, faculty and department in one statement");
+    }
+
+    @Test
+    void shouldViewOwnProfileWithSingleStatement() {
+        statistics.clear();
+
+        ProfileResponse profile = profileService.getCurrentUserProfile(testUserId);
+
+        assertEquals(testUserId, profile.getUserId());
+        assertEquals(1, statistics.getPrepareStatementCount(),
+                "Own profile view should load everything in one statement");
+    }
+
+    @Test
+    void shouldComputeProfileValidatorWithSingleStatement() {
+        statistics.clear();
+
+        profileService.getProfileValidator(testUserId, testUserId, "STUDENT");
+
+        assertEquals(1, statistics.getPrepareStatementCount(),
+                "Conditional profile check should need a single metadata statement");
+    }
+}
@@ -0,0 +1,124 @@
+package com.abdelwahab.CampusCard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.abdelwahab.CampusCard.domain.admin.service.AdminService;
+import com.abdelwahab.CampusCard.domain.moderation.dto.BannedWordResponse;
+import com.abdelwahab.CampusCard.domain.moderation.dto.ModerationRescanResponse;
+import com.abdelwahab.CampusCard.domain.moderation.service.ProfileRescanJobHandler;
+import com.abdelwahab.CampusCard.domain.moderation.service.ProfileRescanService;
+
+/**
+ * Verifies that adding a banned word rescans existing profiles in the background and flags
+ * matching content, in chunks smaller than the number of profiles, and that duplicate deliveries
+ * of a rescan job never flag a profile twice.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = {
+    "app.queue.poll-interval-ms=50",
+    "app.moderation.rescan.chunk-size=1"
+})
+@ActiveProfiles("test")
+public class ProfileRescanTest {
+
+    private static final String TEST_EMAIL = "test@eng.psu.edu.eg";
+
+    @Autowired
+    private AdminService adminService;
+
+    @Autowired
+    private ProfileRescanService profileRescanService;
+
+    @Autowired
+    private ProfileRescanJobHandler profileRescanJobHandler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Integer bannedWordId;
+
+    @AfterEach
+    void cleanup() {
+        if (bannedWordId != null) {
+            adminService.deleteBannedWord(bannedWordId);
+        }
+        jdbcTemplate.update("""
+            UPDATE profiles SET bio = NULL
+            WHERE user_id = (SELECT id FROM users WHERE email = ?)
+            """, TEST_EMAIL);
+    }
+
+    @Test
+    void shouldFlagExistingProfilesContainingNewBannedWord() throws Exception {
+        String word = "rescanword" + System.currentTimeMillis();
+        jdbcTemplate.update("""
+            UPDATE profiles SET bio = ?
+            WHERE user_id = (SELECT id FROM users WHERE email = ?)
+            """, "My bio mentions " + word.toUpperCase() + " somewhere", TEST_EMAIL);
+
+        BannedWordResponse added = adminService.addBannedWord(word);
+        bannedWordId = added.getId();
+
+        ModerationRescanResponse rescan = awaitCompletedRescan(word);
+        assertNotNull(rescan, "Rescan should complete");
+        assertEquals(rescan.getTotalProfiles(), rescan.getScannedProfiles(), "Every profile should be scanned");
+        assertEquals(1, rescan.getFlaggedProfiles());
+
+        List<String> flags = jdbcTemplate.queryForList("""
+            SELECT f.content FROM flagged_content f JOIN users u ON u.id = f.user_id
+            WHERE u.email = ? AND f.content LIKE ?
+            """, String.class, TEST_EMAIL, "%" + word + "%");
+        assertEquals(1, flags.size(), "Matching bio should be flagged once");
+        assertTrue(flags.get(0).startsWith("[Field: bio]"));
+    }
+
+    @Test
+    void shouldFlagOnceWhenRescanJobRunsConcurrently() throws Exception {
+        String word = "duprescan" + System.currentTimeMillis();
+        jdbcTemplate.update("""
+            UPDATE profiles SET bio = ?
+            WHERE user_id = (SELECT id FROM users WHERE email = ?)
+            """, "Bio with " + word + " in it", TEST_EMAIL);
+
+        // The queue worker runs the job once; two more deliveries race it from the same cursor
+        long rescanId = profileRescanService.scheduleRescan(List.of(word));
+        ProfileRescanJobHandler.RescanJob job = new ProfileRescanJobHandler.RescanJob(rescanId);
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> profileRescanJobHandler.handle(job));
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() -> profileRescanJobHandler.handle(job));
+        CompletableFuture.allOf(first, second).get(15, TimeUnit.SECONDS);
+
+        ModerationRescanResponse rescan = awaitCompletedRescan(word);
+        assertNotNull(rescan, "Rescan should complete");
+        assertEquals(rescan.getTotalProfiles(), rescan.getScannedProfiles(), "Every profile should be counted once");
+        assertEquals(1, rescan.getFlaggedProfiles());
+        Integer flags = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM flagged_content WHERE content LIKE ?", Integer.class, "%" + word + "%");
+        assertEquals(1, flags, "Profile should be flagged once");
+    }
+
+    private ModerationRescanResponse awaitCompletedRescan(String word) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 15_000;
+        while (System.currentTimeMillis() < deadline) {
+            for (ModerationRescanResponse rescan : profileRescanService.getRecentRescans(20)) {
+                if (rescan.getWords().contains(word) && "completed".equals(rescan.getStatus())) {
+                    return rescan;
+                }
+            }
+            Thread.sleep(100);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,86 @@
+package com.abdelwahab.CampusCard;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.notNullValue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+
+import io.restassured.RestAssured;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class PublicControllerTest {
+
+    @LocalServerPort
+    Integer port;
+
+    @BeforeEach
+    void setup() {
+        RestAssured.baseURI = "http://localhost:" + port;
+        RestAssured.port = port;
+    }
+
+    @Test
+    void testGetFaculties_ReturnsCacheableJson() {
+        RestAssured.given()
+        .when()
+            .get("/api/public/faculties")
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .contentType(containsString("application/json"))
+            .header("ETag", notNullValue())
+            .header("Cache-Control", containsString("max-age"))
+            .header("Cache-Control", containsString("public"))
+            .body("size()", greaterThan(0))
+            .body("[0].id", notNullValue())
+            .body("[0].name", notNullValue())
+            .body("[0].yearsNumbers", notNullValue());
+    }
+
+    @Test
+    void testGetFaculties_WithMatchingETag_ReturnsNotModified() {
+        String eTag = RestAssured.given()
+        .when()
+            .get("/api/public/faculties")
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .extract().header("ETag");
+
+        RestAssured.given()
+            .header("If-None-Match", eTag)
+        .when()
+            .get("/api/public/faculties")
+        .then()
+            .statusCode(HttpStatus.NOT_MODIFIED.value());
+    }
+
+    @Test
+    void testGetDepartments_FilteredByFaculty() {
+        RestAssured.given()
+            .queryParam("facultyId", 1)
+        .when()
+            .get("/api/public/departments")
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("size()", greaterThan(0))
+            .body("facultyId", everyItem(equalTo(1)));
+    }
+
+    @Test
+    void testGetDepartments_UnknownFaculty_ReturnsEmptyList() {
+        RestAssured.given()
+            .queryParam("facultyId", 99999)
+        .when()
+            .get("/api/public/departments")
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("size()", equalTo(0));
+    }
+}
@@ -0,0 +1,206 @@
+package com.abdelwahab.CampusCard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.abdelwahab.CampusCard.domain.academic.model.Department;
+import com.abdelwahab.CampusCard.domain.academic.model.Faculty;
+import com.abdelwahab.CampusCard.domain.academic.repository.DepartmentRepository;
+import com.abdelwahab.CampusCard.domain.academic.repository.FacultyRepository;
+import com.abdelwahab.CampusCard.domain.user.model.User;
+import com.abdelwahab.benchmark.IdentityUser;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Compares insert throughput for 10k users persisted through Hibernate: with
+ * {@code GenerationType.IDENTITY} (the previous mapping, one INSERT ... RETURNING round trip per
+ * row and no batching) against the current pooled-lo sequence mapping with JDBC batching.
+ *
+ * <p>Only runs when requested: {@code mvn test -Dtest=UserInsertBenchmarkTest -Dbenchmark=true}
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class UserInsertBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(UserInsertBenchmarkTest.class);
+
+    private static final int ROWS = 10_000;
+    private static final int BATCH_SIZE = 50;
+    // BCrypt hash of a dummy password; hashing is not part of what is measured
+    private static final String PASSWORD_HASH = "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BrR1Xk4yYCzBm9n0PZ3Nq0Q4w8uW";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private FacultyRepository facultyRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private EntityManagerFactory identityEntityManagerFactory;
+
+    /**
+     * A separate persistence unit holding only {@link IdentityUser}, so the IDENTITY mapping of
+     * the users table is never part of the application's own persistence unit.
+     */
+    @BeforeEach
+    void createIdentityPersistenceUnit() {
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setManagedTypes(PersistenceManagedTypes.of(IdentityUser.class.getName()));
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setPersistenceUnitName("identity-benchmark");
+        factory.afterPropertiesSet();
+        identityEntityManagerFactory = factory.getObject();
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE 'bench-%'");
+    }
+
+    @AfterEach
+    void closeIdentityPersistenceUnit() {
+        identityEntityManagerFactory.close();
+    }
+
+    @Test
+    void compareIdentityInsertsWithBatchedSequenceInserts() {
+        // Warm up connection pool, JIT and statement caches
+        insertIdentity("warm", 500);
+        insertBatched("warmb", 500);
+        cleanup();
+
+        long start = System.nanoTime();
+        insertIdentity("ident", ROWS);
+        double identity = rowsPerSecond(System.nanoTime() - start);
+
+        start = System.nanoTime();
+        insertBatched("batch", ROWS);
+        double batched = rowsPerSecond(System.nanoTime() - start);
+
+        log.info("Inserted {} users: IDENTITY {} rows/s, batched pooled-lo {} rows/s ({}x)",
+                ROWS, Math.round(identity), Math.round(batched), String.format("%.1f", batched / identity));
+
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE email LIKE 'bench-%'", Integer.class);
+        assertEquals(2 * ROWS, count);
+        assertTrue(batched > identity, "Batched sequence inserts should outperform IDENTITY inserts");
+    }
+
+    /**
+     * Hibernate persist with IDENTITY ids: every persist executes its INSERT immediately to read
+     * the generated key, so nothing can be batched.
+     */
+    private void insertIdentity(String prefix, int rows) {
+        EntityManager identityEntityManager = identityEntityManagerFactory.createEntityManager();
+        try {
+            identityEntityManager.getTransaction().begin();
+            for (int i = 0; i < rows; i++) {
+                IdentityUser user = new IdentityUser();
+                user.email = email(prefix, i);
+                user.password = PASSWORD_HASH;
+                user.firstName = "Bench";
+                user.lastName = "User";
+                user.birthDate = LocalDate.of(2000, 1, 1);
+                user.nationalId = nationalId(prefix, i);
+                user.nationalIdScan = "bench";
+                user.year = 1;
+                user.facultyId = 1;
+                user.departmentId = 1;
+                identityEntityManager.persist(user);
+
+                if ((i + 1) % BATCH_SIZE == 0 || i == rows - 1) {
+                    identityEntityManager.flush();
+                    identityEntityManager.clear();
+                }
+            }
+            identityEntityManager.getTransaction().commit();
+        } finally {
+            identityEntityManager.close();
+        }
+    }
+
+    /**
+     * Hibernate persist with pooled-lo ids and JDBC batching, flushing every batch.
+     */
+    private void insertBatched(String prefix, int rows) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(tx -> {
+            Faculty faculty = facultyRepository.getReferenceById(1);
+            Department department = departmentRepository.getReferenceById(1);
+            List<User> pending = new ArrayList<>(BATCH_SIZE);
+
+            for (int i = 0; i < rows; i++) {
+                pending.add(User.builder()
+                        .email(email(prefix, i))
+                        .password(PASSWORD_HASH)
+                        .firstName("Bench")
+                        .lastName("User")
+                        .birthDate(LocalDate.of(2000, 1, 1))
+                        .nationalId(nationalId(prefix, i))
+                        .nationalIdScan("bench")
+                        .year(1)
+                        .faculty(faculty)
+                        .department(department)
+                        .build());
+
+                if (pending.size() == BATCH_SIZE || i == rows - 1) {
+                    pending.forEach(entityManager::persist);
+                    entityManager.flush();
+                    entityManager.clear();
+                    faculty = facultyRepository.getReferenceById(1);
+                    department = departmentRepository.getReferenceById(1);
+                    pending.clear();
+                }
+            }
+        });
+    }
+
+    private static String email(String prefix, int index) {
+        return "bench-" + prefix + "-" + index + "@eng.psu.edu.eg";
+    }
+
+    private static String nationalId(String prefix, int index) {
+        return String.format("%s%09d", prefix, index);
+    }
+
+    private static double rowsPerSecond(long nanos) {
+        return ROWS / (nanos / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,244 @@
+package com.abdelwahab.CampusCard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.abdelwahab.CampusCard.domain.common.queue.JobHandler;
+import com.abdelwahab.CampusCard.domain.common.queue.WorkQueue;
+import com.abdelwahab.CampusCard.domain.common.queue.WorkQueueMaintenanceJob;
+
+/**
+ * Verifies that queued jobs are processed by workers, retried and dead-lettered, that jobs
+ * enqueued in rolled back transactions never run, and that leases stay with the running worker.
+ */
+@Import({TestcontainersConfiguration.class, WorkQueueTest.TestHandlersConfig.class})
+@SpringBootTest(properties = {
+    "app.queue.poll-interval-ms=50",
+    "app.queue.retry-base-ms=10",
+    "app.queue.max-attempts=3",
+    "app.queue.lease-timeout-ms=1000",
+    "app.queue.heartbeat-ms=100"
+})
+@ActiveProfiles("test")
+public class WorkQueueTest {
+
+    @Autowired
+    private WorkQueue workQueue;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EchoHandler echoHandler;
+
+    @Autowired
+    private BlockingHandler blockingHandler;
+
+    @Autowired
+    private WorkQueueMaintenanceJob maintenanceJob;
+
+    @Test
+    void shouldProcessJobOnWorkerThreadAndDeleteIt() throws Exception {
+        long jobId = workQueue.enqueue("test-echo", new EchoPayload("hello"));
+
+        Handled handled = echoHandler.handled.poll(5, TimeUnit.SECONDS);
+        assertNotNull(handled, "Worker should process the job");
+        assertEquals("hello", handled.text());
+        assertTrue(handled.threadName().startsWith("work-queue-"));
+
+        awaitRowCount(jobId, 0);
+    }
+
+    @Test
+    void shouldRetryAndThenDeadLetterFailingJob() throws Exception {
+        long jobId = workQueue.enqueue("test-failing", new EchoPayload("boom"));
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        Map<String, Object> row = null;
+        while (System.currentTimeMillis() < deadline) {
+            row = jdbcTemplate.queryForMap("SELECT status, attempts, last_error FROM jobs WHERE id = ?", jobId);
+            if ("dead".equals(row.get("status"))) {
+                break;
+            }
+            Thread.sleep(50);
+        }
+        assertEquals("dead", row.get("status"), "Job should be dead-lettered after its last attempt");
+        assertEquals(3, row.get("attempts"));
+        assertTrue(String.valueOf(row.get("last_error")).contains("always fails"));
+    }
+
+    @Test
+    void shouldNotRunJobsFromRolledBackTransactions() throws Exception {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(status -> {
+            workQueue.enqueue("test-echo", new EchoPayload("rolled-back"));
+            status.setRollbackOnly();
+        });
+
+        assertNull(echoHandler.handled.poll(500, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void shouldRenewLeaseWhileLongJobRuns() throws Exception {
+        long jobId = workQueue.enqueue("test-blocking", new EchoPayload("long"));
+        assertEquals("long", blockingHandler.started.poll(5, TimeUnit.SECONDS));
+
+        // Well past the lease timeout: the heartbeat must have kept the lease fresh
+        Thread.sleep(2_000);
+        maintenanceJob.run();
+        Map<String, Object> row = jdbcTemplate.queryForMap("SELECT status, attempts FROM jobs WHERE id = ?", jobId);
+        assertEquals("running", row.get("status"), "Running job must not be requeued");
+        assertEquals(1, row.get("attempts"));
+
+        blockingHandler.release("long");
+        awaitRowCount(jobId, 0);
+        assertNull(blockingHandler.started.poll(500, TimeUnit.MILLISECONDS), "Job should run once");
+    }
+
+    @Test
+    void shouldNotCompleteJobWhoseLeaseWasTakenOver() throws Exception {
+        long jobId = workQueue.enqueue("test-blocking", new EchoPayload("stale"));
+        assertEquals("stale", blockingHandler.started.poll(5, TimeUnit.SECONDS));
+
+        // Another node claimed the job after the lease expired
+        jdbcTemplate.update("UPDATE jobs SET locked_by = 'other-node', attempts = attempts + 1 WHERE id = ?", jobId);
+        blockingHandler.release("stale");
+        Thread.sleep(500);
+
+        Map<String, Object> row = jdbcTemplate.queryForMap("SELECT status, locked_by FROM jobs WHERE id = ?", jobId);
+        assertEquals("running", row.get("status"), "Stale worker must not delete the job");
+        assertEquals("other-node", row.get("locked_by"));
+        jdbcTemplate.update("DELETE FROM jobs WHERE id = ?", jobId);
+    }
+
+    private void awaitRowCount(long jobId, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        Integer count = null;
+        while (System.currentTimeMillis() < deadline) {
+            count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM jobs WHERE id = ?", Integer.class, jobId);
+            if (count == expected) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        assertEquals(expected, count);
+    }
+
+    record EchoPayload(String text) {
+    }
+
+    record Handled(String text, String threadName) {
+    }
+
+    static class EchoHandler implements JobHandler<EchoPayload> {
+        final BlockingQueue<Handled> handled = new LinkedBlockingQueue<>();
+
+        @Override
+        public String getType() {
+            return "test-echo";
+        }
+
+        @Override
+        public Class<EchoPayload> getPayloadType() {
+            return EchoPayload.class;
+        }
+
+        @Override
+        public void handle(EchoPayload payload) {
+            handled.add(new Handled(payload.text(), Thread.currentThread().getName()));
+        }
+    }
+
+    /**
+     * Blocks each job until the test releases it.
+     */
+    static class BlockingHandler implements JobHandler<EchoPayload> {
+        final BlockingQueue<String> started = new LinkedBlockingQueue<>();
+        private final Map<String, CountDownLatch> releases = new ConcurrentHashMap<>();
+
+        @Override
+        public String getType() {
+            return "test-blocking";
+        }
+
+        @Override
+        public Class<EchoPayload> getPayloadType() {
+            return EchoPayload.class;
+        }
+
+        @Override
+        public void handle(EchoPayload payload) {
+            started.add(payload.text());
+            try {
+                latch(payload.text()).await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        void release(String text) {
+            latch(text).countDown();
+        }
+
+        private CountDownLatch latch(String text) {
+            return releases.computeIfAbsent(text, key -> new CountDownLatch(1));
+        }
+    }
+
+    static class FailingHandler implements JobHandler<EchoPayload> {
+        @Override
+        public String getType() {
+            return "test-failing";
+        }
+
+        @Override
+        public Class<EchoPayload> getPayloadType() {
+            return EchoPayload.class;
+        }
+
+        @Override
+        public void handle(EchoPayload payload) {
+            throw new IllegalStateException("Handler always fails");
+        }
+    }
+
+    @TestConfiguration
+    static class TestHandlersConfig {
+        @Bean
+        EchoHandler echoHandler() {
+            return new EchoHandler();
+        }
+
+        @Bean
+        BlockingHandler blockingHandler() {
+            return new BlockingHandler();
+        }
+
+        @Bean
+        FailingHandler failingHandler() {
+            return new FailingHandler();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.abdelwahab.benchmark;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * The users table mapped with the previous IDENTITY id generation, for
+ * {@code UserInsertBenchmarkTest}.
+ *
+ * <p>Lives outside {@code com.abdelwahab.CampusCard} so the application's entity scan never
+ * registers it; the benchmark builds its own persistence unit containing only this class.
+ */
+@Entity(name = "IdentityUser")
+@Table(name = "users")
+public class IdentityUser {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    public Integer id;
+    public String email;
+    public String password;
+    @Column(name = "first_name")
+    public String firstName;
+    @Column(name = "last_name")
+    public String lastName;
+    @Column(name = "birth_date")
+    public LocalDate birthDate;
+    @Column(name = "national_id")
+    public String nationalId;
+    @Column(name = "national_id_scan")
+    public String nationalIdScan;
+    public Integer year;
+    @Column(name = "faculty_id")
+    public Integer facultyId;
+    @Column(name = "department_id")
+    public Integer departmentId;
+}